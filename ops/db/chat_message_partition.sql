@@ -0,0 +1,72 @@
+-- =====================================================================
+-- chat_message 월 단위 RANGE 파티셔닝 전환 (PostgreSQL 12+)
+-- ---------------------------------------------------------------------
+-- - 애플리케이션이 자동 적용하지 않는 운영 스크립트 (Flyway 미사용, ddl-auto(update)로는 파티션 테이블을 만들 수 없음)
+-- - 적용 시점: 파티셔닝을 도입하는 배포 전 점검 시간에 1회 (README "수동 DB 스크립트" 참고)
+--     psql -v ON_ERROR_STOP=1 -f ops/db/chat_message_partition.sql
+-- - 실행 중 chat_message에 ACCESS EXCLUSIVE 잠금을 잡고 전체 행을 복사하므로 채팅 쓰기/읽기가 멈춤
+--   (실행 전 백업, 소요 시간은 chat_message 행 수에 비례)
+-- - 적용하지 않은 환경은 일반 테이블로 계속 동작하며 파티션 관리만 생략 (기동 로그로 확인 가능)
+-- - 파티션 키(created_at)가 PK에 포함되어야 하므로 PK는 (id, created_at)
+--   (JPA 매핑은 id 단독 @Id 그대로 사용)
+-- - 이후 월별 파티션 생성 / 빈 과거 파티션 정리는 ChatMessagePartitionMaintainer가 담당
+-- =====================================================================
+BEGIN;
+
+LOCK TABLE chat_message IN ACCESS EXCLUSIVE MODE;
+
+ALTER TABLE chat_message RENAME TO chat_message_legacy;
+ALTER INDEX IF EXISTS idx_chat_room_id_created_at RENAME TO idx_chat_message_legacy_room_created_at;
+ALTER INDEX IF EXISTS idx_chat_room_id_id RENAME TO idx_chat_message_legacy_room_id;
+
+-- 파티션 테이블은 IDENTITY 컬럼을 지원하지 않으므로(PG16 이하) 시퀀스 기본값 사용
+CREATE SEQUENCE chat_message_partitioned_id_seq;
+SELECT setval('chat_message_partitioned_id_seq',
+              COALESCE((SELECT MAX(id) FROM chat_message_legacy), 0) + 1, false);
+
+CREATE TABLE chat_message (
+    id           BIGINT        NOT NULL DEFAULT nextval('chat_message_partitioned_id_seq'),
+    chat_room_id BIGINT        NOT NULL,
+    sender_type  VARCHAR(20)   NOT NULL,
+    sender_id    BIGINT        NOT NULL,
+    content      VARCHAR(2000) NOT NULL,
+    deleted      BOOLEAN       NOT NULL DEFAULT FALSE,
+    created_at   TIMESTAMP(6)  NOT NULL,
+    updated_at   TIMESTAMP(6)  NOT NULL,
+    deleted_at   TIMESTAMP(6),
+    CONSTRAINT pk_chat_message PRIMARY KEY (id, created_at),
+    -- ChatMessage 매핑의 FK 이름과 동일하게 두어 ddl-auto(update)가 중복 FK를 만들지 않도록 함
+    CONSTRAINT fk_chat_message_chat_room FOREIGN KEY (chat_room_id) REFERENCES chat_room (id)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE chat_message_partitioned_id_seq OWNED BY chat_message.id;
+
+CREATE INDEX idx_chat_room_id_created_at ON chat_message (chat_room_id, created_at);
+CREATE INDEX idx_chat_room_id_id ON chat_message (chat_room_id, id);
+
+-- 기존 데이터가 있는 달부터 3개월 뒤까지 월별 파티션 생성
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month',
+            COALESCE((SELECT MIN(created_at) FROM chat_message_legacy), now()))::date;
+    last_month  DATE := (date_trunc('month', now()) + INTERVAL '3 months')::date;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF chat_message FOR VALUES FROM (%L) TO (%L)',
+                       'chat_message_' || to_char(month_start, 'YYYYMM'),
+                       month_start,
+                       (month_start + INTERVAL '1 month')::date);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+-- 파티션 생성이 누락된 경우를 위한 안전망
+CREATE TABLE chat_message_default PARTITION OF chat_message DEFAULT;
+
+INSERT INTO chat_message (id, chat_room_id, sender_type, sender_id, content, deleted, created_at, updated_at, deleted_at)
+SELECT id, chat_room_id, sender_type, sender_id, content, deleted, created_at, updated_at, deleted_at
+FROM chat_message_legacy;
+
+DROP TABLE chat_message_legacy;
+
+COMMIT;
@@ -0,0 +1,14 @@
+-- =====================================================================
+-- 기관 이름 부분 검색용 pg_trgm GIN 인덱스 (PostgreSQL)
+-- ---------------------------------------------------------------------
+-- - lower(name) LIKE '%x%' (3글자 이상 검색어)를 인덱스로 처리
+-- - 애플리케이션이 자동 적용하지 않는 운영 스크립트 (Flyway 미사용, README "수동 DB 스크립트" 참고)
+-- - CREATE INDEX CONCURRENTLY는 트랜잭션 블록 안에서 실행할 수 없으므로 BEGIN/COMMIT 없이 1회 수동 적용
+--     psql -v ON_ERROR_STOP=1 -f ops/db/institution_name_trgm_index.sql
+-- - 테이블 쓰기를 막지 않고 생성, 실패 시 INVALID 인덱스가 남으므로 DROP INDEX CONCURRENTLY 후 재실행
+-- - 적용하지 않은 환경은 DB 이름 검색(목록 인덱스 준비 전, 커서 목록)이 순차 스캔으로 동작
+-- =====================================================================
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_institution_name_trgm
+    ON institution USING gin (lower(name) gin_trgm_ops);
@@ -0,0 +1,350 @@
+package com.caring.caringbackend.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.caring.caringbackend.api.internal.auth.dto.GenerateTokenDto;
+import com.caring.caringbackend.config.TestConfig;
+import com.caring.caringbackend.domain.chat.entity.ChatRoom;
+import com.caring.caringbackend.domain.chat.entity.SenderType;
+import com.caring.caringbackend.domain.chat.service.ChatService;
+import com.caring.caringbackend.domain.institution.counsel.entity.InstitutionCounsel;
+import com.caring.caringbackend.domain.institution.counsel.repository.InstitutionCounselRepository;
+import com.caring.caringbackend.domain.institution.profile.entity.Institution;
+import com.caring.caringbackend.domain.institution.profile.entity.InstitutionAdmin;
+import com.caring.caringbackend.domain.institution.profile.entity.InstitutionAdminRole;
+import com.caring.caringbackend.domain.institution.profile.repository.InstitutionAdminRepository;
+import com.caring.caringbackend.domain.institution.profile.repository.InstitutionRepository;
+import com.caring.caringbackend.domain.user.guardian.entity.Member;
+import com.caring.caringbackend.domain.user.guardian.entity.MemberRole;
+import com.caring.caringbackend.domain.user.guardian.repository.MemberRepository;
+import com.caring.caringbackend.global.security.JwtUtils;
+import com.caring.caringbackend.testsupport.TestDataFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * 채팅 롱 폴링 / 메시지 전송 부하 테스트
+ * <p>
+ * Testcontainers로 PostgreSQL / Redis를 띄우고 실제 HTTP 경로로 N개의 상담(회원 1 + 기관 관리자 1)을 동시에 진행합니다.
+ * 각 참여자는 /rooms/{id}/messages/poll 롱 폴링과 /rooms/{id}/messages 전송을 반복하며,
+ * 종료 후 요청 지연(p50/p95/p99), 메시지 전달 지연, 커넥션 풀 포화도, 전달 메시지당 쿼리 수를 로그로 남깁니다.
+ * <p>
+ * 실행: ./gradlew loadTest -Dloadtest.rooms=100 -Dloadtest.duration-seconds=60
+ * <ul>
+ *     <li>loadtest.rooms: 동시 상담 수 (기본 50)</li>
+ *     <li>loadtest.duration-seconds: 측정 시간 (기본 30)</li>
+ *     <li>loadtest.send-interval-millis: 참여자별 평균 전송 간격 (기본 1000)</li>
+ *     <li>loadtest.max-send-p99-millis / loadtest.max-delivery-p99-millis / loadtest.max-queries-per-message:
+ *     지정 시 초과하면 실패 (ChatService 변경 회귀 확인용)</li>
+ * </ul>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(TestConfig.class)
+class ChatLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatLoadTest.class);
+
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static final String CONTENT_PREFIX = "load:";
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(3);
+
+    private static final int ROOMS = Integer.getInteger("loadtest.rooms", 50);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 30);
+    private static final int SEND_INTERVAL_MILLIS = Integer.getInteger("loadtest.send-interval-millis", 1000);
+
+    static {
+        POSTGRES.start();
+        REDIS.start();
+    }
+
+    @DynamicPropertySource
+    static void registerProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create");
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", () -> REDIS.getMappedPort(6379));
+
+        registry.add("jwt.secret", () -> "load-test-secret-key-load-test-secret-key");
+        registry.add("jwt.access-token-validity", () -> "3600");
+        registry.add("jwt.refresh-token-validity", () -> "7200");
+
+        // 외부 연동 설정은 부하 테스트에서 사용하지 않으므로 더미 값
+        for (String provider : List.of("GOOGLE", "NAVER", "KAKAO")) {
+            for (String key : List.of("CLIENT_ID", "CLIENT_SECRET", "REDIRECT_URI", "USERINFO_URI", "TOKEN_URI")) {
+                registry.add(provider + "_" + key, () -> "load-test");
+            }
+        }
+        registry.add("KAKAO_API_KEY", () -> "load-test");
+
+        // 로깅 자체가 병목이 되지 않도록 축소
+        registry.add("logging.level.com.caring", () -> "INFO");
+        registry.add("logging.level.com.caring.caringbackend.global.aop", () -> "WARN");
+        registry.add("logging.level.org.springframework.web", () -> "INFO");
+        registry.add("decorator.datasource.p6spy.enable-logging", () -> "false");
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private InstitutionRepository institutionRepository;
+
+    @Autowired
+    private InstitutionAdminRepository institutionAdminRepository;
+
+    @Autowired
+    private InstitutionCounselRepository institutionCounselRepository;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final LatencyRecorder sendLatency = new LatencyRecorder("send", 1_000_000);
+    private final LatencyRecorder pollLatency = new LatencyRecorder("poll", 1_000_000);
+    private final LatencyRecorder deliveryLag = new LatencyRecorder("delivery lag", 1_000_000);
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+
+    @Test
+    @DisplayName("동시 상담 N건의 롱 폴링 / 메시지 전송 부하 측정")
+    void chatLongPollingAndSendThroughput() throws Exception {
+        List<Participant> participants = prepareConsultations();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DURATION_SECONDS);
+        ExecutorService pollers = Executors.newFixedThreadPool(participants.size());
+        ExecutorService senders = Executors.newFixedThreadPool(participants.size());
+
+        try (ConnectionPoolSampler poolSampler = new ConnectionPoolSampler(dataSource.unwrap(HikariDataSource.class))) {
+            poolSampler.start();
+
+            for (Participant participant : participants) {
+                pollers.submit(() -> pollLoop(participant));
+                senders.submit(() -> sendLoop(participant, deadline));
+            }
+
+            senders.shutdown();
+            senders.awaitTermination(DURATION_SECONDS + 60L, TimeUnit.SECONDS);
+
+            // 마지막 전송분이 전달될 시간을 준 뒤 대기 중인 폴링 중단
+            Thread.sleep(DRAIN_TIMEOUT.toMillis());
+            pollers.shutdownNow();
+            pollers.awaitTermination(10, TimeUnit.SECONDS);
+
+            long statements = statistics.getPrepareStatementCount();
+            double queriesPerMessage = delivered.sum() == 0 ? 0 : (double) statements / delivered.sum();
+
+            log.info("""
+
+                    === Chat load test: rooms={}, duration={}s, sendInterval={}ms ===
+                    {}
+                    {}
+                    {}
+                    messages sent={} delivered={} throughput={} msg/s
+                    {}
+                    jdbc statements={} queries/delivered message={}
+                    """,
+                    ROOMS, DURATION_SECONDS, SEND_INTERVAL_MILLIS,
+                    sendLatency.summary(), pollLatency.summary(), deliveryLag.summary(),
+                    sent.sum(), delivered.sum(), String.format("%.1f", (double) sent.sum() / DURATION_SECONDS),
+                    poolSampler.summary(),
+                    statements, String.format("%.2f", queriesPerMessage));
+
+            assertThat(sent.sum()).isPositive();
+            assertThat(delivered.sum()).isPositive();
+            assertMaxIfConfigured("loadtest.max-send-p99-millis", sendLatency.percentile(99) / 1000.0);
+            assertMaxIfConfigured("loadtest.max-delivery-p99-millis", deliveryLag.percentile(99) / 1000.0);
+            assertMaxIfConfigured("loadtest.max-queries-per-message", queriesPerMessage);
+        } finally {
+            senders.shutdownNow();
+            pollers.shutdownNow();
+        }
+    }
+
+    /**
+     * 기관 1곳에 회원 N명 / 기관 관리자 N명을 만들고 상담(채팅방) N건 시작
+     */
+    private List<Participant> prepareConsultations() {
+        Institution institution = institutionRepository.save(TestDataFactory.createInstitution());
+        InstitutionCounsel counsel = institutionCounselRepository.save(
+                TestDataFactory.createInstitutionCounsel(institution));
+
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 0; i < ROOMS; i++) {
+            Member member = memberRepository.save(TestDataFactory.createMember());
+            InstitutionAdmin admin = institutionAdminRepository.save(InstitutionAdmin.builder()
+                    .institution(institution)
+                    .name("부하테스트관리자" + i)
+                    .username("load-admin-" + i)
+                    .passwordHash("load-test")
+                    .phoneNumber("0109999" + String.format("%04d", i))
+                    .birthDate(LocalDate.of(1980, 1, 1))
+                    .role(InstitutionAdminRole.STAFF)
+                    .duplicationInformation("load-admin-dup-" + i)
+                    .build());
+
+            ChatRoom chatRoom = chatService.startChat(member.getId(), institution.getId(), counsel.getId());
+
+            participants.add(new Participant(chatRoom.getId(), SenderType.MEMBER,
+                    baseUrl() + "/api/v1/members/me/chat", token(member.getId(), MemberRole.USER.getKey())));
+            participants.add(new Participant(chatRoom.getId(), SenderType.INSTITUTION_ADMIN,
+                    baseUrl() + "/api/v1/institutions/me/chat", token(admin.getId(), InstitutionAdminRole.STAFF.getKey())));
+        }
+        return participants;
+    }
+
+    private String baseUrl() {
+        return "http://localhost:" + port;
+    }
+
+    private String token(Long id, String role) {
+        return jwtUtils.generateToken(GenerateTokenDto.builder().id(id).role(role).build()).getAccessToken();
+    }
+
+    /**
+     * 상대방 메시지를 롱 폴링으로 수신하며 전달 지연 측정
+     */
+    private void pollLoop(Participant participant) {
+        long lastMessageId = 0L;
+        while (!Thread.currentThread().isInterrupted()) {
+            long start = System.nanoTime();
+            try {
+                HttpResponse<String> response = httpClient.send(
+                        participant.request("/rooms/" + participant.chatRoomId()
+                                        + "/messages/poll?lastMessageId=" + lastMessageId)
+                                .timeout(Duration.ofSeconds(40))
+                                .GET()
+                                .build(),
+                        HttpResponse.BodyHandlers.ofString());
+                long received = System.nanoTime();
+
+                if (response.statusCode() != 200) {
+                    pollLatency.recordError();
+                    continue;
+                }
+                pollLatency.record(received - start);
+
+                for (JsonNode message : objectMapper.readTree(response.body()).path("data")) {
+                    lastMessageId = Math.max(lastMessageId, message.path("id").asLong());
+                    String content = message.path("content").asText();
+                    if (!participant.senderType().name().equals(message.path("senderType").asText())
+                            && content.startsWith(CONTENT_PREFIX)) {
+                        deliveryLag.record(received - Long.parseLong(content.substring(CONTENT_PREFIX.length())));
+                        delivered.increment();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                pollLatency.recordError();
+            }
+        }
+    }
+
+    /**
+     * 평균 SEND_INTERVAL_MILLIS 간격으로 메시지 전송 (전송 시각을 본문에 기록)
+     */
+    private void sendLoop(Participant participant, long deadline) {
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(ThreadLocalRandom.current().nextInt(SEND_INTERVAL_MILLIS / 2, SEND_INTERVAL_MILLIS * 3 / 2 + 1));
+
+                long start = System.nanoTime();
+                String body = objectMapper.writeValueAsString(Map.of("content", CONTENT_PREFIX + start));
+                HttpResponse<String> response = httpClient.send(
+                        participant.request("/rooms/" + participant.chatRoomId() + "/messages")
+                                .timeout(Duration.ofSeconds(10))
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString(body))
+                                .build(),
+                        HttpResponse.BodyHandlers.ofString());
+
+                if (response.statusCode() / 100 != 2) {
+                    sendLatency.recordError();
+                    continue;
+                }
+                sendLatency.record(System.nanoTime() - start);
+                sent.increment();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                sendLatency.recordError();
+            }
+        }
+    }
+
+    private void assertMaxIfConfigured(String property, double actual) {
+        String max = System.getProperty(property);
+        if (max != null) {
+            assertThat(actual).as(property).isLessThanOrEqualTo(Double.parseDouble(max));
+        }
+    }
+
+    private record Participant(Long chatRoomId, SenderType senderType, String baseUrl, String accessToken) {
+
+        HttpRequest.Builder request(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Authorization", "Bearer " + accessToken);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.caring.caringbackend.loadtest;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HikariCP 커넥션 풀 포화도 샘플러
+ * - 일정 주기로 활성 커넥션 수와 커넥션 대기 스레드 수를 기록
+ */
+class ConnectionPoolSampler implements AutoCloseable {
+
+    private static final long SAMPLE_INTERVAL_MILLIS = 50;
+
+    private final HikariDataSource dataSource;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    private long samples;
+    private long saturatedSamples;
+    private long waitingSamples;
+    private int maxActive;
+    private int maxWaiting;
+    private long activeSum;
+
+    ConnectionPoolSampler(HikariDataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    void start() {
+        scheduler.scheduleAtFixedRate(this::sample, 0, SAMPLE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void sample() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return;
+        }
+        int active = pool.getActiveConnections();
+        int waiting = pool.getThreadsAwaitingConnection();
+
+        samples++;
+        activeSum += active;
+        maxActive = Math.max(maxActive, active);
+        maxWaiting = Math.max(maxWaiting, waiting);
+        if (active >= dataSource.getMaximumPoolSize()) {
+            saturatedSamples++;
+        }
+        if (waiting > 0) {
+            waitingSamples++;
+        }
+    }
+
+    synchronized String summary() {
+        double avgActive = samples == 0 ? 0 : (double) activeSum / samples;
+        double saturatedRatio = samples == 0 ? 0 : 100.0 * saturatedSamples / samples;
+        double waitingRatio = samples == 0 ? 0 : 100.0 * waitingSamples / samples;
+        return String.format("pool size=%d avgActive=%.1f maxActive=%d saturated=%.1f%% maxWaiting=%d waiting=%.1f%%",
+                dataSource.getMaximumPoolSize(), avgActive, maxActive, saturatedRatio, maxWaiting, waitingRatio);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,60 @@
+package com.caring.caringbackend.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 시간 수집기 (마이크로초 단위)
+ * - 여러 스레드에서 동시에 기록, 측정 종료 후 백분위 계산
+ */
+class LatencyRecorder {
+
+    private final String name;
+    private final long[] samples;
+    private final AtomicLong index = new AtomicLong();
+    private final LongAdder errors = new LongAdder();
+
+    LatencyRecorder(String name, int capacity) {
+        this.name = name;
+        this.samples = new long[capacity];
+    }
+
+    void record(long elapsedNanos) {
+        long i = index.getAndIncrement();
+        if (i < samples.length) {
+            samples[(int) i] = elapsedNanos / 1_000;
+        }
+    }
+
+    void recordError() {
+        errors.increment();
+    }
+
+    long count() {
+        return Math.min(index.get(), samples.length);
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    /**
+     * 백분위 지연 시간 (마이크로초)
+     */
+    long percentile(double percentile) {
+        long[] sorted = Arrays.copyOf(samples, (int) count());
+        if (sorted.length == 0) {
+            return 0;
+        }
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(rank, sorted.length - 1))];
+    }
+
+    String summary() {
+        return String.format("%-14s count=%-8d errors=%-6d p50=%8.1fms p95=%8.1fms p99=%8.1fms",
+                name, count(), errors(),
+                percentile(50) / 1000.0, percentile(95) / 1000.0, percentile(99) / 1000.0);
+    }
+}
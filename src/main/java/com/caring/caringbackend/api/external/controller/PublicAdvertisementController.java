@@ -4,14 +4,18 @@ import com.caring.caringbackend.api.internal.institution.dto.response.advertisem
 import com.caring.caringbackend.domain.institution.advertisement.entity.AdvertisementType;
 import com.caring.caringbackend.domain.institution.advertisement.service.AdvertisementService;
 import com.caring.caringbackend.global.response.ApiResponse;
+import com.caring.caringbackend.global.response.ConditionalResponses;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 공개 광고 조회 컨트롤러
@@ -30,12 +34,12 @@ public class PublicAdvertisementController {
      */
     @GetMapping
     @Operation(summary = "1. 현재 진행중인 광고 목록", description = "현재 진행중인 모든 광고를 조회합니다. (공개 API)")
-    public ApiResponse<List<ActiveAdvertisementDto>> getActiveAdvertisements() {
+    public ResponseEntity<ApiResponse<List<ActiveAdvertisementDto>>> getActiveAdvertisements(WebRequest request) {
         log.info("현재 진행중인 광고 목록 조회 (공개 API)");
 
-        List<ActiveAdvertisementDto> response = advertisementService.getActiveAdvertisements();
-
-        return ApiResponse.success(response);
+        return ConditionalResponses.ok(request,
+                Optional.of("ads-" + advertisementService.getActiveAdvertisementsVersion()),
+                () -> ApiResponse.success(advertisementService.getActiveAdvertisements()));
     }
 
     /**
@@ -43,14 +47,15 @@ public class PublicAdvertisementController {
      */
     @GetMapping("/type/{type}")
     @Operation(summary = "2. 유형별 진행중인 광고 조회", description = "특정 유형의 진행중인 광고를 조회합니다. (공개 API)")
-    public ApiResponse<List<ActiveAdvertisementDto>> getActiveAdvertisementsByType(
-            @Parameter(description = "광고 유형") @PathVariable AdvertisementType type
+    public ResponseEntity<ApiResponse<List<ActiveAdvertisementDto>>> getActiveAdvertisementsByType(
+            @Parameter(description = "광고 유형") @PathVariable AdvertisementType type,
+            WebRequest request
     ) {
         log.info("유형별 진행중인 광고 조회 (공개 API) - type: {}", type);
 
-        List<ActiveAdvertisementDto> response = advertisementService.getActiveAdvertisementsByType(type);
-
-        return ApiResponse.success(response);
+        return ConditionalResponses.ok(request,
+                Optional.of("ads-" + advertisementService.getActiveAdvertisementsVersion()),
+                () -> ApiResponse.success(advertisementService.getActiveAdvertisementsByType(type)));
     }
 }
 
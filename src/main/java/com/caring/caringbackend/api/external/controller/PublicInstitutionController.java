@@ -2,17 +2,24 @@ package com.caring.caringbackend.api.external.controller;
 
 import com.caring.caringbackend.api.internal.institution.dto.request.InstitutionSearchFilter;
 import com.caring.caringbackend.api.internal.institution.dto.response.counsel.InstitutionCounselReservationDetailResponseDto;
+import com.caring.caringbackend.api.internal.institution.dto.response.InstitutionCursorResponseDto;
 import com.caring.caringbackend.api.internal.institution.dto.response.InstitutionDetailResponseDto;
+import com.caring.caringbackend.api.internal.institution.dto.response.InstitutionFacetResponseDto;
 import com.caring.caringbackend.api.internal.institution.dto.response.InstitutionProfileResponseDto;
+import com.caring.caringbackend.api.internal.institution.dto.response.InstitutionSuggestionResponseDto;
 import com.caring.caringbackend.api.internal.Member.dto.review.response.ReviewListResponse;
 import com.caring.caringbackend.api.internal.institution.dto.response.counsel.InstitutionCounselResponseDto;
+import com.caring.caringbackend.domain.file.service.PresignedUrlEtagWindow;
 import com.caring.caringbackend.domain.institution.counsel.service.InstitutionCounselService;
+import com.caring.caringbackend.domain.institution.profile.repository.InstitutionCursorSort;
 import com.caring.caringbackend.domain.institution.profile.service.InstitutionService;
 import com.caring.caringbackend.domain.review.service.InstitutionReviewService;
 import com.caring.caringbackend.global.response.ApiResponse;
+import com.caring.caringbackend.global.response.ConditionalResponses;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springdoc.core.annotations.ParameterObject;
@@ -23,6 +30,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.SortDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 
@@ -36,6 +44,7 @@ public class PublicInstitutionController {
     private final InstitutionService institutionService;
     private final InstitutionCounselService institutionCounselService;
     private final InstitutionReviewService institutionReviewService;
+    private final PresignedUrlEtagWindow presignedUrlEtagWindow;
 
     /**
      * 기관 목록 조회 (검색, 필터링, 페이징, 정렬)
@@ -52,6 +61,7 @@ public class PublicInstitutionController {
                     - **검색**: 이름, 도시, 기관 유형
                     - **필터링**: 승인 상태, 입소 가능 여부, 가격 범위, 병상 수
                     - **거리 기반 검색**: 위도/경도/반경 (km)
+                    - **태그 필터**: tagIds (여러 개 지정 시 모두 보유한 기관만)
                     
                     ### 요청 예시
                     ```
@@ -61,18 +71,114 @@ public class PublicInstitutionController {
                     ```
                     """
     )
-    public ApiResponse<Page<InstitutionProfileResponseDto>> getInstitutions(
+    public ResponseEntity<ApiResponse<Page<InstitutionProfileResponseDto>>> getInstitutions(
             @ParameterObject @PageableDefault(size = 20, page = 0)
             @SortDefault.SortDefaults({
                     @SortDefault(sort = "createdAt", direction = Sort.Direction.DESC),
                     @SortDefault(sort = "id", direction = Sort.Direction.DESC)
             }) Pageable pageable,
-            @ParameterObject @ModelAttribute InstitutionSearchFilter filter
+            @ParameterObject @ModelAttribute InstitutionSearchFilter filter,
+            WebRequest request
     ) {
-        Page<InstitutionProfileResponseDto> institutions = institutionService.getInstitutions(pageable, filter);
-        return ApiResponse.success(institutions);
+        // 대표 사진 PreSigned URL이 포함되므로 URL 유효 구간도 ETag에 포함
+        return ConditionalResponses.ok(request,
+                institutionService.getCatalogVersion()
+                        .map(version -> "institutions-" + version + "-" + presignedUrlEtagWindow.current()),
+                () -> ApiResponse.success(institutionService.getInstitutions(pageable, filter)));
     }
 
+    /**
+     * 기관 목록 조회 (커서 기반, 무한 스크롤용)
+     */
+    @GetMapping("/cursor")
+    @Operation(
+            summary = "1-1. 기관 목록 조회 (커서)",
+            description = """
+                    (정렬 키, id) 키셋 커서로 기관 목록을 조회합니다. 전체 건수를 세지 않아 깊은 페이지도 첫 페이지와 비용이 같습니다.
+                    
+                    ### 지원 기능
+                    - **정렬**: sort (CREATED_AT_DESC 기본, NAME_ASC, MONTHLY_BASE_FEE_ASC)
+                    - **커서**: 이전 응답의 nextCursor를 cursor로 전달 (정렬을 바꾸면 첫 페이지부터)
+                    - **검색/필터링**: 목록 조회와 동일 (반경 조건은 거르는 조건으로만 사용)
+                    - **근사 건수**: includeApproximateCount=true 시 주기적으로 집계한 통계 기반 근사값 (이름/반경 조건은 미제공)
+                    
+                    ### 요청 예시
+                    ```
+                    GET /api/v1/public/institutions/cursor?size=20
+                    GET /api/v1/public/institutions/cursor?sort=NAME_ASC&cursor={nextCursor}
+                    ```
+                    """
+    )
+    public ResponseEntity<ApiResponse<InstitutionCursorResponseDto>> getInstitutionsByCursor(
+            @ParameterObject @ModelAttribute InstitutionSearchFilter filter,
+            @RequestParam(defaultValue = "CREATED_AT_DESC") InstitutionCursorSort sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeApproximateCount,
+            WebRequest request
+    ) {
+        // 근사 건수는 노드별 통계로 계산되어 버전과 무관하게 바뀌므로 ETag 없이 응답
+        Optional<String> version = includeApproximateCount
+                ? Optional.empty()
+                : institutionService.getCatalogVersion()
+                        .map(catalogVersion -> "institutions-" + catalogVersion + "-" + presignedUrlEtagWindow.current());
+        return ConditionalResponses.ok(request, version,
+                () -> ApiResponse.success(institutionService.getInstitutionsByCursor(
+                        filter, sort, cursor, size, includeApproximateCount)));
+    }
+
+    /**
+     * 기관 검색 패싯 건수 조회
+     */
+    @GetMapping("/facets")
+    @Operation(
+            summary = "1-3. 기관 검색 패싯 건수",
+            description = """
+                    현재 검색 조건에서 기관 유형별, 도시별, 입소 가능 여부별 건수를 한 번의 집계로 조회합니다.
+                    
+                    - 검색 조건은 목록 조회와 동일 (페이지/정렬 제외)
+                    - 각 패싯은 자기 조건만 제외하고 계산 (유형을 선택한 상태에서도 다른 유형의 건수 표시)
+                    - 반경 조건이 없으면 목록 결과와 함께 캐시되며 기관 변경 시 무효화
+                    
+                    ### 요청 예시
+                    ```
+                    GET /api/v1/public/institutions/facets?city=강남구
+                    GET /api/v1/public/institutions/facets?institutionType=NURSING_HOME&maxMonthlyFee=2000000
+                    ```
+                    """
+    )
+    public ResponseEntity<ApiResponse<InstitutionFacetResponseDto>> getInstitutionFacets(
+            @ParameterObject @ModelAttribute InstitutionSearchFilter filter,
+            WebRequest request
+    ) {
+        return ConditionalResponses.ok(request,
+                institutionService.getCatalogVersion().map(version -> "facets-" + version),
+                () -> ApiResponse.success(institutionService.getInstitutionFacets(filter)));
+    }
+
+    /**
+     * 기관 자동완성 (검색창 입력 중)
+     */
+    @GetMapping("/suggest")
+    @Operation(
+            summary = "1-2. 기관 자동완성",
+            description = """
+                    입력 중인 검색어로 기관 이름/도시 자동완성 후보를 조회합니다. (메모리 인덱스, DB 조회 없음)
+                    
+                    - 이름 시작 → 단어 시작 → 도시 순으로 정렬
+                    - 입력 중인 글자("서우" → 서울)와 초성 검색("ㅅㅇ") 지원
+                    - limit 최대 20
+                    """
+    )
+    public ResponseEntity<ApiResponse<List<InstitutionSuggestionResponseDto>>> suggestInstitutions(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit,
+            WebRequest request
+    ) {
+        return ConditionalResponses.ok(request,
+                institutionService.getCatalogVersion().map(version -> "suggest-" + version),
+                () -> ApiResponse.success(institutionService.suggestInstitutions(query, limit)));
+    }
 
     /**
      * 기관 상세 조회
@@ -82,22 +188,27 @@ public class PublicInstitutionController {
      */
     @GetMapping("/{institutionId}")
     @Operation(summary = "2. 기관 상세 조회", description = "기관의 상세 정보를 조회합니다.")
-    public ApiResponse<InstitutionDetailResponseDto> getInstitutionDetail(
-            @PathVariable Long institutionId
+    public ResponseEntity<ApiResponse<InstitutionDetailResponseDto>> getInstitutionDetail(
+            @PathVariable Long institutionId,
+            WebRequest request
     ) {
-        InstitutionDetailResponseDto institutionDetail = institutionService.getInstitutionDetail(institutionId);
-        return ApiResponse.success(institutionDetail);
+        return ConditionalResponses.ok(request,
+                institutionService.getInstitutionDetailVersion(institutionId)
+                        .map(version -> "institution-" + version + "-" + presignedUrlEtagWindow.current()),
+                () -> ApiResponse.success(institutionService.getInstitutionDetail(institutionId)));
     }
 
     // 상담을 통해 세부 정보를 누를때 detail 동적 생성
     @GetMapping("/{institutionId}/counsels")
     @Operation(summary = "3. 기관의 예약 상품 목록 조회", description = "기관의 예약 상품 목록을 조회합니다.")
-    public ApiResponse<List<InstitutionCounselResponseDto>> getInstitutionCounsels(
-            @PathVariable Long institutionId
+    public ResponseEntity<ApiResponse<List<InstitutionCounselResponseDto>>> getInstitutionCounsels(
+            @PathVariable Long institutionId,
+            WebRequest request
     ) {
-        List<InstitutionCounselResponseDto> responseDto = institutionCounselService.getInstitutionCounselsByInstitutionId(
-                institutionId);
-        return ApiResponse.success(responseDto);
+        // 상담 서비스 변경은 기관 상세 버전을 올림
+        return ConditionalResponses.ok(request,
+                institutionService.getInstitutionDetailVersion(institutionId).map(version -> "counsels-" + version),
+                () -> ApiResponse.success(institutionCounselService.getInstitutionCounselsByInstitutionId(institutionId)));
     }
 
     @GetMapping("/counsels/{counselId}")
@@ -130,9 +241,13 @@ public class PublicInstitutionController {
     )
     public ResponseEntity<ApiResponse<ReviewListResponse>> getInstitutionReviews(
             @PathVariable Long institutionId,
-            @PageableDefault(size = 20, sort = "createdAt", direction = org.springframework.data.domain.Sort.Direction.DESC) Pageable pageable) {
+            @PageableDefault(size = 20, sort = "createdAt", direction = org.springframework.data.domain.Sort.Direction.DESC) Pageable pageable,
+            WebRequest request) {
 
-        ReviewListResponse reviews = institutionReviewService.getInstitutionReviews(institutionId, pageable);
-        return ResponseEntity.ok(ApiResponse.success("기관 리뷰 목록 조회 성공", reviews));
+        // 리뷰 작성/수정/삭제는 기관 상세 버전을 올림
+        return ConditionalResponses.ok(request,
+                institutionService.getInstitutionDetailVersion(institutionId).map(version -> "reviews-" + version),
+                () -> ApiResponse.success("기관 리뷰 목록 조회 성공",
+                        institutionReviewService.getInstitutionReviews(institutionId, pageable)));
     }
 }
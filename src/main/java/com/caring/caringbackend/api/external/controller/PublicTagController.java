@@ -5,6 +5,7 @@ import com.caring.caringbackend.domain.tag.entity.Tag;
 import com.caring.caringbackend.domain.tag.entity.TagCategory;
 import com.caring.caringbackend.domain.tag.service.TagService;
 import com.caring.caringbackend.global.response.ApiResponse;
+import com.caring.caringbackend.global.response.ConditionalResponses;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -31,10 +33,13 @@ public class PublicTagController {
             summary = "1. 전체 태그 목록 조회",
             description = "활성화된 모든 태그를 카테고리별로 정렬하여 조회합니다. (공개 API)"
     )
-    public ResponseEntity<ApiResponse<TagListResponse>> getAllTags() {
-        List<Tag> tags = tagService.getAllActiveTags();
-        TagListResponse response = TagListResponse.from(tags);
-        return ResponseEntity.ok(ApiResponse.success("전체 태그 목록 조회 성공", response));
+    public ResponseEntity<ApiResponse<TagListResponse>> getAllTags(WebRequest request) {
+        return ConditionalResponses.ok(request,
+                tagService.getCatalogVersion().map(version -> "tags-" + version),
+                () -> {
+                    List<Tag> tags = tagService.getAllActiveTags();
+                    return ApiResponse.success("전체 태그 목록 조회 성공", TagListResponse.from(tags));
+                });
     }
 
     /**
@@ -55,10 +60,14 @@ public class PublicTagController {
                     """
     )
     public ResponseEntity<ApiResponse<TagListResponse>> getTagsByCategory(
-            @PathVariable TagCategory category) {
-        List<Tag> tags = tagService.getTagsByCategory(category);
-        TagListResponse response = TagListResponse.from(tags);
-        return ResponseEntity.ok(
-                ApiResponse.success(category.getDescription() + " 태그 목록 조회 성공", response));
+            @PathVariable TagCategory category,
+            WebRequest request) {
+        return ConditionalResponses.ok(request,
+                tagService.getCatalogVersion().map(version -> "tags-" + version),
+                () -> {
+                    List<Tag> tags = tagService.getTagsByCategory(category);
+                    return ApiResponse.success(category.getDescription() + " 태그 목록 조회 성공",
+                            TagListResponse.from(tags));
+                });
     }
 }
@@ -1,13 +1,19 @@
 package com.caring.caringbackend.api.internal.chat.controller;
 
 import com.caring.caringbackend.api.internal.chat.dto.request.ChatMessageSendRequest;
+import com.caring.caringbackend.api.internal.chat.dto.request.ChatReadRequest;
+import com.caring.caringbackend.api.internal.chat.dto.response.ChatMessageHistoryResponse;
 import com.caring.caringbackend.api.internal.chat.dto.response.ChatMessageListResponse;
 import com.caring.caringbackend.api.internal.chat.dto.response.ChatMessageResponse;
 import com.caring.caringbackend.api.internal.chat.dto.response.ChatRoomInfoResponse;
+import com.caring.caringbackend.api.internal.chat.dto.response.ChatUnreadCountResponse;
 import com.caring.caringbackend.domain.chat.entity.ChatMessage;
 import com.caring.caringbackend.domain.chat.entity.ChatRoom;
 import com.caring.caringbackend.domain.chat.entity.SenderType;
+import com.caring.caringbackend.domain.chat.repository.ChatMessageView;
+import com.caring.caringbackend.domain.chat.service.ChatReadStateService;
 import com.caring.caringbackend.domain.chat.service.ChatService;
+import com.caring.caringbackend.domain.chat.service.ChatStreamService;
 import com.caring.caringbackend.domain.institution.profile.entity.InstitutionAdmin;
 import com.caring.caringbackend.domain.institution.profile.repository.InstitutionAdminRepository;
 import com.caring.caringbackend.domain.user.guardian.entity.Member;
@@ -21,27 +27,54 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import reactor.core.publisher.Flux;
 
 @RestController
 @RequestMapping("/api/v1/institutions/me/chat")
-@RequiredArgsConstructor
 @Tag(name = "15. 🏥 Institution Chat", description = "기관 채팅 API | 회원과의 실시간 상담 채팅")
 @SecurityRequirement(name = "bearerAuth")
 public class InstitutionChatController {
 
     private final ChatService chatService;
+    private final ChatStreamService chatStreamService;
+    private final ChatReadStateService chatReadStateService;
     private final InstitutionAdminRepository institutionAdminRepository;
     private final MemberRepository memberRepository;
 
+    // 롱 폴링 응답 변환(발신자 이름 조회) 실행 스레드
+    // - 대기자를 깨우는 스레드(메시지 전송 요청의 커밋 후 콜백, CompletableFuture 타임아웃 스레드)에서 DB 조회를 하지 않도록 분리
+    private final AsyncTaskExecutor pollResponseExecutor;
+
+    public InstitutionChatController(ChatService chatService,
+                                     ChatStreamService chatStreamService,
+                                     ChatReadStateService chatReadStateService,
+                                     InstitutionAdminRepository institutionAdminRepository,
+                                     MemberRepository memberRepository,
+                                     @Qualifier("applicationTaskExecutor") AsyncTaskExecutor pollResponseExecutor) {
+        this.chatService = chatService;
+        this.chatStreamService = chatStreamService;
+        this.chatReadStateService = chatReadStateService;
+        this.institutionAdminRepository = institutionAdminRepository;
+        this.memberRepository = memberRepository;
+        this.pollResponseExecutor = pollResponseExecutor;
+    }
+
     @PostMapping("/rooms/{chatRoomId}/messages")
     @Operation(summary = "1. 메시지 전송", description = "기관 관리자가 채팅 메시지를 전송합니다. 메시지는 기관명으로 표시됩니다.")
     public ResponseEntity<ApiResponse<ChatMessageResponse>> sendMessage(
@@ -74,7 +107,7 @@ public class InstitutionChatController {
             @PathVariable Long chatRoomId,
             @PageableDefault(size = 50, sort = "createdAt") Pageable pageable) {
 
-        Page<ChatMessage> messagePage = chatService.getMessages(
+        Page<ChatMessageView> messagePage = chatService.getMessages(
                 chatRoomId,
                 adminDetails.getId(),
                 SenderType.INSTITUTION_ADMIN,
@@ -82,32 +115,68 @@ public class InstitutionChatController {
         );
 
         List<ChatMessageResponse> messageResponses = messagePage.getContent().stream()
-                .map(message -> ChatMessageResponse.from(message, getSenderName(message)))
+                .map(message -> ChatMessageResponse.from(message, getSenderName(message.senderType(), message.senderId())))
                 .collect(Collectors.toList());
 
         ChatMessageListResponse response = ChatMessageListResponse.of(messageResponses, messagePage);
         return ResponseEntity.ok(ApiResponse.success("메시지 목록 조회 성공", response));
     }
 
+    @GetMapping("/rooms/{chatRoomId}/messages/history")
+    @Operation(summary = "8. 메시지 이력 조회 (커서)",
+            description = "기관 관리자가 before(메시지 ID) 이전 메시지를 최신순으로 limit건 조회합니다. 전체 건수 대신 hasMore와 nextCursor를 반환합니다.")
+    public ResponseEntity<ApiResponse<ChatMessageHistoryResponse>> getMessageHistory(
+            @AuthenticationPrincipal InstitutionAdminDetails adminDetails,
+            @PathVariable Long chatRoomId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "50") int limit) {
+
+        Slice<ChatMessageView> messageSlice = chatService.getMessageHistory(
+                chatRoomId,
+                before,
+                limit,
+                adminDetails.getId(),
+                SenderType.INSTITUTION_ADMIN
+        );
+
+        List<ChatMessageResponse> messageResponses = messageSlice.getContent().stream()
+                .map(message -> ChatMessageResponse.from(message, getSenderName(message.senderType(), message.senderId())))
+                .collect(Collectors.toList());
+
+        ChatMessageHistoryResponse response = ChatMessageHistoryResponse.of(messageResponses, messageSlice);
+        return ResponseEntity.ok(ApiResponse.success("메시지 이력 조회 성공", response));
+    }
+
     @GetMapping("/rooms/{chatRoomId}/messages/poll")
     @Operation(summary = "3. 롱 폴링", description = "기관 관리자가 신규 메시지를 대기합니다. 타임아웃: 30초")
-    public ResponseEntity<ApiResponse<List<ChatMessageResponse>>> pollMessages(
+    public DeferredResult<ResponseEntity<ApiResponse<List<ChatMessageResponse>>>> pollMessages(
             @AuthenticationPrincipal InstitutionAdminDetails adminDetails,
             @PathVariable Long chatRoomId,
             @RequestParam Long lastMessageId) {
 
-        List<ChatMessage> newMessages = chatService.pollMessages(
+        CompletableFuture<List<ChatMessage>> waiter = chatService.pollMessages(
                 chatRoomId,
                 lastMessageId,
                 adminDetails.getId(),
                 SenderType.INSTITUTION_ADMIN
         );
 
-        List<ChatMessageResponse> messageResponses = newMessages.stream()
-                .map(message -> ChatMessageResponse.from(message, getSenderName(message)))
-                .collect(Collectors.toList());
+        // 대기 중에는 서블릿 스레드를 반환하고, 메시지 도착/타임아웃 시 응답
+        DeferredResult<ResponseEntity<ApiResponse<List<ChatMessageResponse>>>> result =
+                new DeferredResult<>(TimeUnit.SECONDS.toMillis(ChatService.POLL_TIMEOUT_SECONDS + 5));
+        result.onCompletion(() -> waiter.cancel(false));
+
+        waiter.thenAcceptAsync(newMessages -> {
+            List<ChatMessageResponse> messageResponses = newMessages.stream()
+                    .map(message -> ChatMessageResponse.from(message, getSenderName(message.getSenderType(), message.getSenderId())))
+                    .collect(Collectors.toList());
+            result.setResult(ResponseEntity.ok(ApiResponse.success("신규 메시지 조회 성공", messageResponses)));
+        }, pollResponseExecutor).exceptionally(ex -> {
+            result.setErrorResult(ex.getCause() != null ? ex.getCause() : ex);
+            return null;
+        });
 
-        return ResponseEntity.ok(ApiResponse.success("신규 메시지 조회 성공", messageResponses));
+        return result;
     }
 
     @DeleteMapping("/rooms/{chatRoomId}/messages/{messageId}")
@@ -142,14 +211,50 @@ public class InstitutionChatController {
         return ResponseEntity.ok(ApiResponse.success("상담 종료 성공", null));
     }
 
-    private String getSenderName(ChatMessage message) {
-        if (message.getSenderType() == SenderType.MEMBER) {
-            return memberRepository.findByIdAndDeletedFalse(message.getSenderId())
+    @GetMapping(value = "/rooms/{chatRoomId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "7. 실시간 메시지 스트림 (SSE)",
+            description = "기관 관리자가 채팅방의 신규 메시지를 SSE로 수신합니다. 재연결 시 Last-Event-ID(메시지 ID) 이후 메시지부터 이어서 전달합니다.")
+    public Flux<ServerSentEvent<ChatMessageResponse>> streamMessages(
+            @AuthenticationPrincipal InstitutionAdminDetails adminDetails,
+            @PathVariable Long chatRoomId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+
+        return chatStreamService.subscribe(chatRoomId, lastEventId, adminDetails.getId(), SenderType.INSTITUTION_ADMIN);
+    }
+
+    @PostMapping("/rooms/{chatRoomId}/read")
+    @Operation(summary = "9. 읽음 처리", description = "기관 관리자가 채팅방 메시지를 어디까지 읽었는지 기록합니다. 남은 안 읽은 메시지 수를 반환합니다.")
+    public ResponseEntity<ApiResponse<Long>> markAsRead(
+            @AuthenticationPrincipal InstitutionAdminDetails adminDetails,
+            @PathVariable Long chatRoomId,
+            @Valid @RequestBody ChatReadRequest request) {
+
+        long unreadCount = chatReadStateService.markAsRead(
+                chatRoomId,
+                request.getLastReadMessageId(),
+                adminDetails.getId(),
+                SenderType.INSTITUTION_ADMIN
+        );
+        return ResponseEntity.ok(ApiResponse.success("읽음 처리 성공", unreadCount));
+    }
+
+    @GetMapping("/unread-counts")
+    @Operation(summary = "10. 안 읽은 메시지 수 조회", description = "기관의 모든 채팅방 안 읽은 메시지 수를 한 번에 조회합니다.")
+    public ResponseEntity<ApiResponse<ChatUnreadCountResponse>> getUnreadCounts(
+            @AuthenticationPrincipal InstitutionAdminDetails adminDetails) {
+
+        ChatUnreadCountResponse response = chatReadStateService.getUnreadCounts(adminDetails.getId(), SenderType.INSTITUTION_ADMIN);
+        return ResponseEntity.ok(ApiResponse.success("안 읽은 메시지 수 조회 성공", response));
+    }
+
+    private String getSenderName(SenderType senderType, Long senderId) {
+        if (senderType == SenderType.MEMBER) {
+            return memberRepository.findByIdAndDeletedFalse(senderId)
                     .map(Member::getName)
                     .orElse("알 수 없음");
         }
 
-        return institutionAdminRepository.findById(message.getSenderId())
+        return institutionAdminRepository.findById(senderId)
                 .map(admin -> admin.getInstitution() != null ?
                         admin.getInstitution().getName() : "알 수 없음")
                 .orElse("알 수 없음");
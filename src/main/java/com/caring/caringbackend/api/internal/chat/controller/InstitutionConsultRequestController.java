@@ -29,15 +29,17 @@ public class InstitutionConsultRequestController {
     private final ChatService chatService;
 
     @GetMapping("/consult-requests")
-    @Operation(summary = "1. 기관 상담 요청 목록 조회", description = "기관 관리자가 소속 기관의 상담 요청 목록을 조회합니다. (페이징, 상태 필터링 지원)")
+    @Operation(summary = "1. 기관 상담 요청 목록 조회", description = "기관 관리자가 소속 기관의 상담 요청 목록을 조회합니다. (페이징, 상태 필터링 지원, includeTotal=false 시 전체 개수 없이 조회)")
     public ResponseEntity<ApiResponse<ConsultRequestListResponse>> getInstitutionConsultRequests(
             @AuthenticationPrincipal InstitutionAdminDetails adminDetails,
             @Parameter(description = "상태 필터 (ACTIVE: 진행 중, CLOSED: 종료됨, null: 전체)")
             @RequestParam(required = false) ConsultRequestStatus status,
+            @Parameter(description = "전체 개수 포함 여부 (false: COUNT 생략, 무한 스크롤용 hasNext만 제공)")
+            @RequestParam(defaultValue = "true") boolean includeTotal,
             @PageableDefault(size = 20, sort = "createdAt") Pageable pageable) {
 
         ConsultRequestListResponse response = chatService.getInstitutionConsultRequests(
-                adminDetails.getId(), status, pageable);
+                adminDetails.getId(), status, pageable, includeTotal);
         return ResponseEntity.ok(ApiResponse.success("상담 요청 목록 조회 성공", response));
     }
 }
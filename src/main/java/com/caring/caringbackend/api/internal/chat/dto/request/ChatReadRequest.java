@@ -0,0 +1,25 @@
+package com.caring.caringbackend.api.internal.chat.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 💬 읽음 처리 요청 DTO
+ * <p>
+ * 클라이언트가 화면에 표시한 마지막 메시지 ID를 전달합니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatReadRequest {
+
+    /**
+     * 🔢 마지막으로 읽은 메시지 ID (필수)
+     */
+    @NotNull(message = "마지막으로 읽은 메시지 ID는 필수입니다.")
+    private Long lastReadMessageId;
+}
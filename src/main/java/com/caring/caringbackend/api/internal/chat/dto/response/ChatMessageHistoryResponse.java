@@ -0,0 +1,51 @@
+package com.caring.caringbackend.api.internal.chat.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * 💬 채팅 메시지 이력 응답 DTO (커서 기반)
+ * <p>
+ * 전체 건수 없이 다음 페이지 존재 여부와 다음 커서만 반환합니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageHistoryResponse {
+
+    /**
+     * 💬 메시지 목록 (최신순)
+     */
+    private List<ChatMessageResponse> messages;
+
+    /**
+     * ➡️ 이전 메시지 존재 여부
+     */
+    private boolean hasMore;
+
+    /**
+     * 🔢 다음 요청의 before 값 (조회된 메시지 중 가장 오래된 메시지 ID)
+     */
+    private Long nextCursor;
+
+    /**
+     * 📤 메시지 목록과 Slice 정보로 ChatMessageHistoryResponse 생성
+     *
+     * @param messages 메시지 응답 목록
+     * @param slice 슬라이스 정보
+     * @return ChatMessageHistoryResponse
+     */
+    public static ChatMessageHistoryResponse of(List<ChatMessageResponse> messages, Slice<?> slice) {
+        return ChatMessageHistoryResponse.builder()
+                .messages(messages)
+                .hasMore(slice.hasNext())
+                .nextCursor(messages.isEmpty() ? null : messages.get(messages.size() - 1).getId())
+                .build();
+    }
+}
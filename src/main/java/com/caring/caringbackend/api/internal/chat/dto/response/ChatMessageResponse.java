@@ -2,6 +2,7 @@ package com.caring.caringbackend.api.internal.chat.dto.response;
 
 import com.caring.caringbackend.domain.chat.entity.ChatMessage;
 import com.caring.caringbackend.domain.chat.entity.SenderType;
+import com.caring.caringbackend.domain.chat.repository.ChatMessageView;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -78,5 +79,25 @@ public class ChatMessageResponse {
                 .createdAt(message.getCreatedAt())
                 .build();
     }
+
+    /**
+     * 📤 메시지 조회 결과(ChatMessageView)를 ChatMessageResponse로 변환
+     * - 보관된 채팅방 메시지도 같은 형태로 변환
+     *
+     * @param message 메시지 조회 결과
+     * @param senderName 발신자 이름 (회원명 또는 기관명)
+     * @return ChatMessageResponse
+     */
+    public static ChatMessageResponse from(ChatMessageView message, String senderName) {
+        return ChatMessageResponse.builder()
+                .id(message.id())
+                .chatRoomId(message.chatRoomId())
+                .senderType(message.senderType())
+                .senderId(message.senderId())
+                .senderName(senderName)
+                .content(message.content())
+                .createdAt(message.createdAt())
+                .build();
+    }
 }
 
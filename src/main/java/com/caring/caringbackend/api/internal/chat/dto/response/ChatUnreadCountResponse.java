@@ -0,0 +1,59 @@
+package com.caring.caringbackend.api.internal.chat.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 💬 안 읽은 메시지 수 응답 DTO
+ * <p>
+ * 회원 또는 기관의 모든 채팅방 안 읽은 메시지 수를 한 번에 반환합니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatUnreadCountResponse {
+
+    /**
+     * 🔢 전체 안 읽은 메시지 수
+     */
+    private long totalUnreadCount;
+
+    /**
+     * 💬 채팅방별 안 읽은 메시지 수
+     */
+    private List<RoomUnreadCount> rooms;
+
+    /**
+     * 💬 채팅방별 안 읽은 메시지 수 내부 클래스
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RoomUnreadCount {
+        private Long chatRoomId;
+        private Long unreadCount;
+        private Long lastReadMessageId;
+    }
+
+    /**
+     * 📤 채팅방별 목록으로 ChatUnreadCountResponse 생성
+     *
+     * @param rooms 채팅방별 안 읽은 메시지 수
+     * @return ChatUnreadCountResponse
+     */
+    public static ChatUnreadCountResponse of(List<RoomUnreadCount> rooms) {
+        long total = rooms.stream()
+                .mapToLong(room -> room.getUnreadCount() != null ? room.getUnreadCount() : 0L)
+                .sum();
+        return ChatUnreadCountResponse.builder()
+                .totalUnreadCount(total)
+                .rooms(rooms)
+                .build();
+    }
+}
@@ -1,12 +1,12 @@
 package com.caring.caringbackend.api.internal.chat.dto.response;
 
-import com.caring.caringbackend.domain.institution.counsel.entity.ConsultRequest;
 import com.caring.caringbackend.domain.institution.counsel.entity.enums.ConsultRequestStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -22,11 +22,13 @@ public class ConsultRequestListResponse {
 
     private List<ConsultRequestItem> consultRequests;
     private int currentPage;
-    private int totalPages;
-    private long totalElements;
+    // 전체 개수 미포함 조회(includeTotal=false) 시 null
+    private Integer totalPages;
+    private Long totalElements;
     private int size;
     private boolean first;
     private boolean last;
+    private boolean hasNext;
 
     @Getter
     @Builder
@@ -62,16 +64,18 @@ public class ConsultRequestListResponse {
         }
     }
 
-    public static ConsultRequestListResponse of(Page<ConsultRequest> page, List<ConsultRequestItem> items) {
+    public static ConsultRequestListResponse of(Slice<?> slice, List<ConsultRequestItem> items) {
+        Page<?> page = slice instanceof Page<?> p ? p : null;
+
         return ConsultRequestListResponse.builder()
                 .consultRequests(items)
-                .currentPage(page.getNumber())
-                .totalPages(page.getTotalPages())
-                .totalElements(page.getTotalElements())
-                .size(page.getSize())
-                .first(page.isFirst())
-                .last(page.isLast())
+                .currentPage(slice.getNumber())
+                .totalPages(page != null ? page.getTotalPages() : null)
+                .totalElements(page != null ? page.getTotalElements() : null)
+                .size(slice.getSize())
+                .first(slice.isFirst())
+                .last(slice.isLast())
+                .hasNext(slice.hasNext())
                 .build();
     }
 }
-
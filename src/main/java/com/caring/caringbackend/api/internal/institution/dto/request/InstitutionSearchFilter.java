@@ -8,6 +8,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.List;
+
 /**
  * 기관 검색 필터 DTO
  *
@@ -43,4 +45,7 @@ public class InstitutionSearchFilter {
 
     @Parameter(description = "반경 (km)")
     private Double radiusKm;
+
+    @Parameter(description = "태그 ID 목록 (모두 보유한 기관만)")
+    private List<Long> tagIds;
 }
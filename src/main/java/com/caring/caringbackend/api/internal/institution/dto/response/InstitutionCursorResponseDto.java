@@ -0,0 +1,41 @@
+package com.caring.caringbackend.api.internal.institution.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 기관 목록 응답 DTO (커서 기반)
+ * <p>
+ * 전체 건수 대신 다음 페이지 존재 여부와 다음 커서를 반환합니다.
+ * 요청 시에만 주기적으로 집계한 통계 기반 근사 건수를 포함합니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InstitutionCursorResponseDto {
+
+    /**
+     * 기관 목록
+     */
+    private List<InstitutionProfileResponseDto> institutions;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+
+    /**
+     * 다음 요청의 cursor 값 (다음 페이지가 없으면 null)
+     */
+    private String nextCursor;
+
+    /**
+     * 근사 전체 건수 (요청하지 않았거나 추정할 수 없는 조건이면 null)
+     */
+    private Long approximateTotal;
+}
@@ -2,6 +2,7 @@ package com.caring.caringbackend.api.internal.institution.dto.response;
 
 import com.caring.caringbackend.api.internal.admin.dto.response.TagResponse;
 import com.caring.caringbackend.api.internal.institution.dto.response.counsel.InstitutionCounselResponseDto;
+import com.caring.caringbackend.api.internal.institution.dto.response.review.InstitutionRatingSummaryResponseDto;
 import com.caring.caringbackend.api.internal.institution.dto.response.review.InstitutionReviewsResponseDto;
 import com.caring.caringbackend.domain.file.service.FileService;
 import com.caring.caringbackend.domain.institution.profile.entity.ApprovalStatus;
@@ -54,6 +55,9 @@ public record InstitutionDetailResponseDto(
 
         // 리뷰 (이름, 평점, 내용, 태그들)
         InstitutionReviewsResponseDto reviewData,
+
+        // 평점 요약 (평균, 별점별/태그별 리뷰 수)
+        InstitutionRatingSummaryResponseDto ratingSummary,
         //---------------------------------------
 
         // 생성/수정 정보
@@ -67,12 +71,37 @@ public record InstitutionDetailResponseDto(
     public static InstitutionDetailResponseDto from(
             Institution institution,
             FileService fileService,
-            InstitutionReviewsResponseDto reviews
+            InstitutionReviewsResponseDto reviews,
+            InstitutionRatingSummaryResponseDto ratingSummary
     ) {
         if (institution == null) {
             return null;
         }
 
+        return of(
+                institution,
+                fileService.generatePresignedUrl(institution.getMainImageUrl()),
+                extractCounsels(institution),
+                extractCareGiver(institution, fileService),
+                extractTags(institution),
+                reviews,
+                ratingSummary
+        );
+    }
+
+    /**
+     * 따로 조회한 하위 목록으로 조립 (기관 상세 병렬 조립용)
+     * - 기관 엔티티는 기본 정보와 전문 질환 목록만 사용
+     */
+    public static InstitutionDetailResponseDto of(
+            Institution institution,
+            String mainImageUrl,
+            List<InstitutionCounselResponseDto> counselServices,
+            List<CareGiverResponseDto> careGivers,
+            List<TagResponse> tags,
+            InstitutionReviewsResponseDto reviews,
+            InstitutionRatingSummaryResponseDto ratingSummary
+    ) {
         return new InstitutionDetailResponseDto(
                 institution.getName(),                      // 이름
                 institution.getInstitutionType(),           // 기관 타입
@@ -85,12 +114,13 @@ public record InstitutionDetailResponseDto(
                 institution.getLocation(),                  // 위치
                 institution.getPriceInfo(),                 // 가격 정보
                 extractSpecializedConditions(institution),  // 전문 질환 목록
-                extractCounsels(institution),              // 기관 상담 서비스 목록
-                extractCareGiver(institution, fileService),            // 요양보호사 목록
+                counselServices,                // 기관 상담 서비스 목록
+                careGivers,                     // 요양보호사 목록
                 institution.getDescription(),   // 설명
-                fileService.generatePresignedUrl(institution.getMainImageUrl()), // 대표 사진
-                extractTags(institution),              // 태그들
+                mainImageUrl,                   // 대표 사진
+                tags,                           // 태그들
                 reviews,                        // 리뷰들
+                ratingSummary,                  // 평점 요약
                 institution.getCreatedAt(),     // 생성일
                 institution.getUpdatedAt()      // 수정일
         );
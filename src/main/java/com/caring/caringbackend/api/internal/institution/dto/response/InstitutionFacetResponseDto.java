@@ -0,0 +1,57 @@
+package com.caring.caringbackend.api.internal.institution.dto.response;
+
+import com.caring.caringbackend.domain.institution.profile.entity.InstitutionType;
+import com.caring.caringbackend.domain.institution.profile.service.search.InstitutionFacets;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 기관 검색 패싯 응답 DTO
+ * <p>
+ * 각 패싯 건수는 해당 패싯의 조건만 제외하고 나머지 검색 조건을 모두 적용한 값입니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InstitutionFacetResponseDto {
+
+    /**
+     * 현재 검색 조건 전체 건수
+     */
+    private long total;
+
+    /**
+     * 기관 유형별 건수
+     */
+    private Map<InstitutionType, Long> institutionTypes;
+
+    /**
+     * 도시별 건수 (건수 많은 순)
+     */
+    private Map<String, Long> cities;
+
+    /**
+     * 입소 가능 건수
+     */
+    private long admissionAvailable;
+
+    /**
+     * 입소 불가 건수
+     */
+    private long admissionUnavailable;
+
+    public static InstitutionFacetResponseDto from(InstitutionFacets facets) {
+        return InstitutionFacetResponseDto.builder()
+                .total(facets.total())
+                .institutionTypes(facets.types())
+                .cities(facets.cities())
+                .admissionAvailable(facets.admissionAvailable())
+                .admissionUnavailable(facets.admissionUnavailable())
+                .build();
+    }
+}
@@ -1,8 +1,8 @@
 package com.caring.caringbackend.api.internal.institution.dto.response;
 
 import com.caring.caringbackend.domain.institution.profile.entity.ApprovalStatus;
-import com.caring.caringbackend.domain.institution.profile.entity.Institution;
 import com.caring.caringbackend.domain.institution.profile.entity.InstitutionType;
+import com.caring.caringbackend.domain.institution.profile.repository.InstitutionCard;
 import com.caring.caringbackend.global.model.Address;
 import com.caring.caringbackend.global.model.GeoPoint;
 import lombok.Builder;
@@ -31,22 +31,28 @@ public class InstitutionProfileResponseDto {
 
         // 가격 정보 (요약)
         Integer monthlyBaseFee;
+
+        // 평점 요약 (리뷰가 없으면 평균 null, 리뷰 수 0)
+        Double averageRating;
+        long reviewCount;
     /**
-     * Entity → DTO 변환
+     * 목록 카드 프로젝션 → DTO 변환
      */
-    public static InstitutionProfileResponseDto from(Institution institution) {
+    public static InstitutionProfileResponseDto from(InstitutionCard card) {
         return new InstitutionProfileResponseDto(
-                institution.getId(),
-                institution.getName(),
-                institution.getInstitutionType(),
-                institution.getMainImageUrl(),
-                institution.getPhoneNumber(),
-                institution.getApprovalStatus(),
-                institution.getIsAdmissionAvailable(),
-                institution.getBedCount(),
-                institution.getAddress(),
-                institution.getLocation(),
-                institution.getPriceInfo() != null ? institution.getPriceInfo().getMonthlyBaseFee() : null
+                card.id(),
+                card.name(),
+                card.institutionType(),
+                card.mainImageUrl(),
+                card.phoneNumber(),
+                card.approvalStatus(),
+                card.isAdmissionAvailable(),
+                card.bedCount(),
+                card.address(),
+                card.location(),
+                card.monthlyBaseFee(),
+                card.averageRating(),
+                card.reviewCount() != null ? card.reviewCount() : 0L
         );
     }
 }
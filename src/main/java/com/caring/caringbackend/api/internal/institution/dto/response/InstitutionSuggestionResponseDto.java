@@ -0,0 +1,17 @@
+package com.caring.caringbackend.api.internal.institution.dto.response;
+
+import com.caring.caringbackend.domain.institution.profile.service.search.InstitutionSuggestion;
+
+/**
+ * 기관 자동완성 응답 DTO
+ *
+ * @param id 기관 ID
+ * @param name 기관 이름
+ * @param city 도시
+ */
+public record InstitutionSuggestionResponseDto(Long id, String name, String city) {
+
+    public static InstitutionSuggestionResponseDto from(InstitutionSuggestion suggestion) {
+        return new InstitutionSuggestionResponseDto(suggestion.id(), suggestion.name(), suggestion.city());
+    }
+}
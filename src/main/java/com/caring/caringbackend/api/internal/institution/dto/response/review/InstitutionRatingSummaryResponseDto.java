@@ -0,0 +1,42 @@
+package com.caring.caringbackend.api.internal.institution.dto.response.review;
+
+import com.caring.caringbackend.domain.review.entity.InstitutionRatingSummary;
+import com.caring.caringbackend.domain.review.repository.ReviewTagCountView;
+
+import java.util.List;
+
+/**
+ * 기관 리뷰 평점 요약 응답 DTO
+ */
+public record InstitutionRatingSummaryResponseDto(
+        // 평균 별점 (리뷰가 없으면 null)
+        Double averageRating,
+
+        // 리뷰 수
+        long reviewCount,
+
+        // 별점별 리뷰 수 (1점 → 5점 순)
+        List<Long> starCounts,
+
+        // 태그별 리뷰 수 (많은 순)
+        List<ReviewTagCountView> tagCounts
+) {
+
+    private static final List<Long> NO_STARS = List.of(0L, 0L, 0L, 0L, 0L);
+
+    public static InstitutionRatingSummaryResponseDto of(InstitutionRatingSummary summary, List<ReviewTagCountView> tagCounts) {
+        if (summary == null) {
+            return empty();
+        }
+        return new InstitutionRatingSummaryResponseDto(
+                summary.averageRating(),
+                summary.getReviewCount(),
+                summary.starCounts(),
+                tagCounts
+        );
+    }
+
+    public static InstitutionRatingSummaryResponseDto empty() {
+        return new InstitutionRatingSummaryResponseDto(null, 0, NO_STARS, List.of());
+    }
+}
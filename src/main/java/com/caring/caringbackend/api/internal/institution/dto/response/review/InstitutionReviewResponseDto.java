@@ -30,16 +30,17 @@ public record InstitutionReviewResponseDto(
         // 수정일
         LocalDateTime updatedAt
 ) {
-    public static InstitutionReviewResponseDto from(Review review) {
+    /**
+     * 리뷰 → DTO 변환 (태그 이름은 ReviewResponseAssembler에서 일괄 조회)
+     */
+    public static InstitutionReviewResponseDto from(Review review, List<String> tagNames) {
         return new InstitutionReviewResponseDto(
                 review.getId(),
                 review.getMember().getName(),
                 review.getReservation().getCounselDetail().getInstitutionCounsel().getTitle(),
                 review.getRating(),
                 review.getContent(),
-                review.getReviewTags().stream()
-                        .map(tag -> tag.getTag().getName())
-                        .toList(),
+                tagNames,
                 review.getCreatedAt(),
                 review.getUpdatedAt()
         );
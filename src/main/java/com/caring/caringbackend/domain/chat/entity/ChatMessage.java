@@ -28,7 +28,8 @@ public class ChatMessage extends BaseEntity {
 
     // 채팅방
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "chat_room_id", nullable = false)
+    @JoinColumn(name = "chat_room_id", nullable = false,
+            foreignKey = @ForeignKey(name = "fk_chat_message_chat_room"))
     private ChatRoom chatRoom;
 
     // 발신자 유형 (회원 or 기관 관리자)
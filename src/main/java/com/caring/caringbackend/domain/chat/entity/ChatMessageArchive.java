@@ -0,0 +1,71 @@
+package com.caring.caringbackend.domain.chat.entity;
+
+import com.caring.caringbackend.global.model.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채팅 메시지 보관 엔티티
+ * - 종료 후 일정 기간이 지난 채팅방의 메시지를 압축(gzip JSON)하여 채팅방당 1건으로 보관
+ * - 보관된 메시지는 chat_message에서 삭제되어 핫 테이블/인덱스 크기를 제한
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "chat_message_archive",
+        uniqueConstraints = @UniqueConstraint(name = "uk_chat_message_archive_room", columnNames = "chat_room_id"))
+public class ChatMessageArchive extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 채팅방
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "chat_room_id", nullable = false)
+    private ChatRoom chatRoom;
+
+    // 보관된 메시지 수 (Soft Delete 메시지 포함)
+    @Column(nullable = false)
+    private Integer messageCount;
+
+    // 보관된 마지막 메시지 ID
+    @Column(nullable = false)
+    private Long lastMessageId;
+
+    // gzip 압축된 메시지 목록 (JSON 배열)
+    @Column(nullable = false)
+    private byte[] payload;
+
+    @Builder
+    private ChatMessageArchive(ChatRoom chatRoom, Integer messageCount, Long lastMessageId, byte[] payload) {
+        this.chatRoom = chatRoom;
+        this.messageCount = messageCount;
+        this.lastMessageId = lastMessageId;
+        this.payload = payload;
+    }
+
+    /**
+     * 보관 데이터 생성 정적 팩토리 메서드
+     */
+    public static ChatMessageArchive create(ChatRoom chatRoom, int messageCount, Long lastMessageId, byte[] payload) {
+        return ChatMessageArchive.builder()
+                .chatRoom(chatRoom)
+                .messageCount(messageCount)
+                .lastMessageId(lastMessageId)
+                .payload(payload)
+                .build();
+    }
+
+    /**
+     * 보관 데이터 교체 (이미 보관된 채팅방에 추가 메시지가 생긴 경우)
+     */
+    public void replace(int messageCount, Long lastMessageId, byte[] payload) {
+        this.messageCount = messageCount;
+        this.lastMessageId = lastMessageId;
+        this.payload = payload;
+    }
+}
@@ -0,0 +1,76 @@
+package com.caring.caringbackend.domain.chat.entity;
+
+import com.caring.caringbackend.global.model.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채팅 읽음 상태 엔티티
+ * - 채팅방의 참여자(회원 / 기관)별 마지막으로 읽은 메시지와 안 읽은 메시지 수
+ * - 실시간 값은 Redis에서 관리하고, 주기적으로 이 테이블에 일괄 저장
+ * - 기관 측은 기관 단위로 관리 (소속 관리자 누구든 읽으면 읽음 처리)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "chat_read_state",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_chat_read_state_room_reader", columnNames = {"chat_room_id", "reader_type"}),
+        indexes = @Index(name = "idx_chat_read_state_reader", columnList = "reader_type, reader_id"))
+public class ChatReadState extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 채팅방
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "chat_room_id", nullable = false)
+    private ChatRoom chatRoom;
+
+    // 참여자 유형 (MEMBER: 회원, INSTITUTION_ADMIN: 기관)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reader_type", nullable = false, length = 20)
+    private SenderType readerType;
+
+    // 참여자 ID (Member.id or Institution.id)
+    @Column(name = "reader_id", nullable = false)
+    private Long readerId;
+
+    // 마지막으로 읽은 메시지 ID
+    private Long lastReadMessageId;
+
+    // 안 읽은 메시지 수
+    @Column(nullable = false)
+    private Long unreadCount = 0L;
+
+    @Builder
+    private ChatReadState(ChatRoom chatRoom, SenderType readerType, Long readerId) {
+        this.chatRoom = chatRoom;
+        this.readerType = readerType;
+        this.readerId = readerId;
+        this.unreadCount = 0L;
+    }
+
+    /**
+     * 읽음 상태 생성 정적 팩토리 메서드
+     */
+    public static ChatReadState create(ChatRoom chatRoom, SenderType readerType, Long readerId) {
+        return ChatReadState.builder()
+                .chatRoom(chatRoom)
+                .readerType(readerType)
+                .readerId(readerId)
+                .build();
+    }
+
+    /**
+     * 읽음 상태 갱신 (Redis 값 반영)
+     */
+    public void update(Long lastReadMessageId, Long unreadCount) {
+        this.lastReadMessageId = lastReadMessageId;
+        this.unreadCount = unreadCount != null ? unreadCount : 0L;
+    }
+}
@@ -60,7 +60,7 @@ public class ChatRoom extends BaseEntity {
 
     /**
      * 마지막 메시지 업데이트
-     * - 새 메시지 전송 시 호출
+     * - 새 메시지 전송 시 ChatRoomLastMessageBuffer를 거쳐 반영
      */
     public void updateLastMessage(String content, LocalDateTime sentAt) {
         this.lastMessageContent = content;
@@ -102,5 +102,16 @@ public class ChatRoom extends BaseEntity {
     public String getInstitutionName() {
         return consultRequest.getInstitution().getName();
     }
+
+    /**
+     * 발신자 표시 이름 조회 (편의 메서드)
+     * - 회원 메시지는 회원명, 기관 관리자 메시지는 기관명으로 표시
+     */
+    public String getSenderName(SenderType senderType) {
+        if (senderType == SenderType.MEMBER) {
+            return consultRequest.getMember().getName();
+        }
+        return getInstitutionName();
+    }
 }
 
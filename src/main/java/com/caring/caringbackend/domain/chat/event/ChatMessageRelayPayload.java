@@ -0,0 +1,12 @@
+package com.caring.caringbackend.domain.chat.event;
+
+import com.caring.caringbackend.api.internal.chat.dto.response.ChatMessageResponse;
+
+/**
+ * 노드 간 채팅 메시지 중계 페이로드 (Redis Pub/Sub)
+ *
+ * @param originNodeId 메시지를 발행한 애플리케이션 노드 ID
+ * @param message 전송된 메시지
+ */
+public record ChatMessageRelayPayload(String originNodeId, ChatMessageResponse message) {
+}
@@ -0,0 +1,13 @@
+package com.caring.caringbackend.domain.chat.event;
+
+import com.caring.caringbackend.domain.chat.entity.ChatMessage;
+
+/**
+ * 채팅 메시지 전송 이벤트
+ * - ChatService.sendMessage 트랜잭션 커밋 후 구독자에게 전달
+ *
+ * @param chatRoomId 채팅방 ID
+ * @param message 저장된 메시지
+ */
+public record ChatMessageSentEvent(Long chatRoomId, ChatMessage message) {
+}
@@ -0,0 +1,14 @@
+package com.caring.caringbackend.domain.chat.repository;
+
+import com.caring.caringbackend.domain.chat.entity.ChatMessageArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface ChatMessageArchiveRepository extends JpaRepository<ChatMessageArchive, Long> {
+
+    /**
+     * 채팅방의 보관 데이터 조회
+     */
+    Optional<ChatMessageArchive> findByChatRoomId(Long chatRoomId);
+}
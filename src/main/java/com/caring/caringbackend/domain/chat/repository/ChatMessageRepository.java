@@ -1,9 +1,12 @@
 package com.caring.caringbackend.domain.chat.repository;
 
 import com.caring.caringbackend.domain.chat.entity.ChatMessage;
+import com.caring.caringbackend.domain.chat.entity.SenderType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -27,6 +30,25 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
             Pageable pageable
     );
 
+    /**
+     * 채팅방의 메시지 이력 조회 (커서 기반, Soft Delete 제외)
+     * - beforeMessageId보다 작은 ID의 메시지를 최신순으로 조회
+     * - idx_chat_room_id_id (chat_room_id, id) 인덱스 범위 스캔, COUNT 쿼리 없음
+     * - Slice 반환 시 limit + 1건 조회로 다음 페이지 존재 여부 판단
+     */
+    @Query("""
+            SELECT cm FROM ChatMessage cm
+            WHERE cm.chatRoom.id = :chatRoomId
+            AND cm.id < :beforeMessageId
+            AND cm.deleted = false
+            ORDER BY cm.id DESC
+            """)
+    Slice<ChatMessage> findByChatRoomIdBeforeIdAndNotDeleted(
+            @Param("chatRoomId") Long chatRoomId,
+            @Param("beforeMessageId") Long beforeMessageId,
+            Pageable pageable
+    );
+
     /**
      * 롱 폴링용: 특정 메시지 ID 이후의 신규 메시지 조회
      * - lastMessageId보다 큰 ID를 가진 메시지만 조회
@@ -56,11 +78,54 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
             """)
     long countByChatRoomIdAndNotDeleted(@Param("chatRoomId") Long chatRoomId);
 
+    /**
+     * 특정 메시지 ID 이후 상대방이 보낸 메시지 수 조회 (Soft Delete 제외)
+     * - 읽음 처리 시 안 읽은 메시지 수 재계산용
+     */
+    @Query("""
+            SELECT COUNT(cm)
+            FROM ChatMessage cm
+            WHERE cm.chatRoom.id = :chatRoomId
+            AND cm.id > :lastReadMessageId
+            AND cm.senderType <> :readerType
+            AND cm.deleted = false
+            """)
+    long countUnreadMessages(
+            @Param("chatRoomId") Long chatRoomId,
+            @Param("lastReadMessageId") Long lastReadMessageId,
+            @Param("readerType") SenderType readerType
+    );
+
     /**
      * 채팅방의 마지막 메시지 조회 (Soft Delete 제외)
      * - 채팅방 목록에서 미리보기용
      * - Spring Data JPA 메서드 네이밍으로 LIMIT 1 자동 적용
      */
     ChatMessage findFirstByChatRoomIdAndDeletedFalseOrderByCreatedAtDesc(Long chatRoomId);
-}
 
+    /**
+     * 채팅방의 전체 메시지 조회 (Soft Delete 포함)
+     * - 종료된 채팅방 메시지 보관용
+     */
+    @Query("""
+            SELECT cm FROM ChatMessage cm
+            WHERE cm.chatRoom.id = :chatRoomId
+            ORDER BY cm.id ASC
+            """)
+    List<ChatMessage> findAllByChatRoomIdForArchive(@Param("chatRoomId") Long chatRoomId);
+
+    /**
+     * 보관 완료된 메시지 삭제
+     * - maxMessageId 이하만 삭제하여 보관 이후 들어온 메시지는 유지
+     */
+    @Modifying
+    @Query("""
+            DELETE FROM ChatMessage cm
+            WHERE cm.chatRoom.id = :chatRoomId
+            AND cm.id <= :maxMessageId
+            """)
+    int deleteArchivedMessages(
+            @Param("chatRoomId") Long chatRoomId,
+            @Param("maxMessageId") Long maxMessageId
+    );
+}
@@ -0,0 +1,26 @@
+package com.caring.caringbackend.domain.chat.repository;
+
+import com.caring.caringbackend.domain.chat.entity.ChatMessage;
+import com.caring.caringbackend.domain.chat.entity.SenderType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 메시지 조회용 읽기 모델
+ * - chat_message 메시지와 chat_message_archive에서 복원한 메시지를 같은 형태로 반환
+ * - 보관된 메시지는 엔티티로 만들지 않음 (영속성 컨텍스트/지연 로딩과 무관)
+ */
+public record ChatMessageView(
+        Long id,
+        Long chatRoomId,
+        SenderType senderType,
+        Long senderId,
+        String content,
+        LocalDateTime createdAt
+) {
+
+    public static ChatMessageView from(ChatMessage message) {
+        return new ChatMessageView(message.getId(), message.getChatRoom().getId(), message.getSenderType(),
+                message.getSenderId(), message.getContent(), message.getCreatedAt());
+    }
+}
@@ -0,0 +1,46 @@
+package com.caring.caringbackend.domain.chat.repository;
+
+import com.caring.caringbackend.domain.chat.entity.ChatReadState;
+import com.caring.caringbackend.domain.chat.entity.SenderType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ChatReadStateRepository extends JpaRepository<ChatReadState, Long> {
+
+    /**
+     * 읽음 상태 저장 (채팅방 + 참여자 유형 기준 upsert)
+     * - 여러 노드가 같은 항목을 동시에 저장해도 유니크 제약(uk_chat_read_state_room_reader) 위반 없이 마지막 값으로 갱신
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO chat_read_state (chat_room_id, reader_type, reader_id, last_read_message_id, unread_count,
+                                         created_at, updated_at)
+            VALUES (:chatRoomId, :readerType, :readerId, :lastReadMessageId, :unreadCount, now(), now())
+            ON CONFLICT (chat_room_id, reader_type) DO UPDATE SET
+                last_read_message_id = EXCLUDED.last_read_message_id,
+                unread_count = EXCLUDED.unread_count,
+                updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    void upsert(@Param("chatRoomId") Long chatRoomId,
+                @Param("readerType") String readerType,
+                @Param("readerId") Long readerId,
+                @Param("lastReadMessageId") Long lastReadMessageId,
+                @Param("unreadCount") long unreadCount);
+
+    /**
+     * 참여자의 전체 채팅방 읽음 상태 조회 (Redis 캐시 복구용)
+     */
+    @Query("""
+            SELECT rs FROM ChatReadState rs
+            WHERE rs.readerType = :readerType
+            AND rs.readerId = :readerId
+            """)
+    List<ChatReadState> findAllByReader(
+            @Param("readerType") SenderType readerType,
+            @Param("readerId") Long readerId
+    );
+}
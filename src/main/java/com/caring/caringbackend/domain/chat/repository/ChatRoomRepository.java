@@ -1,10 +1,13 @@
 package com.caring.caringbackend.domain.chat.repository;
 
 import com.caring.caringbackend.domain.chat.entity.ChatRoom;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -58,18 +61,6 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
      */
     boolean existsByConsultRequestId(Long consultRequestId);
 
-    /**
-     * ConsultRequest ID 리스트로 채팅방 배치 조회
-     * - N+1 문제 방지를 위한 배치 조회
-     * - 상담 내역 목록 조회 시 사용
-     */
-    @Query("""
-            SELECT cr FROM ChatRoom cr
-            JOIN FETCH cr.consultRequest req
-            WHERE req.id IN :consultRequestIds
-            """)
-    List<ChatRoom> findAllByConsultRequestIdIn(@Param("consultRequestIds") List<Long> consultRequestIds);
-
     /**
      * 채팅방 ID로 조회 (ConsultRequest, Member, Institution 포함, JOIN FETCH)
      * - sendMessage 등에서 사용
@@ -83,5 +74,44 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
             WHERE cr.id = :chatRoomId
             """)
     Optional<ChatRoom> findByIdWithConsultRequest(@Param("chatRoomId") Long chatRoomId);
-}
 
+    /**
+     * 마지막 메시지 정보 갱신 (쓰기 지연 버퍼 플러시용)
+     * - 저장된 값보다 최신인 경우에만 갱신 (여러 노드의 플러시 순서와 무관하게 최신값 유지)
+     *
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("""
+            UPDATE ChatRoom cr
+            SET cr.lastMessageContent = :content,
+                cr.lastMessageAt = :sentAt
+            WHERE cr.id = :chatRoomId
+            AND (cr.lastMessageAt IS NULL OR cr.lastMessageAt < :sentAt)
+            """)
+    int updateLastMessageIfNewer(
+            @Param("chatRoomId") Long chatRoomId,
+            @Param("content") String content,
+            @Param("sentAt") LocalDateTime sentAt
+    );
+
+    /**
+     * 메시지 보관 대상 채팅방 ID 조회
+     * - 비활성화된 채팅방 중 상담 종료 시각이 closedBefore 이전이고 chat_message에 메시지가 남아 있는 방
+     * - afterChatRoomId 이후 ID만 조회 (키셋 페이징)
+     */
+    @Query("""
+            SELECT cr.id FROM ChatRoom cr
+            JOIN cr.consultRequest req
+            WHERE cr.isActive = false
+            AND req.closedAt < :closedBefore
+            AND cr.id > :afterChatRoomId
+            AND EXISTS (SELECT 1 FROM ChatMessage cm WHERE cm.chatRoom = cr)
+            ORDER BY cr.id ASC
+            """)
+    List<Long> findArchivableChatRoomIds(
+            @Param("closedBefore") LocalDateTime closedBefore,
+            @Param("afterChatRoomId") Long afterChatRoomId,
+            Pageable pageable
+    );
+}
@@ -0,0 +1,297 @@
+package com.caring.caringbackend.domain.chat.service;
+
+import com.caring.caringbackend.domain.chat.entity.ChatMessage;
+import com.caring.caringbackend.domain.chat.entity.ChatMessageArchive;
+import com.caring.caringbackend.domain.chat.entity.SenderType;
+import com.caring.caringbackend.domain.chat.repository.ChatMessageArchiveRepository;
+import com.caring.caringbackend.domain.chat.repository.ChatMessageRepository;
+import com.caring.caringbackend.domain.chat.repository.ChatMessageView;
+import com.caring.caringbackend.domain.chat.repository.ChatRoomRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 채팅 메시지 보관 서비스
+ * - 종료 후 보관 기간이 지난 채팅방의 메시지를 chat_message_archive로 이동 (채팅방당 gzip JSON 1건)
+ * - chat_message에는 진행 중이거나 최근 종료된 채팅방 메시지만 남아 핫 데이터/인덱스 크기가 제한됨
+ * - 보관된 채팅방의 메시지 조회 시 보관 데이터를 복원하여 제공 (read-through)
+ * - 복원한 메시지 목록은 채팅방 단위로 노드 로컬 캐시에 보관하여 페이지마다 압축을 다시 풀지 않음
+ *   (보관 데이터가 없는 채팅방도 캐시하여 반복 조회 방지, 다른 노드의 보관 작업은 TTL 이내에 반영)
+ */
+@Slf4j
+@Service
+public class ChatMessageArchiveService {
+
+    private static final int ARCHIVE_BATCH_SIZE = 100;
+    private static final Duration ARCHIVE_CACHE_TTL = Duration.ofMinutes(10);
+    // 캐시 가중치 = 메시지 수 (채팅방 수가 아닌 메시지 수로 메모리 상한 제한)
+    private static final long ARCHIVE_CACHE_MAXIMUM_MESSAGES = 200_000;
+    private static final TypeReference<List<ArchivedMessage>> ARCHIVED_MESSAGES_TYPE = new TypeReference<>() {
+    };
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageArchiveRepository chatMessageArchiveRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+    private final Cache<Long, ArchivedMessages> archivedMessagesCache = Caffeine.newBuilder()
+            .maximumWeight(ARCHIVE_CACHE_MAXIMUM_MESSAGES)
+            .weigher((Long chatRoomId, ArchivedMessages archived) -> archived.size() + 1)
+            .expireAfterWrite(ARCHIVE_CACHE_TTL)
+            .build();
+
+    public ChatMessageArchiveService(ChatRoomRepository chatRoomRepository,
+                                     ChatMessageRepository chatMessageRepository,
+                                     ChatMessageArchiveRepository chatMessageArchiveRepository,
+                                     ObjectMapper objectMapper,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${chat.archive.retention-days:30}") int retentionDays) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatMessageArchiveRepository = chatMessageArchiveRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * 보관 대상 채팅방 일괄 보관 (매일 새벽)
+     * - 채팅방 단위로 트랜잭션을 분리하여 한 방의 실패가 전체 작업을 롤백하지 않도록 함
+     */
+    @Scheduled(cron = "${chat.archive.cron:0 30 3 * * *}")
+    public void archiveClosedChatRooms() {
+        LocalDateTime closedBefore = LocalDateTime.now().minusDays(retentionDays);
+        long afterChatRoomId = 0L;
+        int archivedRooms = 0;
+        int failedRooms = 0;
+
+        while (true) {
+            List<Long> chatRoomIds = chatRoomRepository.findArchivableChatRoomIds(
+                    closedBefore, afterChatRoomId, PageRequest.of(0, ARCHIVE_BATCH_SIZE));
+            if (chatRoomIds.isEmpty()) {
+                break;
+            }
+
+            for (Long chatRoomId : chatRoomIds) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> archiveChatRoom(chatRoomId));
+                    archivedMessagesCache.invalidate(chatRoomId);
+                    archivedRooms++;
+                } catch (Exception e) {
+                    failedRooms++;
+                    log.warn("채팅 메시지 보관 실패: chatRoomId={}", chatRoomId, e);
+                }
+            }
+            afterChatRoomId = chatRoomIds.get(chatRoomIds.size() - 1);
+        }
+
+        if (archivedRooms > 0 || failedRooms > 0) {
+            log.info("채팅 메시지 보관 완료: closedBefore={}, archivedRooms={}, failedRooms={}",
+                    closedBefore, archivedRooms, failedRooms);
+        }
+    }
+
+    /**
+     * 보관된 채팅방 메시지 페이지 조회 (Soft Delete 제외, 최신순)
+     * - findByChatRoomIdAndNotDeleted와 동일한 정렬
+     *
+     * @param chatRoomId 채팅방 ID
+     * @param pageable 페이징 정보
+     * @return 보관된 메시지 페이지 (보관 데이터가 없으면 Optional.empty())
+     */
+    public Optional<Page<ChatMessageView>> findArchivedPage(Long chatRoomId, Pageable pageable) {
+        ArchivedMessages archived = getArchivedMessages(chatRoomId);
+        return archived.isEmpty() ? Optional.empty() : Optional.of(archived.page(pageable));
+    }
+
+    /**
+     * 보관된 채팅방 메시지 중 커서 이전 메시지 조회 (Soft Delete 제외, 최신순)
+     * - findByChatRoomIdBeforeIdAndNotDeleted와 동일한 정렬
+     *
+     * @param chatRoomId 채팅방 ID
+     * @param cursor 이 ID보다 이전 메시지 조회
+     * @param size 조회 건수
+     * @return 보관된 메시지 Slice (보관 데이터가 없으면 Optional.empty())
+     */
+    public Optional<Slice<ChatMessageView>> findArchivedSliceBefore(Long chatRoomId, long cursor, int size) {
+        ArchivedMessages archived = getArchivedMessages(chatRoomId);
+        return archived.isEmpty() ? Optional.empty() : Optional.of(archived.sliceBefore(cursor, size));
+    }
+
+    private ArchivedMessages getArchivedMessages(Long chatRoomId) {
+        return archivedMessagesCache.get(chatRoomId, id -> chatMessageArchiveRepository.findByChatRoomId(id)
+                .map(archive -> ArchivedMessages.of(chatRoomId, decode(archive.getPayload())))
+                .orElse(ArchivedMessages.EMPTY));
+    }
+
+    private void archiveChatRoom(Long chatRoomId) {
+        List<ChatMessage> messages = chatMessageRepository.findAllByChatRoomIdForArchive(chatRoomId);
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        ChatMessageArchive archive = chatMessageArchiveRepository.findByChatRoomId(chatRoomId).orElse(null);
+
+        // 기존 보관분이 있으면 병합 (ID 기준 중복 제거)
+        List<ArchivedMessage> archived = new ArrayList<>(archive != null ? decode(archive.getPayload()) : List.of());
+        messages.stream().map(ArchivedMessage::from).forEach(archived::add);
+        List<ArchivedMessage> merged = archived.stream()
+                .collect(Collectors.toMap(ArchivedMessage::id, Function.identity(), (existing, replacement) -> replacement))
+                .values().stream()
+                .sorted(Comparator.comparing(ArchivedMessage::id))
+                .collect(Collectors.toList());
+
+        Long lastMessageId = merged.get(merged.size() - 1).id();
+        byte[] payload = encode(merged);
+
+        if (archive == null) {
+            chatMessageArchiveRepository.save(ChatMessageArchive.create(
+                    chatRoomRepository.getReferenceById(chatRoomId), merged.size(), lastMessageId, payload));
+        } else {
+            archive.replace(merged.size(), lastMessageId, payload);
+        }
+
+        Long maxArchivedId = messages.get(messages.size() - 1).getId();
+        int deleted = chatMessageRepository.deleteArchivedMessages(chatRoomId, maxArchivedId);
+
+        log.debug("채팅방 메시지 보관: chatRoomId={}, archived={}, deleted={}, payloadBytes={}",
+                chatRoomId, merged.size(), deleted, payload.length);
+    }
+
+    private byte[] encode(List<ArchivedMessage> messages) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, messages);
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 메시지 보관 데이터 압축 실패", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private List<ArchivedMessage> decode(byte[] payload) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(gzip, ARCHIVED_MESSAGES_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 메시지 보관 데이터 복원 실패", e);
+        }
+    }
+
+    /**
+     * 보관 데이터 내 메시지 표현
+     */
+    record ArchivedMessage(
+            Long id,
+            SenderType senderType,
+            Long senderId,
+            String content,
+            boolean deleted,
+            LocalDateTime createdAt
+    ) {
+        static ArchivedMessage from(ChatMessage message) {
+            return new ArchivedMessage(message.getId(), message.getSenderType(), message.getSenderId(),
+                    message.getContent(), message.isDeleted(), message.getCreatedAt());
+        }
+
+        ChatMessageView toView(Long chatRoomId) {
+            return new ChatMessageView(id, chatRoomId, senderType, senderId, content, createdAt);
+        }
+    }
+
+    /**
+     * 복원된 채팅방 보관 메시지 (Soft Delete 제외, ID 오름차순)
+     * - ID 오름차순 목록이므로 커서 위치는 이진 탐색으로 찾음
+     */
+    static final class ArchivedMessages {
+
+        static final ArchivedMessages EMPTY = new ArchivedMessages(List.of());
+
+        private final List<ChatMessageView> messages;
+
+        private ArchivedMessages(List<ChatMessageView> messages) {
+            this.messages = messages;
+        }
+
+        static ArchivedMessages of(Long chatRoomId, List<ArchivedMessage> archived) {
+            return new ArchivedMessages(archived.stream()
+                    .filter(message -> !message.deleted())
+                    .sorted(Comparator.comparing(ArchivedMessage::id))
+                    .map(message -> message.toView(chatRoomId))
+                    .toList());
+        }
+
+        boolean isEmpty() {
+            return messages.isEmpty();
+        }
+
+        int size() {
+            return messages.size();
+        }
+
+        Page<ChatMessageView> page(Pageable pageable) {
+            int total = messages.size();
+            int from = (int) Math.min(pageable.getOffset(), total);
+            int to = Math.min(from + pageable.getPageSize(), total);
+            return new PageImpl<>(latestFirst(total - to, total - from), pageable, total);
+        }
+
+        Slice<ChatMessageView> sliceBefore(long cursor, int size) {
+            int end = indexOf(cursor);
+            int start = Math.max(end - size, 0);
+            return new SliceImpl<>(latestFirst(start, end), PageRequest.of(0, size), start > 0);
+        }
+
+        /**
+         * cursor 이상인 첫 메시지의 위치 (없으면 size)
+         */
+        private int indexOf(long cursor) {
+            int low = 0;
+            int high = messages.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (messages.get(mid).id() < cursor) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private List<ChatMessageView> latestFirst(int from, int to) {
+            List<ChatMessageView> range = new ArrayList<>(messages.subList(from, to));
+            Collections.reverse(range);
+            return range;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.caring.caringbackend.domain.chat.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * chat_message 월별 파티션 관리
+ * - ops/db/chat_message_partition.sql로 파티셔닝된 경우에만 동작 (일반 테이블이면 아무것도 하지 않음)
+ * - 이번 달부터 PARTITIONS_AHEAD개월 뒤까지 파티션을 미리 생성
+ * - 보관 작업(ChatMessageArchiveService)으로 비워진 과거 파티션은 삭제하여 인덱스 크기를 제한
+ */
+@Slf4j
+@Component
+public class ChatMessagePartitionMaintainer {
+
+    private static final String PARENT_TABLE = "chat_message";
+    private static final String PARTITION_PREFIX = PARENT_TABLE + "_";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final int PARTITIONS_AHEAD = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int retentionDays;
+
+    public ChatMessagePartitionMaintainer(JdbcTemplate jdbcTemplate,
+                                          @Value("${chat.archive.retention-days:30}") int retentionDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * 기동 직후 및 매일 새벽 파티션 점검
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${chat.partition.cron:0 0 4 * * *}")
+    public void maintainPartitions() {
+        try {
+            if (!isPartitioned()) {
+                log.info("chat_message가 파티션 테이블이 아니므로 파티션 관리 생략 (ops/db/chat_message_partition.sql 미적용)");
+                return;
+            }
+
+            YearMonth current = YearMonth.now();
+            for (int i = 0; i <= PARTITIONS_AHEAD; i++) {
+                createPartitionIfAbsent(current.plusMonths(i));
+            }
+            dropEmptyExpiredPartitions();
+        } catch (DataAccessException e) {
+            log.warn("chat_message 파티션 관리 실패", e);
+        }
+    }
+
+    private boolean isPartitioned() {
+        Boolean partitioned = jdbcTemplate.queryForObject("""
+                SELECT EXISTS (
+                    SELECT 1 FROM pg_partitioned_table pt
+                    JOIN pg_class c ON c.oid = pt.partrelid
+                    WHERE c.relname = ?
+                )
+                """, Boolean.class, PARENT_TABLE);
+        return Boolean.TRUE.equals(partitioned);
+    }
+
+    private void createPartitionIfAbsent(YearMonth month) {
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        // 테이블명/경계값은 내부에서 생성한 값만 사용
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(month)
+                + " PARTITION OF " + PARENT_TABLE
+                + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+    }
+
+    /**
+     * 보관 기간보다 오래되었고 비어 있는 과거 파티션 삭제
+     * - 진행 중인 장기 상담의 메시지가 남아 있는 파티션은 유지
+     */
+    private void dropEmptyExpiredPartitions() {
+        YearMonth expiredBefore = YearMonth.from(LocalDate.now().minusDays(retentionDays)).minusMonths(1);
+
+        List<String> partitions = jdbcTemplate.queryForList("""
+                SELECT child.relname
+                FROM pg_inherits i
+                JOIN pg_class parent ON parent.oid = i.inhparent
+                JOIN pg_class child ON child.oid = i.inhrelid
+                WHERE parent.relname = ?
+                """, String.class, PARENT_TABLE);
+
+        for (String partition : partitions) {
+            YearMonth month = parseMonth(partition);
+            if (month == null || !month.isBefore(expiredBefore)) {
+                continue;
+            }
+
+            Boolean empty = jdbcTemplate.queryForObject(
+                    "SELECT NOT EXISTS (SELECT 1 FROM " + partition + ")", Boolean.class);
+            if (Boolean.TRUE.equals(empty)) {
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                log.info("빈 chat_message 파티션 삭제: {}", partition);
+            }
+        }
+    }
+
+    private String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    private YearMonth parseMonth(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+        } catch (DateTimeParseException e) {
+            // chat_message_default 등 월 파티션이 아닌 경우
+            return null;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.caring.caringbackend.domain.chat.service;
+
+import com.caring.caringbackend.api.internal.chat.dto.response.ChatMessageResponse;
+import com.caring.caringbackend.domain.chat.entity.ChatMessage;
+import com.caring.caringbackend.domain.chat.event.ChatMessageRelayPayload;
+import com.caring.caringbackend.domain.chat.event.ChatMessageSentEvent;
+import com.caring.caringbackend.domain.chat.repository.ChatMessageRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * 채팅 메시지 노드 간 중계 (Redis Pub/Sub)
+ * - 메시지 전송 커밋 후 Redis 채널로 발행
+ * - 모든 노드가 채널을 구독하여 자신에게 연결된 SSE 구독자에게 전달
+ * - 다른 노드에서 발행된 메시지는 이 노드의 롱 폴링 대기자도 깨움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageRelay implements MessageListener {
+
+    public static final String CHANNEL = "chat:messages";
+
+    // 자신이 발행한 메시지 식별용 (롱 폴링 대기자는 커밋 이벤트로 이미 깨움)
+    private static final String NODE_ID = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ChatStreamService chatStreamService;
+    private final ChatMessageWaiterRegistry chatMessageWaiterRegistry;
+    private final ChatMessageRepository chatMessageRepository;
+
+    /**
+     * 메시지 전송 커밋 후 Redis 채널로 발행
+     * - 발행 실패 시 이 노드의 구독자에게만 전달
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMessageSent(ChatMessageSentEvent event) {
+        ChatMessage message = event.message();
+        ChatMessageResponse response = ChatMessageResponse.from(
+                message, message.getChatRoom().getSenderName(message.getSenderType()));
+
+        try {
+            String payload = objectMapper.writeValueAsString(new ChatMessageRelayPayload(NODE_ID, response));
+            stringRedisTemplate.convertAndSend(CHANNEL, payload);
+        } catch (Exception e) {
+            log.warn("채팅 메시지 Redis 발행 실패, 로컬 구독자에게만 전달: chatRoomId={}, messageId={}",
+                    event.chatRoomId(), message.getId(), e);
+            chatStreamService.deliver(response);
+        }
+    }
+
+    /**
+     * Redis 채널 수신 → 로컬 구독자 전달
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        ChatMessageRelayPayload payload;
+        try {
+            payload = objectMapper.readValue(message.getBody(), ChatMessageRelayPayload.class);
+        } catch (Exception e) {
+            log.warn("채팅 메시지 중계 페이로드 파싱 실패", e);
+            return;
+        }
+
+        ChatMessageResponse response = payload.message();
+        chatStreamService.deliver(response);
+
+        if (!NODE_ID.equals(payload.originNodeId()) && chatMessageWaiterRegistry.hasWaiters(response.getChatRoomId())) {
+            chatMessageRepository.findById(response.getId())
+                    .ifPresent(chatMessage -> chatMessageWaiterRegistry.wakeUp(response.getChatRoomId(), chatMessage));
+        }
+    }
+}
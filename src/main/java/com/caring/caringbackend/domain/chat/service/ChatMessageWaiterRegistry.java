@@ -0,0 +1,110 @@
+package com.caring.caringbackend.domain.chat.service;
+
+import com.caring.caringbackend.domain.chat.entity.ChatMessage;
+import com.caring.caringbackend.domain.chat.event.ChatMessageSentEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 롱 폴링 대기자 레지스트리 (인메모리, 채팅방 단위)
+ * - 폴링 요청은 DB 커넥션/스레드를 점유하지 않고 CompletableFuture로 대기
+ * - 메시지 전송 트랜잭션 커밋 후 해당 채팅방의 대기자를 깨움
+ */
+@Slf4j
+@Component
+public class ChatMessageWaiterRegistry {
+
+    private final Map<Long, Set<Waiter>> waitersByRoom = new ConcurrentHashMap<>();
+
+    /**
+     * 대기자 등록
+     * - 완료(메시지 도착, 타임아웃, 취소) 시 자동으로 레지스트리에서 제거
+     *
+     * @param chatRoomId 채팅방 ID
+     * @param lastMessageId 클라이언트가 마지막으로 받은 메시지 ID
+     * @return 신규 메시지 도착 시 완료되는 Future
+     */
+    public CompletableFuture<List<ChatMessage>> register(Long chatRoomId, Long lastMessageId) {
+        Waiter waiter = new Waiter(lastMessageId);
+
+        waitersByRoom.compute(chatRoomId, (id, waiters) -> {
+            Set<Waiter> roomWaiters = waiters != null ? waiters : ConcurrentHashMap.newKeySet();
+            roomWaiters.add(waiter);
+            return roomWaiters;
+        });
+        waiter.future.whenComplete((messages, ex) -> remove(chatRoomId, waiter));
+
+        return waiter.future;
+    }
+
+    /**
+     * 메시지 전송 커밋 후 대기자 깨우기
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMessageSent(ChatMessageSentEvent event) {
+        wakeUp(event.chatRoomId(), event.message());
+    }
+
+    /**
+     * 채팅방 대기자에게 신규 메시지 전달
+     * - 대기자의 lastMessageId보다 큰 메시지만 전달
+     *
+     * @param chatRoomId 채팅방 ID
+     * @param message 신규 메시지
+     */
+    public void wakeUp(Long chatRoomId, ChatMessage message) {
+        Set<Waiter> waiters = waitersByRoom.get(chatRoomId);
+        if (waiters == null) {
+            return;
+        }
+
+        int woken = 0;
+        for (Waiter waiter : waiters) {
+            if (message.getId() > waiter.lastMessageId && waiter.future.complete(List.of(message))) {
+                woken++;
+            }
+        }
+
+        log.debug("롱 폴링 대기자 깨움: chatRoomId={}, messageId={}, woken={}", chatRoomId, message.getId(), woken);
+    }
+
+    /**
+     * 채팅방에 대기 중인 폴링 요청이 있는지 확인
+     */
+    public boolean hasWaiters(Long chatRoomId) {
+        return waitersByRoom.containsKey(chatRoomId);
+    }
+
+    /**
+     * 현재 대기 중인 폴링 요청 수 (모니터링용)
+     */
+    public int countWaiters() {
+        return waitersByRoom.values().stream()
+                .mapToInt(Set::size)
+                .sum();
+    }
+
+    private void remove(Long chatRoomId, Waiter waiter) {
+        waitersByRoom.computeIfPresent(chatRoomId, (id, waiters) -> {
+            waiters.remove(waiter);
+            return waiters.isEmpty() ? null : waiters;
+        });
+    }
+
+    private static final class Waiter {
+        private final long lastMessageId;
+        private final CompletableFuture<List<ChatMessage>> future = new CompletableFuture<>();
+
+        private Waiter(Long lastMessageId) {
+            this.lastMessageId = lastMessageId != null ? lastMessageId : 0L;
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.caring.caringbackend.domain.chat.service;
+
+import com.caring.caringbackend.api.internal.chat.dto.response.ChatUnreadCountResponse;
+import com.caring.caringbackend.domain.chat.entity.ChatReadState;
+import com.caring.caringbackend.domain.chat.entity.ChatRoom;
+import com.caring.caringbackend.domain.chat.entity.SenderType;
+import com.caring.caringbackend.domain.chat.event.ChatMessageSentEvent;
+import com.caring.caringbackend.domain.chat.repository.ChatMessageRepository;
+import com.caring.caringbackend.domain.chat.repository.ChatReadStateRepository;
+import com.caring.caringbackend.domain.institution.profile.entity.InstitutionAdmin;
+import com.caring.caringbackend.domain.institution.profile.repository.InstitutionAdminRepository;
+import com.caring.caringbackend.global.exception.BusinessException;
+import com.caring.caringbackend.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅 읽음 상태 / 안 읽은 메시지 수 서비스
+ * - 실시간 값은 Redis Hash로 관리 (참여자별 채팅방 → 값)
+ *   - chat:unread:{readerType}:{readerId}    : 안 읽은 메시지 수 (메시지 전송 시 HINCRBY)
+ *   - chat:last-read:{readerType}:{readerId} : 마지막으로 읽은 메시지 ID
+ *   - chat:read-state:restored:{readerType}:{readerId} : chat_read_state에서 복구를 마쳤는지 표시
+ * - 변경된 항목은 chat:read-state:dirty Set에 모아 주기적으로 chat_read_state 테이블에 일괄 저장
+ * - 기관 측 참여자는 기관 단위 (readerId = Institution.id)
+ */
+@Slf4j
+@Service
+public class ChatReadStateService {
+
+    private static final String UNREAD_KEY_PREFIX = "chat:unread:";
+    private static final String LAST_READ_KEY_PREFIX = "chat:last-read:";
+    private static final String RESTORED_KEY_PREFIX = "chat:read-state:restored:";
+    private static final String DIRTY_KEY = "chat:read-state:dirty";
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    /**
+     * 읽음 처리 반영 (채팅방 필드 단위 원자적 갱신)
+     * - KEYS: 읽은 위치 해시, 안 읽은 수 해시, dirty Set / ARGV: 채팅방 ID, 읽은 위치, 안 읽은 수, dirty 항목
+     * - 그 사이 더 앞선 위치로 읽음 처리되었으면 기존 값을 유지하고 반환
+     */
+    private static final RedisScript<List> MARK_AS_READ_SCRIPT = RedisScript.of("""
+            local current = redis.call('HGET', KEYS[1], ARGV[1])
+            if current and tonumber(current) > tonumber(ARGV[2]) then
+                return {tonumber(current), tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0')}
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('HSET', KEYS[2], ARGV[1], ARGV[3])
+            redis.call('SADD', KEYS[3], ARGV[4])
+            return {tonumber(ARGV[2]), tonumber(ARGV[3])}
+            """, List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChatService chatService;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatReadStateRepository chatReadStateRepository;
+    private final InstitutionAdminRepository institutionAdminRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public ChatReadStateService(StringRedisTemplate stringRedisTemplate,
+                                ChatService chatService,
+                                ChatMessageRepository chatMessageRepository,
+                                ChatReadStateRepository chatReadStateRepository,
+                                InstitutionAdminRepository institutionAdminRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.chatService = chatService;
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatReadStateRepository = chatReadStateRepository;
+        this.institutionAdminRepository = institutionAdminRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 메시지 전송 커밋 후 수신자의 안 읽은 메시지 수 증가
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMessageSent(ChatMessageSentEvent event) {
+        ChatRoom chatRoom = event.message().getChatRoom();
+        Reader recipient = event.message().getSenderType() == SenderType.MEMBER
+                ? new Reader(SenderType.INSTITUTION_ADMIN, chatRoom.getInstitutionId())
+                : new Reader(SenderType.MEMBER, chatRoom.getMemberId());
+
+        try {
+            hashOperations().increment(recipient.unreadKey(), String.valueOf(event.chatRoomId()), 1);
+            markDirty(recipient, event.chatRoomId());
+        } catch (Exception e) {
+            log.warn("안 읽은 메시지 수 증가 실패: chatRoomId={}, readerType={}, readerId={}",
+                    event.chatRoomId(), recipient.type(), recipient.id(), e);
+        }
+    }
+
+    /**
+     * 읽음 처리
+     * - 마지막으로 읽은 메시지 ID는 앞으로만 이동
+     * - 안 읽은 메시지 수는 읽은 위치 이후 상대방 메시지 수로 재계산
+     * - DB 집계는 Redis 갱신 전에 수행하고, 해당 채팅방 필드만 Lua 스크립트로 원자적으로 갱신
+     *   (다른 채팅방의 메시지 수신과 충돌하지 않음)
+     *
+     * @param chatRoomId 채팅방 ID
+     * @param lastReadMessageId 마지막으로 읽은 메시지 ID
+     * @param userId 요청자 ID
+     * @param userType 요청자 유형
+     * @return 남은 안 읽은 메시지 수
+     */
+    @Transactional(readOnly = true)
+    public long markAsRead(Long chatRoomId, Long lastReadMessageId, Long userId, SenderType userType) {
+        // 1. 채팅방 조회 및 권한 검증
+        ChatRoom chatRoom = chatService.getChatRoomInfo(chatRoomId, userId, userType);
+        Reader reader = userType == SenderType.MEMBER
+                ? new Reader(SenderType.MEMBER, chatRoom.getMemberId())
+                : new Reader(SenderType.INSTITUTION_ADMIN, chatRoom.getInstitutionId());
+
+        String field = String.valueOf(chatRoomId);
+
+        // 2. 읽은 위치 결정 (뒤로 돌아가지 않음) 및 안 읽은 메시지 수 재계산
+        Long currentLastRead = toLong(hashOperations().get(reader.lastReadKey(), field));
+        long lastRead = currentLastRead != null ? Math.max(currentLastRead, lastReadMessageId) : lastReadMessageId;
+        long unreadCount = chatMessageRepository.countUnreadMessages(chatRoomId, lastRead, reader.type());
+
+        // 3. 채팅방 필드 원자적 갱신
+        List<?> applied = stringRedisTemplate.execute(MARK_AS_READ_SCRIPT,
+                List.of(reader.lastReadKey(), reader.unreadKey(), DIRTY_KEY),
+                field, String.valueOf(lastRead), String.valueOf(unreadCount), reader.dirtyEntry(chatRoomId));
+        if (applied != null && applied.size() == 2) {
+            lastRead = toLong(applied.get(0));
+            unreadCount = toLong(applied.get(1));
+        }
+
+        log.debug("채팅 읽음 처리: chatRoomId={}, readerType={}, readerId={}, lastRead={}, unread={}",
+                chatRoomId, reader.type(), reader.id(), lastRead, unreadCount);
+
+        return unreadCount;
+    }
+
+    /**
+     * 참여자의 전체 채팅방 안 읽은 메시지 수 조회
+     * - DB 조회 없이 Redis에서 응답
+     * - 복구 표시 키가 없으면 (Redis 초기화/유실) chat_read_state에서 Redis에 없는 항목만 복구
+     *
+     * @param userId 요청자 ID
+     * @param userType 요청자 유형
+     * @return 채팅방별 안 읽은 메시지 수
+     */
+    @Transactional(readOnly = true)
+    public ChatUnreadCountResponse getUnreadCounts(Long userId, SenderType userType) {
+        Reader reader = resolveReader(userId, userType);
+
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(reader.restoredKey()))) {
+            restoreFromDatabase(reader);
+        }
+
+        Map<Object, Object> unreadCounts = hashOperations().entries(reader.unreadKey());
+        Map<Object, Object> lastReads = hashOperations().entries(reader.lastReadKey());
+
+        List<ChatUnreadCountResponse.RoomUnreadCount> rooms = unreadCounts.entrySet().stream()
+                .map(entry -> ChatUnreadCountResponse.RoomUnreadCount.builder()
+                        .chatRoomId(Long.valueOf(entry.getKey().toString()))
+                        .unreadCount(toLong(entry.getValue()))
+                        .lastReadMessageId(toLong(lastReads.get(entry.getKey())))
+                        .build())
+                .toList();
+
+        return ChatUnreadCountResponse.of(rooms);
+    }
+
+    /**
+     * 변경된 읽음 상태 일괄 저장
+     * 5초마다 실행
+     * - 저장이 실패하면 꺼낸 항목을 dirty Set에 되돌려 다음 주기에 재시도
+     */
+    @Scheduled(fixedDelay = 5000)
+    public void flush() {
+        List<String> dirtyEntries = stringRedisTemplate.opsForSet().pop(DIRTY_KEY, FLUSH_BATCH_SIZE);
+        if (dirtyEntries == null || dirtyEntries.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> dirtyEntries.forEach(this::saveEntry));
+        } catch (RuntimeException e) {
+            log.warn("채팅 읽음 상태 일괄 저장 실패, 다음 주기에 재시도: {}건", dirtyEntries.size(), e);
+            requeue(dirtyEntries);
+            return;
+        }
+
+        log.debug("채팅 읽음 상태 일괄 저장: {}건", dirtyEntries.size());
+    }
+
+    private void saveEntry(String entry) {
+        String[] parts = entry.split(":");
+        Reader reader = new Reader(SenderType.valueOf(parts[0]), Long.valueOf(parts[1]));
+        Long chatRoomId = Long.valueOf(parts[2]);
+        String field = String.valueOf(chatRoomId);
+
+        Long unreadCount = toLong(hashOperations().get(reader.unreadKey(), field));
+        Long lastReadMessageId = toLong(hashOperations().get(reader.lastReadKey(), field));
+
+        chatReadStateRepository.upsert(chatRoomId, reader.type().name(), reader.id(),
+                lastReadMessageId, unreadCount != null ? unreadCount : 0L);
+    }
+
+    private void requeue(List<String> dirtyEntries) {
+        try {
+            stringRedisTemplate.opsForSet().add(DIRTY_KEY, dirtyEntries.toArray(String[]::new));
+        } catch (DataAccessException e) {
+            log.error("채팅 읽음 상태 재시도 등록 실패: {}건", dirtyEntries.size(), e);
+        }
+    }
+
+    /**
+     * chat_read_state에서 Redis 복구
+     * - 복구 전에 Redis에 이미 기록된 항목(복구 이후 증가/읽음 처리)은 덮어쓰지 않음
+     * - 복구를 마치면 표시 키를 남겨, 이후에는 해시가 비어 있어도 다시 복구하지 않음
+     */
+    private void restoreFromDatabase(Reader reader) {
+        List<ChatReadState> states = chatReadStateRepository.findAllByReader(reader.type(), reader.id());
+        for (ChatReadState state : states) {
+            String field = String.valueOf(state.getChatRoom().getId());
+            hashOperations().putIfAbsent(reader.unreadKey(), field, String.valueOf(state.getUnreadCount()));
+            if (state.getLastReadMessageId() != null) {
+                hashOperations().putIfAbsent(reader.lastReadKey(), field, String.valueOf(state.getLastReadMessageId()));
+            }
+        }
+        stringRedisTemplate.opsForValue().set(reader.restoredKey(), "1");
+
+        log.debug("채팅 읽음 상태 Redis 복구: readerType={}, readerId={}, rooms={}",
+                reader.type(), reader.id(), states.size());
+    }
+
+    private Reader resolveReader(Long userId, SenderType userType) {
+        if (userType == SenderType.MEMBER) {
+            return new Reader(SenderType.MEMBER, userId);
+        }
+
+        InstitutionAdmin admin = institutionAdminRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ADMIN_NOT_FOUND));
+        if (!admin.hasInstitution()) {
+            throw new BusinessException(ErrorCode.ADMIN_HAS_NO_INSTITUTION);
+        }
+        return new Reader(SenderType.INSTITUTION_ADMIN, admin.getInstitution().getId());
+    }
+
+    private void markDirty(Reader reader, Long chatRoomId) {
+        stringRedisTemplate.opsForSet().add(DIRTY_KEY, reader.dirtyEntry(chatRoomId));
+    }
+
+    private HashOperations<String, Object, Object> hashOperations() {
+        return stringRedisTemplate.opsForHash();
+    }
+
+    private static Long toLong(Object value) {
+        return value != null ? Long.valueOf(value.toString()) : null;
+    }
+
+    /**
+     * 읽음 상태 참여자 (회원 또는 기관)
+     */
+    private record Reader(SenderType type, Long id) {
+
+        String unreadKey() {
+            return UNREAD_KEY_PREFIX + type + ":" + id;
+        }
+
+        String lastReadKey() {
+            return LAST_READ_KEY_PREFIX + type + ":" + id;
+        }
+
+        String restoredKey() {
+            return RESTORED_KEY_PREFIX + type + ":" + id;
+        }
+
+        String dirtyEntry(Long chatRoomId) {
+            return type + ":" + id + ":" + chatRoomId;
+        }
+    }
+}
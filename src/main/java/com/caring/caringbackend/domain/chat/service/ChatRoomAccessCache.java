@@ -0,0 +1,92 @@
+package com.caring.caringbackend.domain.chat.service;
+
+import com.caring.caringbackend.domain.chat.entity.SenderType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 채팅방 접근 권한 캐시 (인메모리, 크기 제한 + TTL)
+ * <p>
+ * (채팅방 ID, 요청자 유형, 요청자 ID)별로 권한 검증이 통과한 결과(채팅방의 회원/기관)를 보관하여
+ * 반복되는 채팅 요청마다 채팅방 fetch join 조회와 기관 관리자 조회를 생략합니다.
+ * - 상담 종료, 회원 탈퇴, 기관 관리자 소속 해제, 기관 삭제 시 무효화
+ *   (트랜잭션 안에서 호출되면 커밋 후 실행, 커밋 전에 다른 요청이 이전 상태로 다시 캐시하는 것을 막음)
+ * - 노드별 캐시이므로 다른 노드의 변경은 TTL 이내에 반영
+ */
+@Component
+public class ChatRoomAccessCache {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+    private static final long MAXIMUM_SIZE = 10_000;
+
+    private final Cache<AccessKey, ChatRoomAccess> cache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(TTL)
+            .build();
+
+    public Optional<ChatRoomAccess> get(Long chatRoomId, SenderType principalType, Long principalId) {
+        return Optional.ofNullable(cache.getIfPresent(new AccessKey(chatRoomId, principalType, principalId)));
+    }
+
+    public void put(Long chatRoomId, SenderType principalType, Long principalId, ChatRoomAccess access) {
+        cache.put(new AccessKey(chatRoomId, principalType, principalId), access);
+    }
+
+    /**
+     * 채팅방의 모든 권한 캐시 무효화 (상담 종료 시)
+     */
+    public void invalidateChatRoom(Long chatRoomId) {
+        afterCommit(() -> cache.asMap().keySet().removeIf(key -> key.chatRoomId().equals(chatRoomId)));
+    }
+
+    /**
+     * 요청자의 모든 권한 캐시 무효화 (회원 탈퇴, 기관 관리자 소속 해제 시)
+     */
+    public void invalidatePrincipal(SenderType principalType, Long principalId) {
+        afterCommit(() -> cache.asMap().keySet().removeIf(key ->
+                key.principalType() == principalType && key.principalId().equals(principalId)));
+    }
+
+    /**
+     * 기관 관리자들의 해당 기관 채팅방 권한 캐시 무효화 (기관 삭제 시)
+     */
+    public void invalidateInstitution(Long institutionId) {
+        afterCommit(() -> cache.asMap().entrySet().removeIf(entry ->
+                entry.getKey().principalType() == SenderType.INSTITUTION_ADMIN
+                        && entry.getValue().institutionId().equals(institutionId)));
+    }
+
+    /**
+     * 트랜잭션 커밋 후 실행 (트랜잭션 밖이면 즉시 실행, 롤백되면 실행하지 않음)
+     */
+    private static void afterCommit(Runnable invalidation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidation.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidation.run();
+            }
+        });
+    }
+
+    /**
+     * 권한 검증이 통과한 채팅방의 소유 정보
+     *
+     * @param memberId 채팅방 회원 ID
+     * @param institutionId 채팅방 기관 ID
+     */
+    public record ChatRoomAccess(Long memberId, Long institutionId) {
+    }
+
+    private record AccessKey(Long chatRoomId, SenderType principalType, Long principalId) {
+    }
+}
@@ -0,0 +1,132 @@
+package com.caring.caringbackend.domain.chat.service;
+
+import com.caring.caringbackend.domain.chat.entity.ChatRoom;
+import com.caring.caringbackend.domain.chat.event.ChatMessageSentEvent;
+import com.caring.caringbackend.domain.chat.repository.ChatRoomRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방 마지막 메시지 쓰기 지연(write-behind) 버퍼
+ * <p>
+ * 메시지 전송마다 chat_room 행을 갱신하지 않고, 채팅방별 최신값만 메모리에 보관했다가
+ * 주기적으로 한 트랜잭션에서 일괄 UPDATE 합니다.
+ * - 메시지 전송 커밋 후에만 기록 (롤백된 전송은 미리보기에 남지 않음)
+ * - 같은 채팅방의 연속 메시지는 하나의 UPDATE로 합쳐짐
+ * - 일괄 UPDATE가 커밋된 뒤에만 버퍼에서 제거 (실패 시 다음 주기에 재시도)
+ * - 상담 종료 시에는 즉시 반영 ({@link #applyTo(ChatRoom)})
+ * - 목록 조회 시 아직 반영되지 않은 값을 병합 ({@link #get(Long)})
+ */
+@Slf4j
+@Component
+public class ChatRoomLastMessageBuffer {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, LastMessage> pending = new ConcurrentHashMap<>();
+
+    public ChatRoomLastMessageBuffer(ChatRoomRepository chatRoomRepository,
+                                     PlatformTransactionManager transactionManager) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 메시지 전송 커밋 후 마지막 메시지 기록
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMessageSent(ChatMessageSentEvent event) {
+        record(event.chatRoomId(), event.message().getContent(), event.message().getCreatedAt());
+    }
+
+    /**
+     * 마지막 메시지 기록 (더 최신 값만 유지)
+     */
+    public void record(Long chatRoomId, String content, LocalDateTime sentAt) {
+        pending.merge(chatRoomId, new LastMessage(content, sentAt),
+                (existing, candidate) -> candidate.isNewerThan(existing) ? candidate : existing);
+    }
+
+    /**
+     * 아직 반영되지 않은 마지막 메시지 조회
+     *
+     * @return 버퍼에 없으면 null
+     */
+    public LastMessage get(Long chatRoomId) {
+        return pending.get(chatRoomId);
+    }
+
+    /**
+     * 버퍼의 값을 엔티티에 바로 반영 (상담 종료 시)
+     * - 영속 상태 엔티티의 변경 감지로 함께 저장됨
+     * - 종료 트랜잭션이 롤백될 수 있으므로 버퍼에서는 제거하지 않음 (이후 일괄 반영은 더 최신일 때만 갱신)
+     */
+    public void applyTo(ChatRoom chatRoom) {
+        LastMessage lastMessage = pending.get(chatRoom.getId());
+        if (lastMessage != null && lastMessage.isNewerThan(chatRoom.getLastMessageAt())) {
+            chatRoom.updateLastMessage(lastMessage.content(), lastMessage.sentAt());
+        }
+    }
+
+    /**
+     * 버퍼 일괄 반영
+     * 1초마다 실행
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Long, LastMessage> snapshot = new HashMap<>(pending);
+        try {
+            transactionTemplate.executeWithoutResult(status -> snapshot.forEach((chatRoomId, lastMessage) ->
+                    chatRoomRepository.updateLastMessageIfNewer(chatRoomId, lastMessage.content(), lastMessage.sentAt())));
+        } catch (RuntimeException e) {
+            log.warn("채팅방 마지막 메시지 일괄 반영 실패, 다음 주기에 재시도: {}건", snapshot.size(), e);
+            return;
+        }
+
+        // 커밋 후 제거 (플러시 중 더 최신 값이 들어왔다면 남겨 두고 다음 주기에 반영)
+        snapshot.forEach(pending::remove);
+        log.debug("채팅방 마지막 메시지 일괄 반영: {}건", snapshot.size());
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 값 반영
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 채팅방 마지막 메시지 값
+     *
+     * @param content 메시지 내용
+     * @param sentAt 전송 시간
+     */
+    public record LastMessage(String content, LocalDateTime sentAt) {
+
+        boolean isNewerThan(LastMessage other) {
+            return isNewerThan(other.sentAt());
+        }
+
+        boolean isNewerThan(LocalDateTime other) {
+            return other == null || !sentAt.isBefore(other);
+        }
+    }
+}
@@ -4,12 +4,15 @@ import com.caring.caringbackend.api.internal.chat.dto.response.ConsultRequestLis
 import com.caring.caringbackend.domain.chat.entity.ChatMessage;
 import com.caring.caringbackend.domain.chat.entity.ChatRoom;
 import com.caring.caringbackend.domain.chat.entity.SenderType;
+import com.caring.caringbackend.domain.chat.event.ChatMessageSentEvent;
 import com.caring.caringbackend.domain.chat.repository.ChatMessageRepository;
+import com.caring.caringbackend.domain.chat.repository.ChatMessageView;
 import com.caring.caringbackend.domain.chat.repository.ChatRoomRepository;
 import com.caring.caringbackend.domain.institution.counsel.entity.ConsultRequest;
 import com.caring.caringbackend.domain.institution.counsel.entity.enums.ConsultRequestStatus;
 import com.caring.caringbackend.domain.institution.counsel.entity.InstitutionCounsel;
 import com.caring.caringbackend.domain.institution.counsel.repository.ConsultRequestRepository;
+import com.caring.caringbackend.domain.institution.counsel.repository.ConsultRequestSummary;
 import com.caring.caringbackend.domain.institution.counsel.repository.InstitutionCounselRepository;
 import com.caring.caringbackend.domain.institution.profile.entity.Institution;
 import com.caring.caringbackend.domain.institution.profile.entity.InstitutionAdmin;
@@ -22,13 +25,18 @@ import com.caring.caringbackend.global.exception.ErrorCode;
 import com.caring.caringbackend.global.exception.MemberNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -47,6 +55,16 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ChatService {
 
+    /**
+     * 롱 폴링 타임아웃 (초)
+     */
+    public static final long POLL_TIMEOUT_SECONDS = 30;
+
+    /**
+     * 커서 기반 메시지 이력 조회 최대 건수
+     */
+    private static final int MAX_HISTORY_LIMIT = 100;
+
     private final ConsultRequestRepository consultRequestRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
@@ -54,6 +72,11 @@ public class ChatService {
     private final InstitutionRepository institutionRepository;
     private final InstitutionCounselRepository institutionCounselRepository;
     private final InstitutionAdminRepository institutionAdminRepository;
+    private final ChatMessageWaiterRegistry chatMessageWaiterRegistry;
+    private final ChatRoomLastMessageBuffer chatRoomLastMessageBuffer;
+    private final ChatRoomAccessCache chatRoomAccessCache;
+    private final ChatMessageArchiveService chatMessageArchiveService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 상담 시작 (ConsultRequest + ChatRoom 동시 생성)
@@ -144,8 +167,8 @@ public class ChatService {
         ChatMessage message = ChatMessage.create(chatRoom, senderType, senderId, content);
         ChatMessage savedMessage = chatMessageRepository.save(message);
 
-        // 6. 채팅방 마지막 메시지 정보 업데이트
-        chatRoom.updateLastMessage(content, savedMessage.getCreatedAt());
+        // 6. 커밋 후 롱 폴링 대기자 깨우기 및 마지막 메시지 기록 (쓰기 지연 버퍼, 주기적으로 일괄 반영)
+        eventPublisher.publishEvent(new ChatMessageSentEvent(chatRoomId, savedMessage));
 
         log.info("메시지 전송 완료: messageId={}, chatRoomId={}, senderType={}, senderId={}",
                 savedMessage.getId(), chatRoomId, senderType, senderId);
@@ -164,12 +187,18 @@ public class ChatService {
      * @param pageable 페이징 정보
      * @return 메시지 목록
      */
-    public Page<ChatMessage> getMessages(Long chatRoomId, Long userId, SenderType userType, Pageable pageable) {
-        // 1. 채팅방 조회 및 권한 검증
-        getChatRoomWithPermission(chatRoomId, userId, userType);
+    public Page<ChatMessageView> getMessages(Long chatRoomId, Long userId, SenderType userType, Pageable pageable) {
+        // 1. 권한 검증 (캐시 적중 시 DB 조회 생략)
+        authorize(chatRoomId, userId, userType);
 
         // 2. 메시지 목록 조회 (Soft Delete 제외)
-        Page<ChatMessage> messages = chatMessageRepository.findByChatRoomIdAndNotDeleted(chatRoomId, pageable);
+        Page<ChatMessageView> messages = chatMessageRepository.findByChatRoomIdAndNotDeleted(chatRoomId, pageable)
+                .map(ChatMessageView::from);
+
+        // 3. 메시지가 없으면 보관된 채팅방인지 확인 (보관 데이터에서 복원)
+        if (messages.getTotalElements() == 0) {
+            messages = chatMessageArchiveService.findArchivedPage(chatRoomId, pageable).orElse(messages);
+        }
 
         log.debug("메시지 목록 조회: chatRoomId={}, userId={}, userType={}, totalElements={}",
                 chatRoomId, userId, userType, messages.getTotalElements());
@@ -178,47 +207,68 @@ public class ChatService {
     }
 
     /**
-     * 롱 폴링 - 신규 메시지 대기
-     * - lastMessageId 이후의 신규 메시지 조회
-     * - 타임아웃: 30초
-     * - 폴링 간격: 0.5초
+     * 메시지 이력 조회 (커서 기반)
+     * - beforeMessageId 이전 메시지를 최신순으로 limit건 조회 (null이면 가장 최신부터)
+     * - 전체 건수(COUNT)를 계산하지 않고 다음 페이지 존재 여부만 반환
      *
      * @param chatRoomId 채팅방 ID
-     * @param lastMessageId 마지막 메시지 ID
+     * @param beforeMessageId 커서 (이 ID보다 이전 메시지 조회)
+     * @param limit 조회 건수 (최대 100)
      * @param userId 요청자 ID
      * @param userType 요청자 유형
-     * @return 신규 메시지 목록 (없으면 빈 리스트)
+     * @return 메시지 Slice
      */
-    public List<ChatMessage> pollMessages(Long chatRoomId, Long lastMessageId, Long userId, SenderType userType) {
-        // 1. 채팅방 조회 및 권한 검증
-        getChatRoomWithPermission(chatRoomId, userId, userType);
-
-        // 2. 롱 폴링 로직
-        long startTime = System.currentTimeMillis();
-        long timeout = 30000; // 30초
-        long pollingInterval = 500; // 0.5초
+    public Slice<ChatMessageView> getMessageHistory(
+            Long chatRoomId, Long beforeMessageId, int limit, Long userId, SenderType userType) {
+        // 1. 권한 검증 (캐시 적중 시 DB 조회 생략)
+        authorize(chatRoomId, userId, userType);
+
+        // 2. 커서 이전 메시지 조회 (인덱스 범위 스캔)
+        long cursor = beforeMessageId != null ? beforeMessageId : Long.MAX_VALUE;
+        int size = Math.min(Math.max(limit, 1), MAX_HISTORY_LIMIT);
+        Slice<ChatMessageView> messages = chatMessageRepository.findByChatRoomIdBeforeIdAndNotDeleted(
+                chatRoomId, cursor, PageRequest.of(0, size)).map(ChatMessageView::from);
+
+        // 3. 조회 결과가 없으면 보관된 채팅방인지 확인 (보관 데이터에서 복원)
+        if (!messages.hasContent()) {
+            messages = chatMessageArchiveService.findArchivedSliceBefore(chatRoomId, cursor, size).orElse(messages);
+        }
 
-        while (System.currentTimeMillis() - startTime < timeout) {
-            // 신규 메시지 조회
-            List<ChatMessage> newMessages = chatMessageRepository.findNewMessages(chatRoomId, lastMessageId);
+        log.debug("메시지 이력 조회: chatRoomId={}, beforeMessageId={}, size={}, hasNext={}",
+                chatRoomId, beforeMessageId, messages.getNumberOfElements(), messages.hasNext());
 
-            if (!newMessages.isEmpty()) {
-                log.debug("신규 메시지 발견: chatRoomId={}, count={}", chatRoomId, newMessages.size());
-                return newMessages;
-            }
+        return messages;
+    }
 
-            // 폴링 간격만큼 대기
-            try {
-                Thread.sleep(pollingInterval);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.warn("롱 폴링 중단: chatRoomId={}", chatRoomId);
-                break;
-            }
+    /**
+     * 롱 폴링 - 신규 메시지 대기
+     * - lastMessageId 이후의 신규 메시지가 이미 있으면 즉시 반환
+     * - 없으면 채팅방 대기자 레지스트리에 등록 후 반환 (DB 커넥션/스레드 점유 없음)
+     * - sendMessage 커밋 시 대기자가 깨어나며, 타임아웃(30초) 시 빈 리스트로 완료
+     *
+     * @param chatRoomId 채팅방 ID
+     * @param lastMessageId 마지막 메시지 ID
+     * @param userId 요청자 ID
+     * @param userType 요청자 유형
+     * @return 신규 메시지 목록을 담은 Future (타임아웃 시 빈 리스트)
+     */
+    public CompletableFuture<List<ChatMessage>> pollMessages(Long chatRoomId, Long lastMessageId, Long userId, SenderType userType) {
+        // 1. 권한 검증 (캐시 적중 시 DB 조회 생략)
+        authorize(chatRoomId, userId, userType);
+
+        // 2. 대기자 먼저 등록 (등록과 조회 사이에 커밋된 메시지 유실 방지)
+        CompletableFuture<List<ChatMessage>> waiter = chatMessageWaiterRegistry.register(chatRoomId, lastMessageId);
+
+        // 3. 이미 도착한 신규 메시지 확인
+        List<ChatMessage> newMessages = chatMessageRepository.findNewMessages(chatRoomId, lastMessageId);
+        if (!newMessages.isEmpty()) {
+            log.debug("신규 메시지 발견: chatRoomId={}, count={}", chatRoomId, newMessages.size());
+            waiter.complete(newMessages);
+            return waiter;
         }
 
-        log.debug("롱 폴링 타임아웃: chatRoomId={}, lastMessageId={}", chatRoomId, lastMessageId);
-        return List.of(); // 타임아웃 시 빈 리스트 반환
+        // 4. 신규 메시지 도착 또는 타임아웃까지 대기
+        return waiter.completeOnTimeout(List.of(), POLL_TIMEOUT_SECONDS, TimeUnit.SECONDS);
     }
 
     /**
@@ -232,8 +282,8 @@ public class ChatService {
      */
     @Transactional
     public void deleteMessage(Long chatRoomId, Long messageId, Long userId, SenderType userType) {
-        // 1. 채팅방 조회 및 권한 검증
-        getChatRoomWithPermission(chatRoomId, userId, userType);
+        // 1. 권한 검증 (캐시 적중 시 DB 조회 생략)
+        authorize(chatRoomId, userId, userType);
 
         // 2. 메시지 조회
         ChatMessage message = chatMessageRepository.findById(messageId)
@@ -304,15 +354,35 @@ public class ChatService {
         ConsultRequest consultRequest = chatRoom.getConsultRequest();
         consultRequest.close();
 
-        // 4. ChatRoom 비활성화
+        // 4. 버퍼에 남은 마지막 메시지 반영 후 ChatRoom 비활성화 (권한 캐시는 커밋 후 무효화)
+        chatRoomLastMessageBuffer.applyTo(chatRoom);
         chatRoom.deactivate();
+        chatRoomAccessCache.invalidateChatRoom(chatRoomId);
 
         log.info("상담 종료 완료: chatRoomId={}, consultRequestId={}, userId={}, userType={}",
                 chatRoomId, consultRequest.getId(), userId, userType);
     }
 
+    /**
+     * 권한 검증 헬퍼 메서드
+     * - 채팅방 엔티티가 필요 없는 요청용 (메시지 조회/폴링/삭제)
+     * - 권한 캐시 적중 시 DB 조회 없이 통과
+     *
+     * @param chatRoomId 채팅방 ID
+     * @param userId 요청자 ID
+     * @param userType 요청자 유형
+     */
+    private void authorize(Long chatRoomId, Long userId, SenderType userType) {
+        if (chatRoomAccessCache.get(chatRoomId, userType, userId).isPresent()) {
+            return;
+        }
+        getChatRoomWithPermission(chatRoomId, userId, userType);
+    }
+
     /**
      * 채팅방 조회 및 권한 검증 헬퍼 메서드
+     * - 검증 통과 시 권한 캐시에 저장
+     * - 기관 관리자는 권한 캐시에 소속 기관이 있으면 관리자 조회 생략
      *
      * @param chatRoomId 채팅방 ID
      * @param userId 요청자 ID
@@ -320,34 +390,40 @@ public class ChatService {
      * @return 채팅방
      */
     private ChatRoom getChatRoomWithPermission(Long chatRoomId, Long userId, SenderType userType) {
+        ChatRoom chatRoom;
         if (userType == SenderType.MEMBER) {
             // 회원: 본인의 채팅방인지 확인
-            return chatRoomRepository.findByIdAndMemberId(chatRoomId, userId)
+            chatRoom = chatRoomRepository.findByIdAndMemberId(chatRoomId, userId)
                     .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ACCESS_DENIED));
         } else if (userType == SenderType.INSTITUTION_ADMIN) {
             // 기관 관리자: 소속 기관의 채팅방인지 확인
-            InstitutionAdmin admin = institutionAdminRepository.findById(userId)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.ADMIN_NOT_FOUND));
+            Long institutionId = chatRoomAccessCache.get(chatRoomId, userType, userId)
+                    .map(ChatRoomAccessCache.ChatRoomAccess::institutionId)
+                    .orElseGet(() -> getAdminInstitutionId(userId));
 
-            if (!admin.hasInstitution()) {
-                throw new BusinessException(ErrorCode.ADMIN_HAS_NO_INSTITUTION);
-            }
-
-            return chatRoomRepository.findByIdAndInstitutionId(chatRoomId, admin.getInstitution().getId())
+            chatRoom = chatRoomRepository.findByIdAndInstitutionId(chatRoomId, institutionId)
                     .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ACCESS_DENIED));
         } else {
             throw new BusinessException(ErrorCode.INVALID_SENDER_TYPE);
         }
+
+        cacheAccess(chatRoom, userType, userId);
+        return chatRoom;
     }
 
     /**
      * 발신자 권한 검증 헬퍼 메서드
+     * - 권한 캐시 적중 시 기관 관리자 조회 생략
      *
      * @param chatRoom 채팅방
      * @param senderType 발신자 유형
      * @param senderId 발신자 ID
      */
     private void validateSenderPermission(ChatRoom chatRoom, SenderType senderType, Long senderId) {
+        if (chatRoomAccessCache.get(chatRoom.getId(), senderType, senderId).isPresent()) {
+            return;
+        }
+
         if (senderType == SenderType.MEMBER) {
             // 회원: 본인의 채팅방인지 확인
             if (!chatRoom.getMemberId().equals(senderId)) {
@@ -355,93 +431,98 @@ public class ChatService {
             }
         } else if (senderType == SenderType.INSTITUTION_ADMIN) {
             // 기관 관리자: 소속 기관의 채팅방인지 확인
-            InstitutionAdmin admin = institutionAdminRepository.findById(senderId)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.ADMIN_NOT_FOUND));
-
-            if (!admin.hasInstitution()) {
-                throw new BusinessException(ErrorCode.ADMIN_HAS_NO_INSTITUTION);
-            }
-
-            if (!chatRoom.getInstitutionId().equals(admin.getInstitution().getId())) {
+            if (!chatRoom.getInstitutionId().equals(getAdminInstitutionId(senderId))) {
                 throw new BusinessException(ErrorCode.CHAT_ACCESS_DENIED);
             }
         } else {
             throw new BusinessException(ErrorCode.INVALID_SENDER_TYPE);
         }
+
+        cacheAccess(chatRoom, senderType, senderId);
+    }
+
+    /**
+     * 기관 관리자의 소속 기관 ID 조회 헬퍼 메서드
+     *
+     * @param adminId 기관 관리자 ID
+     * @return 소속 기관 ID
+     */
+    private Long getAdminInstitutionId(Long adminId) {
+        InstitutionAdmin admin = institutionAdminRepository.findById(adminId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ADMIN_NOT_FOUND));
+
+        if (!admin.hasInstitution()) {
+            throw new BusinessException(ErrorCode.ADMIN_HAS_NO_INSTITUTION);
+        }
+
+        return admin.getInstitution().getId();
+    }
+
+    private void cacheAccess(ChatRoom chatRoom, SenderType userType, Long userId) {
+        chatRoomAccessCache.put(chatRoom.getId(), userType, userId,
+                new ChatRoomAccessCache.ChatRoomAccess(chatRoom.getMemberId(), chatRoom.getInstitutionId()));
+    }
+
+    /**
+     * 채팅방 마지막 메시지 조회 헬퍼 메서드
+     * - 쓰기 지연 버퍼에 아직 반영되지 않은 더 최신 값이 있으면 우선 사용
+     *
+     * @param chatRoomId 채팅방 ID (없으면 null)
+     * @param persistedContent DB에 저장된 마지막 메시지 내용
+     * @param persistedAt DB에 저장된 마지막 메시지 시각
+     * @return 마지막 메시지 (없으면 null)
+     */
+    private ChatRoomLastMessageBuffer.LastMessage resolveLastMessage(
+            Long chatRoomId, String persistedContent, LocalDateTime persistedAt) {
+        if (chatRoomId == null) {
+            return null;
+        }
+
+        ChatRoomLastMessageBuffer.LastMessage pending = chatRoomLastMessageBuffer.get(chatRoomId);
+        if (pending != null && pending.isNewerThan(persistedAt)) {
+            return pending;
+        }
+        return new ChatRoomLastMessageBuffer.LastMessage(persistedContent, persistedAt);
     }
 
     /**
      * 회원의 상담 내역 목록 조회
      * - 마이페이지 상담 내역 조회용
+     * - 상담 요청과 채팅방 마지막 메시지를 단일 프로젝션 쿼리로 조회
      *
      * @param memberId 회원 ID
      * @param status 필터링할 상태 (null이면 전체)
      * @param pageable 페이징 정보
+     * @param includeTotal 전체 개수 포함 여부 (false면 COUNT 쿼리 생략, 무한 스크롤용)
      * @return 상담 내역 목록
      */
-    public ConsultRequestListResponse getMyConsultRequests(Long memberId, ConsultRequestStatus status, Pageable pageable) {
+    public ConsultRequestListResponse getMyConsultRequests(
+            Long memberId, ConsultRequestStatus status, Pageable pageable, boolean includeTotal) {
         // 1. 회원 존재 확인
         memberRepository.findByIdAndDeletedFalse(memberId)
                 .orElseThrow(() -> new MemberNotFoundException(memberId));
 
-        // 2. 상담 요청 목록 조회 (페이징)
-        Page<ConsultRequest> consultRequests = consultRequestRepository.findByMemberIdWithDetailsPaged(
-                memberId, status, pageable);
-
-        // 3. ChatRoom 배치 조회 (N+1 문제 방지)
-        List<Long> consultRequestIds = consultRequests.getContent().stream()
-                .map(ConsultRequest::getId)
-                .collect(Collectors.toList());
-        List<ChatRoom> chatRooms = chatRoomRepository.findAllByConsultRequestIdIn(consultRequestIds);
-        
-        // ConsultRequest ID -> ChatRoom 매핑 (빠른 조회를 위한 Map)
-        Map<Long, ChatRoom> chatRoomMap = chatRooms.stream()
-                .collect(Collectors.toMap(
-                        room -> room.getConsultRequest().getId(),
-                        room -> room,
-                        (existing, replacement) -> existing
-                ));
-
-        // 4. DTO 변환
-        List<ConsultRequestListResponse.ConsultRequestItem> items = consultRequests.getContent().stream()
-                .map(request -> {
-                    ChatRoom chatRoom = chatRoomMap.get(request.getId());
+        // 2. 상담 요청 목록 조회 (채팅방 마지막 메시지 포함)
+        Slice<ConsultRequestSummary> consultRequests = consultRequestRepository.findSummariesByMemberId(
+                memberId, status, pageable, includeTotal);
 
-                    return ConsultRequestListResponse.ConsultRequestItem.builder()
-                            .id(request.getId())
-                            .chatRoomId(chatRoom != null ? chatRoom.getId() : null)
-                            .institution(ConsultRequestListResponse.ConsultRequestItem.InstitutionInfo.builder()
-                                    .id(request.getInstitution().getId())
-                                    .name(request.getInstitution().getName())
-                                    .build())
-                            .counsel(ConsultRequestListResponse.ConsultRequestItem.CounselInfo.builder()
-                                    .id(request.getCounsel().getId())
-                                    .title(request.getCounsel().getTitle())
-                                    .build())
-                            .status(request.getStatus())
-                            .lastMessageContent(chatRoom != null ? chatRoom.getLastMessageContent() : null)
-                            .lastMessageAt(chatRoom != null ? chatRoom.getLastMessageAt() : null)
-                            .createdAt(request.getCreatedAt())
-                            .closedAt(request.getClosedAt())
-                            .build();
-                })
-                .collect(Collectors.toList());
-
-        return ConsultRequestListResponse.of(consultRequests, items);
+        // 3. DTO 변환
+        return ConsultRequestListResponse.of(consultRequests, toConsultRequestItems(consultRequests));
     }
 
     /**
      * 기관의 상담 요청 목록 조회
      * - 기관 관리자 상담 요청 관리용
+     * - 상담 요청과 채팅방 마지막 메시지를 단일 프로젝션 쿼리로 조회
      *
-     * @param institutionId 기관 ID
      * @param adminId 기관 관리자 ID (권한 검증용)
      * @param status 필터링할 상태 (null이면 전체)
      * @param pageable 페이징 정보
+     * @param includeTotal 전체 개수 포함 여부 (false면 COUNT 쿼리 생략, 무한 스크롤용)
      * @return 상담 요청 목록
      */
     public ConsultRequestListResponse getInstitutionConsultRequests(
-            Long adminId, ConsultRequestStatus status, Pageable pageable) {
+            Long adminId, ConsultRequestStatus status, Pageable pageable, boolean includeTotal) {
         // 1. 기관 관리자 조회 및 기관 ID 추출
         InstitutionAdmin admin = institutionAdminRepository.findById(adminId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ADMIN_NOT_FOUND));
@@ -452,50 +533,39 @@ public class ChatService {
 
         Long institutionId = admin.getInstitution().getId();
 
-        // 2. 상담 요청 목록 조회 (페이징)
-        Page<ConsultRequest> consultRequests = consultRequestRepository.findByInstitutionIdWithDetailsPaged(
-                institutionId, status, pageable);
+        // 2. 상담 요청 목록 조회 (채팅방 마지막 메시지 포함)
+        Slice<ConsultRequestSummary> consultRequests = consultRequestRepository.findSummariesByInstitutionId(
+                institutionId, status, pageable, includeTotal);
 
-        // 3. ChatRoom 배치 조회 (N+1 문제 방지)
-        List<Long> consultRequestIds = consultRequests.getContent().stream()
-                .map(ConsultRequest::getId)
-                .collect(Collectors.toList());
-        List<ChatRoom> chatRooms = chatRoomRepository.findAllByConsultRequestIdIn(consultRequestIds);
-        
-        // ConsultRequest ID -> ChatRoom 매핑 (빠른 조회를 위한 Map)
-        Map<Long, ChatRoom> chatRoomMap = chatRooms.stream()
-                .collect(Collectors.toMap(
-                        room -> room.getConsultRequest().getId(),
-                        room -> room,
-                        (existing, replacement) -> existing
-                ));
-
-        // 4. DTO 변환
-        List<ConsultRequestListResponse.ConsultRequestItem> items = consultRequests.getContent().stream()
+        // 3. DTO 변환
+        return ConsultRequestListResponse.of(consultRequests, toConsultRequestItems(consultRequests));
+    }
+
+    private List<ConsultRequestListResponse.ConsultRequestItem> toConsultRequestItems(
+            Slice<ConsultRequestSummary> consultRequests) {
+        return consultRequests.getContent().stream()
                 .map(request -> {
-                    ChatRoom chatRoom = chatRoomMap.get(request.getId());
+                    ChatRoomLastMessageBuffer.LastMessage lastMessage = resolveLastMessage(
+                            request.chatRoomId(), request.lastMessageContent(), request.lastMessageAt());
 
                     return ConsultRequestListResponse.ConsultRequestItem.builder()
-                            .id(request.getId())
-                            .chatRoomId(chatRoom != null ? chatRoom.getId() : null)
+                            .id(request.id())
+                            .chatRoomId(request.chatRoomId())
                             .institution(ConsultRequestListResponse.ConsultRequestItem.InstitutionInfo.builder()
-                                    .id(request.getInstitution().getId())
-                                    .name(request.getInstitution().getName())
+                                    .id(request.institutionId())
+                                    .name(request.institutionName())
                                     .build())
                             .counsel(ConsultRequestListResponse.ConsultRequestItem.CounselInfo.builder()
-                                    .id(request.getCounsel().getId())
-                                    .title(request.getCounsel().getTitle())
+                                    .id(request.counselId())
+                                    .title(request.counselTitle())
                                     .build())
-                            .status(request.getStatus())
-                            .lastMessageContent(chatRoom != null ? chatRoom.getLastMessageContent() : null)
-                            .lastMessageAt(chatRoom != null ? chatRoom.getLastMessageAt() : null)
-                            .createdAt(request.getCreatedAt())
-                            .closedAt(request.getClosedAt())
+                            .status(request.status())
+                            .lastMessageContent(lastMessage != null ? lastMessage.content() : null)
+                            .lastMessageAt(lastMessage != null ? lastMessage.sentAt() : null)
+                            .createdAt(request.createdAt())
+                            .closedAt(request.closedAt())
                             .build();
                 })
                 .collect(Collectors.toList());
-
-        return ConsultRequestListResponse.of(consultRequests, items);
     }
 }
-
@@ -0,0 +1,125 @@
+package com.caring.caringbackend.domain.chat.service;
+
+import com.caring.caringbackend.api.internal.chat.dto.response.ChatMessageResponse;
+import com.caring.caringbackend.domain.chat.entity.ChatRoom;
+import com.caring.caringbackend.domain.chat.entity.SenderType;
+import com.caring.caringbackend.domain.chat.repository.ChatMessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅 실시간 스트림(SSE) 서비스
+ * - 채팅방 단위로 이 노드에 연결된 구독자를 관리
+ * - 노드 간 전달은 ChatMessageRelay(Redis Pub/Sub)가 담당하고, 이 서비스는 로컬 구독자에게만 전달
+ * - 재연결 시 Last-Event-ID(ChatMessage.id) 이후 메시지만 DB에서 보충
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatStreamService {
+
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(25);
+    private static final int SUBSCRIBER_BUFFER_SIZE = 256;
+
+    private final ChatService chatService;
+    private final ChatMessageRepository chatMessageRepository;
+
+    private final Map<Long, Set<Sinks.Many<ChatMessageResponse>>> subscribersByRoom = new ConcurrentHashMap<>();
+
+    /**
+     * 채팅방 메시지 스트림 구독
+     * - 구독자를 먼저 등록한 뒤 놓친 메시지를 조회하여, 그 사이 커밋된 메시지도 유실되지 않도록 함
+     *
+     * @param chatRoomId 채팅방 ID
+     * @param lastEventId 클라이언트가 마지막으로 받은 메시지 ID (없으면 신규 메시지만 전달)
+     * @param userId 요청자 ID
+     * @param userType 요청자 유형
+     * @return SSE 이벤트 스트림
+     */
+    public Flux<ServerSentEvent<ChatMessageResponse>> subscribe(
+            Long chatRoomId, Long lastEventId, Long userId, SenderType userType) {
+        // 1. 채팅방 조회 및 권한 검증 (발신자 이름 표시용 회원/기관 정보 포함)
+        ChatRoom chatRoom = chatService.getChatRoomInfo(chatRoomId, userId, userType);
+
+        // 2. 구독자 등록 (구독 전까지 도착한 메시지는 버퍼에 보관)
+        Sinks.Many<ChatMessageResponse> sink = Sinks.many().unicast()
+                .onBackpressureBuffer(Queues.<ChatMessageResponse>get(SUBSCRIBER_BUFFER_SIZE).get());
+        subscribersByRoom.compute(chatRoomId, (id, subscribers) -> {
+            Set<Sinks.Many<ChatMessageResponse>> roomSubscribers =
+                    subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            roomSubscribers.add(sink);
+            return roomSubscribers;
+        });
+
+        // 3. 재연결이면 Last-Event-ID 이후 메시지 보충
+        List<ChatMessageResponse> missed = lastEventId == null ? List.of()
+                : chatMessageRepository.findNewMessages(chatRoomId, lastEventId).stream()
+                        .map(message -> ChatMessageResponse.from(message, chatRoom.getSenderName(message.getSenderType())))
+                        .collect(Collectors.toList());
+        Set<Long> replayedIds = missed.stream()
+                .map(ChatMessageResponse::getId)
+                .collect(Collectors.toSet());
+
+        log.debug("채팅 스트림 구독: chatRoomId={}, userId={}, userType={}, lastEventId={}, replayed={}",
+                chatRoomId, userId, userType, lastEventId, missed.size());
+
+        Flux<ServerSentEvent<ChatMessageResponse>> messages = Flux.concat(
+                        Flux.fromIterable(missed),
+                        sink.asFlux().filter(message -> !replayedIds.contains(message.getId())))
+                .map(message -> ServerSentEvent.builder(message)
+                        .id(String.valueOf(message.getId()))
+                        .event("message")
+                        .build());
+
+        Flux<ServerSentEvent<ChatMessageResponse>> heartbeat = Flux.interval(HEARTBEAT_INTERVAL)
+                .map(tick -> ServerSentEvent.<ChatMessageResponse>builder().comment("heartbeat").build());
+
+        return Flux.merge(messages, heartbeat)
+                .doFinally(signal -> unregister(chatRoomId, sink));
+    }
+
+    /**
+     * 이 노드에 연결된 채팅방 구독자에게 메시지 전달
+     * - 버퍼가 가득 찬(느린) 구독자는 스트림을 종료하여 Last-Event-ID로 재연결하도록 함
+     *
+     * @param message 전달할 메시지
+     */
+    public void deliver(ChatMessageResponse message) {
+        Set<Sinks.Many<ChatMessageResponse>> subscribers = subscribersByRoom.get(message.getChatRoomId());
+        if (subscribers == null) {
+            return;
+        }
+
+        for (Sinks.Many<ChatMessageResponse> sink : subscribers) {
+            Sinks.EmitResult result;
+            synchronized (sink) {
+                result = sink.tryEmitNext(message);
+            }
+            if (result.isFailure()) {
+                log.debug("채팅 스트림 구독자 전달 실패, 연결 종료: chatRoomId={}, messageId={}, result={}",
+                        message.getChatRoomId(), message.getId(), result);
+                sink.tryEmitComplete();
+                unregister(message.getChatRoomId(), sink);
+            }
+        }
+    }
+
+    private void unregister(Long chatRoomId, Sinks.Many<ChatMessageResponse> sink) {
+        subscribersByRoom.computeIfPresent(chatRoomId, (id, subscribers) -> {
+            subscribers.remove(sink);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+}
@@ -6,6 +6,7 @@ import com.caring.caringbackend.domain.file.entity.ReferenceType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +32,15 @@ public interface FileRepository extends JpaRepository<File, Long> {
             FileCategory category
     );
 
+    /**
+     * 여러 참조의 같은 카테고리 파일 목록 일괄 조회 (ID 순)
+     */
+    List<File> findByReferenceIdInAndReferenceTypeAndCategoryOrderByIdAsc(
+            Collection<Long> referenceIds,
+            ReferenceType referenceType,
+            FileCategory category
+    );
+
     /**
      * 참조 정보와 카테고리로 단일 파일 조회 (사업자 등록증 등)
      */
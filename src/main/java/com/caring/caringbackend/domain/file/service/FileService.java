@@ -22,6 +22,7 @@ import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequ
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -36,12 +37,13 @@ public class FileService {
     private String bucketName;
 
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024;
-    private static final Duration PRESIGNED_URL_DURATION = Duration.ofHours(1); // PreSigned URL 유효시간: 1시간
+    static final Duration PRESIGNED_URL_DURATION = Duration.ofHours(1); // PreSigned URL 유효시간: 1시간 (PresignedUrlEtagWindow 계산에도 사용)
     private static final List<String> ALLOWED_IMAGE_TYPES = List.of("image/jpeg", "image/png", "image/webp");
 
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
     private final FileRepository fileRepository;
+    private final PresignedUrlCache presignedUrlCache;
 
     /**
      * 파일 업로드 (URL만 반환, DB 저장 안 함) - 기존 코드 호환용
@@ -146,6 +148,23 @@ public class FileService {
         );
     }
 
+    /**
+     * 여러 참조의 같은 카테고리 파일 일괄 조회
+     */
+    @Transactional(readOnly = true)
+    public List<File> getFilesByReferencesAndCategory(
+            Collection<Long> referenceIds,
+            ReferenceType referenceType,
+            FileCategory category
+    ) {
+        if (referenceIds.isEmpty()) {
+            return List.of();
+        }
+        return fileRepository.findByReferenceIdInAndReferenceTypeAndCategoryOrderByIdAsc(
+                referenceIds, referenceType, category
+        );
+    }
+
     /**
      * 단일 파일 조회
      */
@@ -263,6 +282,7 @@ public class FileService {
                     .build();
 
             s3Client.deleteObject(deleteRequest);
+            presignedUrlCache.invalidate(key);
             log.info("S3 파일 삭제 성공 - Key: {}", key);
         } catch (Exception e) {
             log.error("S3 파일 삭제 실패 - URL: {}", fileUrl, e);
@@ -272,9 +292,10 @@ public class FileService {
 
     /**
      * S3 URL을 PreSigned URL로 변환
+     * - key별로 캐시된 URL을 재사용 (PresignedUrlCache.REFRESH_AFTER 이후 재서명)
      *
      * @param s3Url S3 URL
-     * @return PreSigned URL (1시간 유효)
+     * @return PreSigned URL (1시간 유효, 캐시된 URL은 최소 15분 유효)
      */
     public String generatePresignedUrl(String s3Url) {
         if (s3Url == null || s3Url.isEmpty()) {
@@ -284,27 +305,32 @@ public class FileService {
         try {
             // S3 URL에서 key 추출
             String key = extractKeyFromUrl(s3Url);
-
-            // PreSigned URL 생성
-            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(key)
-                    .build();
-
-            GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                    .signatureDuration(PRESIGNED_URL_DURATION)
-                    .getObjectRequest(getObjectRequest)
-                    .build();
-
-            PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(presignRequest);
-
-            return presignedRequest.url().toString();
+            return presignedUrlCache.get(key, this::presign);
         } catch (Exception e) {
             log.error("PreSigned URL 생성 실패: {}", s3Url, e);
             return s3Url; // 실패 시 원본 URL 반환
         }
     }
 
+    /**
+     * S3 key PreSigned URL 서명
+     */
+    private String presign(String key) {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build();
+
+        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+                .signatureDuration(PRESIGNED_URL_DURATION)
+                .getObjectRequest(getObjectRequest)
+                .build();
+
+        PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(presignRequest);
+
+        return presignedRequest.url().toString();
+    }
+
     /**
      * S3 URL에서 key 추출
      */
@@ -0,0 +1,65 @@
+package com.caring.caringbackend.domain.file.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * PreSigned URL 캐시 (인메모리, 크기 제한 + TTL)
+ * <p>
+ * S3 key별로 서명된 URL을 REFRESH_AFTER 동안 재사용하여 목록/상세 응답마다 반복되는 SigV4 서명을 생략합니다.
+ * - URL 유효시간(1시간)보다 짧게 보관하므로 응답에 나간 URL은 최소 (유효시간 - REFRESH_AFTER) 동안 유효
+ * - 같은 이미지에 같은 URL을 내려주므로 브라우저 캐시도 적중
+ * - 적중/미적중 통계는 주기적으로 로그 출력
+ */
+@Slf4j
+@Component
+public class PresignedUrlCache {
+
+    static final Duration REFRESH_AFTER = Duration.ofMinutes(45);
+    private static final long MAXIMUM_SIZE = 50_000;
+
+    private final Cache<String, String> cache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(REFRESH_AFTER)
+            .recordStats()
+            .build();
+
+    /**
+     * 캐시된 URL 반환, 없으면 서명 후 저장 (같은 key 동시 요청은 한 번만 서명)
+     *
+     * @param key S3 key
+     * @param presigner 서명 함수 (예외 발생 시 저장하지 않음)
+     */
+    public String get(String key, Function<String, String> presigner) {
+        return cache.get(key, presigner);
+    }
+
+    /**
+     * 삭제된 파일의 URL 제거
+     */
+    public void invalidate(String key) {
+        cache.invalidate(key);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Scheduled(fixedDelayString = "${app.aws.s3.presigned-url-cache.stats-interval-ms:600000}")
+    public void logStats() {
+        CacheStats stats = cache.stats();
+        if (stats.requestCount() == 0) {
+            return;
+        }
+        log.info("PreSigned URL 캐시 통계: size={}, hit={}, miss={}, hitRate={}, eviction={}",
+                cache.estimatedSize(), stats.hitCount(), stats.missCount(),
+                String.format("%.3f", stats.hitRate()), stats.evictionCount());
+    }
+}
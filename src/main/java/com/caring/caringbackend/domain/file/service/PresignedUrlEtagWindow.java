@@ -0,0 +1,35 @@
+package com.caring.caringbackend.domain.file.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * PreSigned URL을 포함한 응답의 ETag 구간
+ * <p>
+ * 응답에 나간 URL은 최소 (URL 유효시간 - PresignedUrlCache.REFRESH_AFTER - 상세 캐시 TTL) 동안 유효합니다.
+ * ETag에 이 길이의 구간 번호를 포함하여, 클라이언트가 만료된 URL을 304로 계속 재사용하지 않도록 합니다.
+ * - 설정값으로 구간이 0 이하가 되면 기동 시 실패
+ */
+@Component
+public class PresignedUrlEtagWindow {
+
+    private final Duration window;
+
+    public PresignedUrlEtagWindow(@Value("${institution.detail-cache.ttl-seconds:600}") long detailCacheTtlSeconds) {
+        this.window = FileService.PRESIGNED_URL_DURATION
+                .minus(PresignedUrlCache.REFRESH_AFTER)
+                .minusSeconds(detailCacheTtlSeconds);
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalStateException("PreSigned URL 유효시간이 캐시 재서명 주기와 상세 캐시 TTL의 합보다 짧습니다: window=" + window);
+        }
+    }
+
+    /**
+     * @return 현재 구간 번호
+     */
+    public long current() {
+        return System.currentTimeMillis() / window.toMillis();
+    }
+}
@@ -0,0 +1,20 @@
+package com.caring.caringbackend.domain.institution.advertisement.repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 현재 진행중인 광고 집합 지문
+ * - 광고 노출 여부는 시각(시작/종료 일시)에 따라 바뀌므로 변경 카운터 대신 집계값으로 집합 변화를 감지
+ *
+ * @param count 진행중인 광고 수
+ * @param idSum 진행중인 광고 ID 합
+ * @param lastUpdatedAt 진행중인 광고의 최근 수정 시각
+ */
+public record ActiveAdvertisementFingerprint(Long count, Long idSum, LocalDateTime lastUpdatedAt) {
+
+    public String version() {
+        long updated = lastUpdatedAt != null ? lastUpdatedAt.toInstant(ZoneOffset.UTC).toEpochMilli() : 0;
+        return count + "." + idSum + "." + updated;
+    }
+}
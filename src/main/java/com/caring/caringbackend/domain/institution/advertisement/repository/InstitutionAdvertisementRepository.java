@@ -86,6 +86,21 @@ public interface InstitutionAdvertisementRepository extends JpaRepository<Instit
             @Param("now") LocalDateTime now
     );
 
+    /**
+     * 현재 진행중인 광고 집합 지문 (공개 광고 목록 ETag용, 엔티티 로딩 없음)
+     */
+    @Query("SELECT new com.caring.caringbackend.domain.institution.advertisement.repository.ActiveAdvertisementFingerprint(" +
+            "COUNT(ad), COALESCE(SUM(ad.id), 0L), MAX(ad.updatedAt)) " +
+            "FROM InstitutionAdvertisement ad " +
+            "WHERE ad.status = :status " +
+            "AND ad.deleted = false " +
+            "AND ad.startDateTime <= :now " +
+            "AND ad.endDateTime >= :now")
+    ActiveAdvertisementFingerprint findActiveAdvertisementFingerprint(
+            @Param("status") AdvertisementStatus status,
+            @Param("now") LocalDateTime now
+    );
+
     /**
      * 특정 기간 동안 같은 기관의 같은 유형 광고가 있는지 확인 (중복 체크)
      */
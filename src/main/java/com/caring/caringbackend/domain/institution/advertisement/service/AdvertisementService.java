@@ -123,5 +123,10 @@ public interface AdvertisementService {
      * 유형별 진행중인 광고 조회 (공개 API)
      */
     List<ActiveAdvertisementDto> getActiveAdvertisementsByType(AdvertisementType type);
+
+    /**
+     * 현재 진행중인 광고 목록 버전 (공개 API ETag용)
+     */
+    String getActiveAdvertisementsVersion();
 }
 
@@ -286,6 +286,14 @@ public class AdvertisementServiceImpl implements AdvertisementService {
                 .toList();
     }
 
+    @Override
+    public String getActiveAdvertisementsVersion() {
+        return advertisementRepository.findActiveAdvertisementFingerprint(
+                AdvertisementStatus.ADVERTISEMENT_ACTIVE,
+                LocalDateTime.now()
+        ).version();
+    }
+
     // ==================== 권한 검증 ====================
 
     private Institution validateOwnerPermissionAndFindInstitution(Long adminId) {
@@ -21,7 +21,10 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "consult_request")
+@Table(name = "consult_request", indexes = {
+        @Index(name = "idx_consult_request_institution_id_created_at", columnList = "institution_id, created_at"),
+        @Index(name = "idx_consult_request_member_id_created_at", columnList = "member_id, created_at")
+})
 public class ConsultRequest extends BaseEntity {
     
     @Id
@@ -1,9 +1,6 @@
 package com.caring.caringbackend.domain.institution.counsel.repository;
 
 import com.caring.caringbackend.domain.institution.counsel.entity.ConsultRequest;
-import com.caring.caringbackend.domain.institution.counsel.entity.enums.ConsultRequestStatus;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,7 +8,7 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
 
-public interface ConsultRequestRepository extends JpaRepository<ConsultRequest, Long> {
+public interface ConsultRequestRepository extends JpaRepository<ConsultRequest, Long>, ConsultRequestRepositoryCustom {
     
     /**
      * 회원의 상담 요청 목록 조회
@@ -90,47 +87,4 @@ public interface ConsultRequestRepository extends JpaRepository<ConsultRequest,
             @Param("memberId") Long memberId,
             @Param("counselId") Long counselId
     );
-
-    /**
-     * 회원의 상담 요청 목록 조회 (페이징)
-     * - 마이페이지 상담 내역 조회용
-     * - ChatRoom은 Service에서 별도 조회
-     */
-    @Query("""
-            SELECT cr
-            FROM ConsultRequest cr
-            JOIN FETCH cr.institution i
-            JOIN FETCH cr.counsel c
-            WHERE cr.member.id = :memberId
-            AND cr.deleted = false
-            AND (:status IS NULL OR cr.status = :status)
-            ORDER BY cr.createdAt DESC
-            """)
-    Page<ConsultRequest> findByMemberIdWithDetailsPaged(
-            @Param("memberId") Long memberId,
-            @Param("status") ConsultRequestStatus status,
-            Pageable pageable
-    );
-
-    /**
-     * 기관의 상담 요청 목록 조회 (페이징)
-     * - 기관 관리자 상담 요청 관리용
-     * - ChatRoom은 Service에서 별도 조회
-     */
-    @Query("""
-            SELECT cr
-            FROM ConsultRequest cr
-            JOIN FETCH cr.member m
-            JOIN FETCH cr.counsel c
-            WHERE cr.institution.id = :institutionId
-            AND cr.deleted = false
-            AND (:status IS NULL OR cr.status = :status)
-            ORDER BY cr.createdAt DESC
-            """)
-    Page<ConsultRequest> findByInstitutionIdWithDetailsPaged(
-            @Param("institutionId") Long institutionId,
-            @Param("status") ConsultRequestStatus status,
-            Pageable pageable
-    );
 }
-
@@ -0,0 +1,44 @@
+package com.caring.caringbackend.domain.institution.counsel.repository;
+
+import com.caring.caringbackend.domain.institution.counsel.entity.enums.ConsultRequestStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+/**
+ * ConsultRequest Custom Repository 인터페이스
+ * QueryDSL을 사용한 목록 프로젝션 조회
+ */
+public interface ConsultRequestRepositoryCustom {
+
+    /**
+     * 회원의 상담 요청 목록 조회 (채팅방 마지막 메시지 포함, 단일 쿼리)
+     *
+     * @param memberId     회원 ID
+     * @param status       상담 상태 (null이면 전체)
+     * @param pageable     페이징 정보
+     * @param includeTotal true면 전체 개수를 포함한 Page, false면 COUNT 쿼리 없이 Slice 반환
+     * @return 상담 요청 목록
+     */
+    Slice<ConsultRequestSummary> findSummariesByMemberId(
+            Long memberId,
+            ConsultRequestStatus status,
+            Pageable pageable,
+            boolean includeTotal
+    );
+
+    /**
+     * 기관의 상담 요청 목록 조회 (채팅방 마지막 메시지 포함, 단일 쿼리)
+     *
+     * @param institutionId 기관 ID
+     * @param status        상담 상태 (null이면 전체)
+     * @param pageable      페이징 정보
+     * @param includeTotal  true면 전체 개수를 포함한 Page, false면 COUNT 쿼리 없이 Slice 반환
+     * @return 상담 요청 목록
+     */
+    Slice<ConsultRequestSummary> findSummariesByInstitutionId(
+            Long institutionId,
+            ConsultRequestStatus status,
+            Pageable pageable,
+            boolean includeTotal
+    );
+}
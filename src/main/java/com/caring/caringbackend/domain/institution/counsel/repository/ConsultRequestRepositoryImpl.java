@@ -0,0 +1,116 @@
+package com.caring.caringbackend.domain.institution.counsel.repository;
+
+import com.caring.caringbackend.domain.institution.counsel.entity.enums.ConsultRequestStatus;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.caring.caringbackend.domain.chat.entity.QChatRoom.chatRoom;
+import static com.caring.caringbackend.domain.institution.counsel.entity.QConsultRequest.consultRequest;
+import static com.caring.caringbackend.domain.institution.counsel.entity.QInstitutionCounsel.institutionCounsel;
+import static com.caring.caringbackend.domain.institution.profile.entity.QInstitution.institution;
+
+/**
+ * 상담 요청 Repository Custom 구현
+ */
+@Repository
+@RequiredArgsConstructor
+public class ConsultRequestRepositoryImpl implements ConsultRequestRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Slice<ConsultRequestSummary> findSummariesByMemberId(
+            Long memberId,
+            ConsultRequestStatus status,
+            Pageable pageable,
+            boolean includeTotal
+    ) {
+        return findSummaries(consultRequest.member.id.eq(memberId), status, pageable, includeTotal);
+    }
+
+    @Override
+    public Slice<ConsultRequestSummary> findSummariesByInstitutionId(
+            Long institutionId,
+            ConsultRequestStatus status,
+            Pageable pageable,
+            boolean includeTotal
+    ) {
+        return findSummaries(consultRequest.institution.id.eq(institutionId), status, pageable, includeTotal);
+    }
+
+    /**
+     * 상담 요청 + 기관명 + 상담 서비스명 + 채팅방 마지막 메시지를 한 번에 조회
+     * - includeTotal=false면 size+1건을 조회해 다음 페이지 존재 여부만 판단 (COUNT 쿼리 생략)
+     * - includeTotal=true여도 첫 페이지가 size보다 작으면 COUNT 쿼리 생략
+     */
+    private Slice<ConsultRequestSummary> findSummaries(
+            BooleanExpression ownerCondition,
+            ConsultRequestStatus status,
+            Pageable pageable,
+            boolean includeTotal
+    ) {
+        int fetchSize = includeTotal ? pageable.getPageSize() : pageable.getPageSize() + 1;
+
+        List<ConsultRequestSummary> content = queryFactory
+                .select(Projections.constructor(ConsultRequestSummary.class,
+                        consultRequest.id,
+                        chatRoom.id,
+                        institution.id,
+                        institution.name,
+                        institutionCounsel.id,
+                        institutionCounsel.title,
+                        consultRequest.status,
+                        chatRoom.lastMessageContent,
+                        chatRoom.lastMessageAt,
+                        consultRequest.createdAt,
+                        consultRequest.closedAt
+                ))
+                .from(consultRequest)
+                .join(consultRequest.institution, institution)
+                .join(consultRequest.counsel, institutionCounsel)
+                .leftJoin(chatRoom).on(chatRoom.consultRequest.id.eq(consultRequest.id))
+                .where(
+                        ownerCondition,
+                        consultRequest.deleted.isFalse(),
+                        statusEq(status)
+                )
+                .orderBy(consultRequest.createdAt.desc(), consultRequest.id.desc())
+                .offset(pageable.getOffset())
+                .limit(fetchSize)
+                .fetch();
+
+        if (!includeTotal) {
+            boolean hasNext = content.size() > pageable.getPageSize();
+            List<ConsultRequestSummary> pageContent = hasNext
+                    ? content.subList(0, pageable.getPageSize())
+                    : content;
+            return new SliceImpl<>(pageContent, pageable, hasNext);
+        }
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> queryFactory
+                .select(consultRequest.count())
+                .from(consultRequest)
+                .where(
+                        ownerCondition,
+                        consultRequest.deleted.isFalse(),
+                        statusEq(status)
+                )
+                .fetchOne());
+    }
+
+    /**
+     * 상담 상태 조건
+     */
+    private BooleanExpression statusEq(ConsultRequestStatus status) {
+        return status != null ? consultRequest.status.eq(status) : null;
+    }
+}
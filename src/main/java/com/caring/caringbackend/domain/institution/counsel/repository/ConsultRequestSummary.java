@@ -0,0 +1,25 @@
+package com.caring.caringbackend.domain.institution.counsel.repository;
+
+import com.caring.caringbackend.domain.institution.counsel.entity.enums.ConsultRequestStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상담 요청 목록 조회용 프로젝션
+ * - 목록 화면에 필요한 컬럼만 조회 (엔티티 미로딩)
+ * - 채팅방이 아직 없는 상담 요청은 chatRoomId / lastMessage 값이 null
+ */
+public record ConsultRequestSummary(
+        Long id,
+        Long chatRoomId,
+        Long institutionId,
+        String institutionName,
+        Long counselId,
+        String counselTitle,
+        ConsultRequestStatus status,
+        String lastMessageContent,
+        LocalDateTime lastMessageAt,
+        LocalDateTime createdAt,
+        LocalDateTime closedAt
+) {
+}
@@ -20,6 +20,7 @@ import com.caring.caringbackend.domain.institution.counsel.repository.Institutio
 import com.caring.caringbackend.domain.institution.counsel.repository.InstitutionCounselRepository;
 import com.caring.caringbackend.domain.institution.profile.entity.Institution;
 import com.caring.caringbackend.domain.institution.profile.entity.InstitutionAdmin;
+import com.caring.caringbackend.domain.institution.profile.event.InstitutionDetailChangedEvent;
 import com.caring.caringbackend.domain.institution.profile.repository.InstitutionAdminRepository;
 import com.caring.caringbackend.domain.institution.profile.repository.InstitutionRepository;
 import com.caring.caringbackend.global.exception.BusinessException;
@@ -35,6 +36,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -51,6 +53,7 @@ public class InstitutionCounselServiceImpl implements InstitutionCounselService
     private final InstitutionRepository institutionRepository;
     private final InstitutionAdminRepository institutionAdminRepository;
     private final CounselHoursRepository counselHoursRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 기관 상담 서비스 등록 InstitutionCounselDetail 생성하지 않음 - 사용자가 예약 가능 날짜 조회 시 동적으로 생성 (Lazy Loading)
@@ -76,6 +79,7 @@ public class InstitutionCounselServiceImpl implements InstitutionCounselService
 
         institutionCounselRepository.save(counsel);
         makeCounselHours(counsel, requestDto.getCounselHours());
+        eventPublisher.publishEvent(new InstitutionDetailChangedEvent(institution.getId()));
     }
 
     /**
@@ -121,7 +125,9 @@ public class InstitutionCounselServiceImpl implements InstitutionCounselService
         InstitutionCounsel counsel = findInstitutionCounselById(counselId);
         validateCounselOwnership(institution, counsel);
 
-        return counsel.toggleStatus();
+        CounselStatus status = counsel.toggleStatus();
+        eventPublisher.publishEvent(new InstitutionDetailChangedEvent(institution.getId()));
+        return status;
     }
 
     /**
@@ -136,6 +142,7 @@ public class InstitutionCounselServiceImpl implements InstitutionCounselService
         InstitutionCounsel counsel = findInstitutionCounselById(counselId);
         validateCounselOwnership(institution, counsel);
         counsel.delete();
+        eventPublisher.publishEvent(new InstitutionDetailChangedEvent(institution.getId()));
     }
 
     @Override
@@ -202,6 +209,7 @@ public class InstitutionCounselServiceImpl implements InstitutionCounselService
             counselHoursRepository.deleteAllByCounselId(counselId);
             makeCounselHours(counsel, requestDto.getCounselHours());
         }
+        eventPublisher.publishEvent(new InstitutionDetailChangedEvent(institution.getId()));
     }
 
     // ==================== Private Methods ====================
@@ -26,6 +26,11 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "institution", indexes = {
+        @Index(name = "idx_institution_latitude_longitude", columnList = "latitude, longitude"),
+        @Index(name = "idx_institution_type_monthly_base_fee", columnList = "institution_type, monthly_base_fee"),
+        @Index(name = "idx_institution_created_at_id", columnList = "created_at, id")
+})
 public class Institution extends BaseEntity {
 
     @Id
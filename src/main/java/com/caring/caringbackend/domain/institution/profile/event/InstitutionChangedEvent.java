@@ -0,0 +1,10 @@
+package com.caring.caringbackend.domain.institution.profile.event;
+
+/**
+ * 기관 정보 변경 이벤트
+ * - 검색 인덱스 등 기관 정보를 복제해 두는 구성요소가 트랜잭션 커밋 후 해당 기관만 갱신하도록 알림
+ *
+ * @param institutionId 변경된 기관 ID
+ */
+public record InstitutionChangedEvent(Long institutionId) {
+}
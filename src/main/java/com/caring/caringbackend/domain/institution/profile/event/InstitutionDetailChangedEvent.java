@@ -0,0 +1,10 @@
+package com.caring.caringbackend.domain.institution.profile.event;
+
+/**
+ * 기관 상세 화면 구성 요소 변경 이벤트
+ * - 요양보호사, 상담 서비스, 리뷰처럼 검색 인덱스와 무관하지만 상세 응답에 포함되는 정보의 변경 알림
+ *
+ * @param institutionId 변경된 기관 ID
+ */
+public record InstitutionDetailChangedEvent(Long institutionId) {
+}
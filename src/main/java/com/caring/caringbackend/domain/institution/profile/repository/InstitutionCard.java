@@ -0,0 +1,62 @@
+package com.caring.caringbackend.domain.institution.profile.repository;
+
+import com.caring.caringbackend.domain.institution.profile.entity.ApprovalStatus;
+import com.caring.caringbackend.domain.institution.profile.entity.InstitutionType;
+import com.caring.caringbackend.domain.review.entity.InstitutionRatingSummary;
+import com.caring.caringbackend.global.model.Address;
+import com.caring.caringbackend.global.model.GeoPoint;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기관 목록 카드용 프로젝션 (읽기 전용)
+ * - 목록 응답(InstitutionProfileResponseDto)에 필요한 컬럼과 커서 정렬 키(createdAt)만 조회
+ * - 엔티티가 아니므로 영속성 컨텍스트 / 변경 감지 대상이 아님
+ */
+public record InstitutionCard(
+        Long id,
+        String name,
+        InstitutionType institutionType,
+        String mainImageUrl,
+        String phoneNumber,
+        ApprovalStatus approvalStatus,
+        Boolean isAdmissionAvailable,
+        Integer bedCount,
+        String city,
+        String street,
+        String zipCode,
+        Double latitude,
+        Double longitude,
+        Integer monthlyBaseFee,
+        LocalDateTime createdAt,
+        Long reviewCount,
+        Long ratingSum
+) {
+
+    /**
+     * 평균 별점 (리뷰가 없으면 null)
+     */
+    public Double averageRating() {
+        return InstitutionRatingSummary.averageRating(reviewCount, ratingSum);
+    }
+
+    /**
+     * 주소 (엔티티와 같이 모든 컬럼이 비어 있으면 null)
+     */
+    public Address address() {
+        if (city == null && street == null && zipCode == null) {
+            return null;
+        }
+        return new Address(city, street, zipCode);
+    }
+
+    /**
+     * 위치 (엔티티와 같이 위경도가 모두 비어 있으면 null)
+     */
+    public GeoPoint location() {
+        if (latitude == null && longitude == null) {
+            return null;
+        }
+        return new GeoPoint(latitude, longitude);
+    }
+}
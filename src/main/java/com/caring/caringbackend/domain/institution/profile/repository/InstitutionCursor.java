@@ -0,0 +1,83 @@
+package com.caring.caringbackend.domain.institution.profile.repository;
+
+import com.caring.caringbackend.global.exception.BusinessException;
+import com.caring.caringbackend.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 기관 목록 키셋 커서
+ * - 마지막으로 반환한 기관의 (정렬 키, id)
+ * - 클라이언트에는 정렬 기준을 포함한 불투명 문자열(Base64 URL)로 전달
+ *
+ * @param sort 정렬 기준
+ * @param sortKey 정렬 키 값 (요금 미등록은 null)
+ * @param id 기관 ID
+ */
+public record InstitutionCursor(InstitutionCursorSort sort, String sortKey, Long id) {
+
+    private static final String DELIMITER = "\n";
+
+    /**
+     * 페이지의 마지막 기관으로 다음 커서 생성
+     */
+    public static InstitutionCursor after(InstitutionCursorSort sort, InstitutionCard last) {
+        String sortKey = switch (sort) {
+            case CREATED_AT_DESC -> last.createdAt().toString();
+            case NAME_ASC -> last.name();
+            case MONTHLY_BASE_FEE_ASC -> last.monthlyBaseFee() != null ? last.monthlyBaseFee().toString() : null;
+        };
+        return new InstitutionCursor(sort, sortKey, last.id());
+    }
+
+    /**
+     * 커서 문자열 해석
+     * - 형식이 잘못되었거나 요청 정렬과 다른 정렬의 커서면 예외
+     *
+     * @param token 커서 문자열
+     * @param sort 요청 정렬 기준
+     */
+    public static InstitutionCursor decode(String token, InstitutionCursorSort sort) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split(DELIMITER, 3);
+            if (parts.length != 3 || InstitutionCursorSort.valueOf(parts[0]) != sort) {
+                throw new BusinessException(ErrorCode.INVALID_INSTITUTION_CURSOR);
+            }
+            InstitutionCursor cursor = new InstitutionCursor(sort, parts[2].isEmpty() ? null : parts[2], Long.valueOf(parts[1]));
+            cursor.validate();
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // Base64 / enum / 숫자 / 날짜 형식 오류
+            throw new BusinessException(ErrorCode.INVALID_INSTITUTION_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = sort.name() + DELIMITER + id + DELIMITER + (sortKey != null ? sortKey : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime createdAt() {
+        return LocalDateTime.parse(sortKey);
+    }
+
+    public Integer monthlyBaseFee() {
+        return sortKey != null ? Integer.valueOf(sortKey) : null;
+    }
+
+    private void validate() {
+        // 요금 미등록 기관만 정렬 키가 비어 있을 수 있음
+        if (sortKey == null && sort != InstitutionCursorSort.MONTHLY_BASE_FEE_ASC) {
+            throw new BusinessException(ErrorCode.INVALID_INSTITUTION_CURSOR);
+        }
+        if (sort == InstitutionCursorSort.CREATED_AT_DESC) {
+            createdAt();
+        } else if (sort == InstitutionCursorSort.MONTHLY_BASE_FEE_ASC) {
+            monthlyBaseFee();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.caring.caringbackend.domain.institution.profile.repository;
+
+/**
+ * 기관 목록 커서 정렬 기준
+ * - 각 정렬은 (정렬 키, id) 조합으로 순서가 고정되어 키셋 페이지네이션에 사용
+ */
+public enum InstitutionCursorSort {
+    CREATED_AT_DESC,      // 최신 등록순
+    NAME_ASC,             // 이름순
+    MONTHLY_BASE_FEE_ASC  // 월 기본 요금 낮은순 (요금 미등록 기관은 마지막)
+}
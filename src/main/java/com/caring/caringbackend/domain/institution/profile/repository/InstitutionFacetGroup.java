@@ -0,0 +1,19 @@
+package com.caring.caringbackend.domain.institution.profile.repository;
+
+import com.caring.caringbackend.domain.institution.profile.entity.InstitutionType;
+
+/**
+ * 패싯 집계 단위 (기관 유형, 도시, 입소 가능 여부별 기관 수)
+ *
+ * @param institutionType 기관 유형
+ * @param city 도시
+ * @param isAdmissionAvailable 입소 가능 여부
+ * @param count 기관 수
+ */
+public record InstitutionFacetGroup(
+        InstitutionType institutionType,
+        String city,
+        Boolean isAdmissionAvailable,
+        long count
+) {
+}
@@ -1,10 +1,16 @@
 package com.caring.caringbackend.domain.institution.profile.repository;
 
 import com.caring.caringbackend.api.internal.institution.dto.request.InstitutionSearchFilter;
-import com.caring.caringbackend.domain.institution.profile.entity.Institution;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
 /**
  * Institution Repository Custom Interface
  *
@@ -13,12 +19,90 @@ import org.springframework.data.domain.Pageable;
 public interface InstitutionRepositoryCustom {
 
     /**
-     * QueryDSL을 사용한 동적 검색
+     * QueryDSL을 사용한 동적 검색 (목록 카드 컬럼만 조회)
      *
      * @param filter 검색 필터
      * @param pageable 페이징 정보
      * @return 검색 결과 페이지
      */
-    Page<Institution> searchWithQueryDsl(InstitutionSearchFilter filter, Pageable pageable);
-}
+    Page<InstitutionCard> searchWithQueryDsl(InstitutionSearchFilter filter, Pageable pageable);
+
+    /**
+     * 반경 내 기관 검색 (거리순)
+     * - (latitude, longitude) 인덱스 사각 범위로 후보를 좁힌 뒤 정확한 거리(Haversine)로 필터링
+     * - 이름/유형/입소 가능 여부/도시/요금 조건을 같은 쿼리에서 함께 적용
+     *
+     * @param filter 검색 필터 (latitude, longitude, radiusKm 필수)
+     * @param pageable 페이징 정보 (정렬은 거리순 고정)
+     * @return 검색 결과 페이지
+     */
+    Page<InstitutionCard> searchWithinRadius(InstitutionSearchFilter filter, Pageable pageable);
+
+    /**
+     * ID 목록으로 목록 카드 조회 (삭제된 기관 제외, 순서 보장 안 함)
+     *
+     * @param institutionIds 기관 ID 목록
+     * @return 목록 카드
+     */
+    List<InstitutionCard> findCardsByIds(Collection<Long> institutionIds);
+
+    /**
+     * 검색 인덱스 대상 기관 전체 조회 (승인 + 미삭제)
+     *
+     * @return 검색 문서 목록
+     */
+    List<InstitutionSearchDocument> findAllSearchDocuments();
 
+    /**
+     * 검색 인덱스 대상 기관 단건 조회
+     *
+     * @param institutionId 기관 ID
+     * @return 검색 문서 (인덱스 대상이 아니면 empty)
+     */
+    Optional<InstitutionSearchDocument> findSearchDocument(Long institutionId);
+
+    /**
+     * 검색 인덱스 대상 기관의 보유 태그 ID 전체 조회
+     *
+     * @return 기관 ID → 태그 ID 목록
+     */
+    Map<Long, Set<Long>> findAllSearchTagIds();
+
+    /**
+     * 기준 시각 이후 변경된 기관 ID (삭제/미승인 기관 및 보유 태그 변경 포함, 검색 인덱스 동기화용)
+     *
+     * @param since 기준 시각 (updated_at 비교)
+     * @return 기관 ID 목록
+     */
+    Set<Long> findIdsChangedSince(LocalDateTime since);
+
+    /**
+     * 키셋 커서 기반 기관 검색 (COUNT 없음)
+     * - (정렬 키, id) 순서로 after 다음 기관부터 limit건 조회
+     * - 반경 조건은 거르는 조건으로만 사용 (정렬은 sort 기준)
+     *
+     * @param filter 검색 조건
+     * @param sort 정렬 기준
+     * @param after 이전 페이지 마지막 커서 (첫 페이지는 null)
+     * @param limit 조회 건수
+     * @return 기관 목록
+     */
+    List<InstitutionCard> searchByCursor(InstitutionSearchFilter filter, InstitutionCursorSort sort,
+                                         InstitutionCursor after, int limit);
+
+    /**
+     * 공개 기관 분포 통계 집계 (근사 건수용)
+     *
+     * @return 분포 통계
+     */
+    InstitutionSearchStatistics collectSearchStatistics();
+
+    /**
+     * 패싯 집계 (GROUP BY 한 번)
+     * - 유형/도시/입소 가능 여부를 제외한 조건을 적용하고 세 컬럼으로 묶어 건수 집계
+     *
+     * @param filter 검색 조건
+     * @return (유형, 도시, 입소 가능 여부)별 기관 수
+     */
+    List<InstitutionFacetGroup> countFacetGroups(InstitutionSearchFilter filter);
+}
@@ -5,9 +5,18 @@ import com.caring.caringbackend.domain.institution.profile.entity.ApprovalStatus
 import com.caring.caringbackend.domain.institution.profile.entity.Institution;
 import com.caring.caringbackend.domain.institution.profile.entity.InstitutionType;
 import com.caring.caringbackend.domain.institution.profile.entity.QInstitution;
+import com.caring.caringbackend.domain.review.entity.QInstitutionRatingSummary;
+import com.caring.caringbackend.domain.tag.entity.QInstitutionTag;
+import com.caring.caringbackend.global.model.GeoBoundingBox;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -16,10 +25,22 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * Institution Repository Custom 구현체
@@ -33,6 +54,7 @@ public class InstitutionRepositoryImpl implements InstitutionRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
     private static final QInstitution institution = QInstitution.institution;
+    private static final QInstitutionRatingSummary ratingSummary = QInstitutionRatingSummary.institutionRatingSummary;
 
     /**
      * QueryDSL을 사용한 동적 검색 (BooleanBuilder 방식)
@@ -40,13 +62,12 @@ public class InstitutionRepositoryImpl implements InstitutionRepositoryCustom {
      * 장점: 조건을 동적으로 추가 가능
      */
     @Override
-    public Page<Institution> searchWithQueryDsl(InstitutionSearchFilter filter, Pageable pageable) {
+    public Page<InstitutionCard> searchWithQueryDsl(InstitutionSearchFilter filter, Pageable pageable) {
         // WHERE 조건 동적 생성
         BooleanBuilder builder = createWhereClause(filter);
 
-        // 데이터 조회 쿼리
-        JPAQuery<Institution> query = queryFactory
-                .selectFrom(institution)
+        // 데이터 조회 쿼리 (카드 컬럼만)
+        JPAQuery<InstitutionCard> query = selectCards()
                 .where(builder)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize());
@@ -54,19 +75,19 @@ public class InstitutionRepositoryImpl implements InstitutionRepositoryCustom {
         // 동적 정렬 적용
         applySort(query, pageable);
 
-        List<Institution> content = query.fetch();
-
-        // COUNT 쿼리 (별도 실행으로 성능 최적화)
-        Long total = queryFactory
-                .select(institution.count())
-                .from(institution)
-                .where(builder)
-                .fetchOne();
+        List<InstitutionCard> content = query.fetch();
 
-        log.debug("QueryDSL 검색 완료: total={}, page={}, size={}",
-                total, pageable.getPageNumber(), content.size());
+        log.debug("QueryDSL 검색 완료: page={}, size={}", pageable.getPageNumber(), content.size());
 
-        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+        // COUNT 쿼리 (첫 페이지가 다 차지 않았거나 마지막 페이지면 생략)
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            Long total = queryFactory
+                    .select(institution.count())
+                    .from(institution)
+                    .where(builder)
+                    .fetchOne();
+            return total != null ? total : 0L;
+        });
     }
 
     /**
@@ -109,6 +130,197 @@ public class InstitutionRepositoryImpl implements InstitutionRepositoryCustom {
         return new PageImpl<>(content, pageable, total != null ? total : 0L);
     }
 
+    /**
+     * 반경 내 기관 검색 (사각 범위 사전 필터 + 정확한 거리 검사, 거리순)
+     */
+    @Override
+    public Page<InstitutionCard> searchWithinRadius(InstitutionSearchFilter filter, Pageable pageable) {
+        double latitude = filter.getLatitude();
+        double longitude = filter.getLongitude();
+        double radiusKm = filter.getRadiusKm();
+
+        NumberExpression<Double> distance = distanceKm(latitude, longitude);
+        BooleanExpression[] conditions = {
+                notDeleted(),
+                approvalStatusEq(ApprovalStatus.APPROVED),
+                withinBoundingBox(GeoBoundingBox.around(latitude, longitude, radiusKm)),
+                distance.loe(radiusKm),
+                nameContains(filter.getName()),
+                institutionTypeEq(filter.getInstitutionType()),
+                isAdmissionAvailableEq(filter.getIsAdmissionAvailable()),
+                cityContains(filter.getCity()),
+                monthlyFeeLoe(filter.getMaxMonthlyFee()),
+                hasAllTags(filter.getTagIds())
+        };
+
+        List<InstitutionCard> content = selectCards()
+                .where(conditions)
+                .orderBy(distance.asc(), institution.id.asc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        log.debug("반경 검색 완료: lat={}, lng={}, radius={}km, size={}",
+                latitude, longitude, radiusKm, content.size());
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            Long total = queryFactory
+                    .select(institution.count())
+                    .from(institution)
+                    .where(conditions)
+                    .fetchOne();
+            return total != null ? total : 0L;
+        });
+    }
+
+    @Override
+    public List<InstitutionCard> findCardsByIds(Collection<Long> institutionIds) {
+        if (institutionIds.isEmpty()) {
+            return List.of();
+        }
+        return selectCards()
+                .where(institution.id.in(institutionIds), notDeleted())
+                .fetch();
+    }
+
+    @Override
+    public List<InstitutionSearchDocument> findAllSearchDocuments() {
+        return queryFactory
+                .select(searchDocumentProjection())
+                .from(institution)
+                .where(searchIndexTarget())
+                .fetch();
+    }
+
+    @Override
+    public Map<Long, Set<Long>> findAllSearchTagIds() {
+        QInstitutionTag institutionTag = QInstitutionTag.institutionTag;
+
+        Map<Long, Set<Long>> tagIds = new HashMap<>();
+        queryFactory
+                .select(institutionTag.institution.id, institutionTag.tag.id)
+                .from(institutionTag)
+                .join(institutionTag.institution, institution)
+                .where(searchIndexTarget())
+                .fetch()
+                .forEach(row -> tagIds
+                        .computeIfAbsent(row.get(institutionTag.institution.id), id -> new HashSet<>())
+                        .add(row.get(institutionTag.tag.id)));
+        return tagIds;
+    }
+
+    @Override
+    public Set<Long> findIdsChangedSince(LocalDateTime since) {
+        QInstitutionTag institutionTag = QInstitutionTag.institutionTag;
+
+        Set<Long> ids = new HashSet<>(queryFactory
+                .select(institution.id)
+                .from(institution)
+                .where(institution.updatedAt.after(since))
+                .fetch());
+        ids.addAll(queryFactory
+                .select(institutionTag.institution.id)
+                .from(institutionTag)
+                .where(institutionTag.updatedAt.after(since))
+                .fetch());
+        return ids;
+    }
+
+    @Override
+    public Optional<InstitutionSearchDocument> findSearchDocument(Long institutionId) {
+        return Optional.ofNullable(queryFactory
+                .select(searchDocumentProjection())
+                .from(institution)
+                .where(institution.id.eq(institutionId), searchIndexTarget())
+                .fetchOne());
+    }
+
+    @Override
+    public List<InstitutionCard> searchByCursor(InstitutionSearchFilter filter, InstitutionCursorSort sort,
+                                                InstitutionCursor after, int limit) {
+        return selectCards()
+                .where(
+                        notDeleted(),
+                        approvalStatusEq(ApprovalStatus.APPROVED),
+                        withinRadius(filter),
+                        nameContains(filter.getName()),
+                        institutionTypeEq(filter.getInstitutionType()),
+                        isAdmissionAvailableEq(filter.getIsAdmissionAvailable()),
+                        cityContains(filter.getCity()),
+                        monthlyFeeLoe(filter.getMaxMonthlyFee()),
+                        hasAllTags(filter.getTagIds()),
+                        afterCursor(after)
+                )
+                .orderBy(cursorOrder(sort))
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public InstitutionSearchStatistics collectSearchStatistics() {
+        BooleanExpression published = notDeleted().and(approvalStatusEq(ApprovalStatus.APPROVED));
+        NumberExpression<Long> count = institution.count();
+
+        Map<InstitutionType, Long> countByType = new EnumMap<>(InstitutionType.class);
+        queryFactory
+                .select(institution.institutionType, count)
+                .from(institution)
+                .where(published)
+                .groupBy(institution.institutionType)
+                .fetch()
+                .forEach(row -> countByType.put(row.get(institution.institutionType), row.get(count)));
+
+        Map<String, Long> countByCity = new HashMap<>();
+        queryFactory
+                .select(institution.address.city, count)
+                .from(institution)
+                .where(published, institution.address.city.isNotNull())
+                .groupBy(institution.address.city)
+                .fetch()
+                .forEach(row -> countByCity.put(row.get(institution.address.city), row.get(count)));
+
+        NavigableMap<Integer, Long> countByFee = new TreeMap<>();
+        queryFactory
+                .select(institution.priceInfo.monthlyBaseFee, count)
+                .from(institution)
+                .where(published, institution.priceInfo.monthlyBaseFee.isNotNull())
+                .groupBy(institution.priceInfo.monthlyBaseFee)
+                .fetch()
+                .forEach(row -> countByFee.put(row.get(institution.priceInfo.monthlyBaseFee), row.get(count)));
+
+        Long admissionAvailable = queryFactory
+                .select(count)
+                .from(institution)
+                .where(published, institution.isAdmissionAvailable.isTrue())
+                .fetchOne();
+
+        long total = countByType.values().stream().mapToLong(Long::longValue).sum();
+        return new InstitutionSearchStatistics(total, countByType,
+                admissionAvailable != null ? admissionAvailable : 0L, countByCity, countByFee);
+    }
+
+    @Override
+    public List<InstitutionFacetGroup> countFacetGroups(InstitutionSearchFilter filter) {
+        NumberExpression<Long> count = institution.count();
+        return queryFactory
+                .select(Projections.constructor(InstitutionFacetGroup.class,
+                        institution.institutionType,
+                        institution.address.city,
+                        institution.isAdmissionAvailable,
+                        count))
+                .from(institution)
+                .where(
+                        notDeleted(),
+                        approvalStatusEq(ApprovalStatus.APPROVED),
+                        withinRadius(filter),
+                        nameContains(filter.getName()),
+                        monthlyFeeLoe(filter.getMaxMonthlyFee()),
+                        hasAllTags(filter.getTagIds())
+                )
+                .groupBy(institution.institutionType, institution.address.city, institution.isAdmissionAvailable)
+                .fetch();
+    }
+
     // ==================== Private Methods ====================
 
     /**
@@ -117,8 +329,9 @@ public class InstitutionRepositoryImpl implements InstitutionRepositoryCustom {
     private BooleanBuilder createWhereClause(InstitutionSearchFilter filter) {
         BooleanBuilder builder = new BooleanBuilder();
 
-        // 기본 조건: 삭제되지 않은 기관만
+        // 기본 조건: 삭제되지 않은, 승인된 기관만 (공개 상세 조회와 동일 범위)
         builder.and(institution.deleted.eq(false));
+        builder.and(institution.approvalStatus.eq(ApprovalStatus.APPROVED));
 
         // 동적 조건 추가
         if (filter == null) {
@@ -126,7 +339,7 @@ public class InstitutionRepositoryImpl implements InstitutionRepositoryCustom {
         }
 
         if (filter.getName() != null && !filter.getName().isBlank()) {
-            builder.and(institution.name.containsIgnoreCase(filter.getName()));
+            builder.and(nameContains(filter.getName()));
         }
 
         if (filter.getInstitutionType() != null) {
@@ -145,13 +358,18 @@ public class InstitutionRepositoryImpl implements InstitutionRepositoryCustom {
             builder.and(institution.priceInfo.monthlyBaseFee.loe(filter.getMaxMonthlyFee()));
         }
 
+        BooleanExpression tags = hasAllTags(filter.getTagIds());
+        if (tags != null) {
+            builder.and(tags);
+        }
+
         return builder;
     }
 
     /**
      * 동적 정렬 적용
      */
-    private void applySort(JPAQuery<Institution> query, Pageable pageable) {
+    private void applySort(JPAQuery<?> query, Pageable pageable) {
         for (Sort.Order order : pageable.getSort()) {
             OrderSpecifier<?> orderSpecifier = createOrderSpecifier(order);
             if (orderSpecifier != null) {
@@ -215,10 +433,10 @@ public class InstitutionRepositoryImpl implements InstitutionRepositoryCustom {
 
     /**
      * 기관명 검색 (부분 일치, 대소문자 무시)
+     * - lower(name) LIKE (ops/db/institution_name_trgm_index.sql의 pg_trgm GIN 인덱스 사용)
      */
     private BooleanExpression nameContains(String name) {
-        return (name != null && !name.isBlank()) ?
-                institution.name.containsIgnoreCase(name) : null;
+        return (name != null && !name.isBlank()) ? institution.name.containsIgnoreCase(name) : null;
     }
 
     /**
@@ -272,4 +490,150 @@ public class InstitutionRepositoryImpl implements InstitutionRepositoryCustom {
         return maxMonthlyFee != null ?
                 institution.priceInfo.monthlyBaseFee.loe(maxMonthlyFee) : null;
     }
+
+    /**
+     * 태그 모두 보유 (기관별 일치 태그 수 = 요청 태그 수, 태그 수만큼의 자기 조인 대신 GROUP BY 한 번)
+     */
+    private BooleanExpression hasAllTags(List<Long> tagIds) {
+        List<Long> distinctTagIds = tagIds == null ? List.of() : tagIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (distinctTagIds.isEmpty()) {
+            return null;
+        }
+
+        QInstitutionTag institutionTag = QInstitutionTag.institutionTag;
+        return institution.id.in(JPAExpressions
+                .select(institutionTag.institution.id)
+                .from(institutionTag)
+                .where(institutionTag.tag.id.in(distinctTagIds))
+                .groupBy(institutionTag.institution.id)
+                .having(institutionTag.tag.id.countDistinct().eq((long) distinctTagIds.size())));
+    }
+
+    /**
+     * 위경도 사각 범위 (idx_institution_latitude_longitude 인덱스 범위 스캔용)
+     */
+    private BooleanExpression withinBoundingBox(GeoBoundingBox box) {
+        return institution.location.latitude.between(box.minLatitude(), box.maxLatitude())
+                .and(institution.location.longitude.between(box.minLongitude(), box.maxLongitude()));
+    }
+
+    /**
+     * 중심점으로부터의 거리 (Haversine, km) - GeoPoint.distanceKm과 동일한 계산식
+     */
+    private NumberExpression<Double> distanceKm(double latitude, double longitude) {
+        return Expressions.numberTemplate(Double.class,
+                "2 * 6371.0 * asin(least(1.0, sqrt("
+                        + "power(sin(radians({0} - {1}) / 2), 2) "
+                        + "+ cos(radians({1})) * cos(radians({0})) "
+                        + "* power(sin(radians({2} - {3}) / 2), 2))))",
+                institution.location.latitude, latitude,
+                institution.location.longitude, longitude);
+    }
+
+    /**
+     * 검색 인덱스 대상 (승인 + 미삭제)
+     */
+    private BooleanExpression searchIndexTarget() {
+        return notDeleted()
+                .and(institution.approvalStatus.eq(ApprovalStatus.APPROVED));
+    }
+
+    /**
+     * 목록 카드 조회 (평점 집계를 함께 조회, 리뷰가 없는 기관은 집계 행이 없음)
+     */
+    private JPAQuery<InstitutionCard> selectCards() {
+        return queryFactory
+                .select(cardProjection())
+                .from(institution)
+                .leftJoin(ratingSummary).on(ratingSummary.institutionId.eq(institution.id));
+    }
+
+    /**
+     * 목록 카드 컬럼 (엔티티 대신 DTO로 조회하여 행 너비와 영속성 컨텍스트 비용 축소)
+     */
+    private ConstructorExpression<InstitutionCard> cardProjection() {
+        return Projections.constructor(InstitutionCard.class,
+                institution.id,
+                institution.name,
+                institution.institutionType,
+                institution.mainImageUrl,
+                institution.phoneNumber,
+                institution.approvalStatus,
+                institution.isAdmissionAvailable,
+                institution.bedCount,
+                institution.address.city,
+                institution.address.street,
+                institution.address.zipCode,
+                institution.location.latitude,
+                institution.location.longitude,
+                institution.priceInfo.monthlyBaseFee,
+                institution.createdAt,
+                ratingSummary.reviewCount,
+                ratingSummary.ratingSum);
+    }
+
+    private ConstructorExpression<InstitutionSearchDocument> searchDocumentProjection() {
+        return Projections.constructor(InstitutionSearchDocument.class,
+                institution.id,
+                institution.name,
+                institution.institutionType,
+                institution.isAdmissionAvailable,
+                institution.address.city,
+                institution.priceInfo.monthlyBaseFee,
+                institution.bedCount,
+                institution.createdAt,
+                institution.location.latitude,
+                institution.location.longitude);
+    }
+
+    /**
+     * 반경 조건 (사각 범위 + 정확한 거리), 위치 조건이 없으면 null
+     */
+    private BooleanExpression withinRadius(InstitutionSearchFilter filter) {
+        if (filter.getLatitude() == null || filter.getLongitude() == null || filter.getRadiusKm() == null) {
+            return null;
+        }
+        return withinBoundingBox(GeoBoundingBox.around(filter.getLatitude(), filter.getLongitude(), filter.getRadiusKm()))
+                .and(distanceKm(filter.getLatitude(), filter.getLongitude()).loe(filter.getRadiusKm()));
+    }
+
+    /**
+     * 커서 정렬 (정렬 키 + id)
+     */
+    private OrderSpecifier<?>[] cursorOrder(InstitutionCursorSort sort) {
+        return switch (sort) {
+            case CREATED_AT_DESC -> new OrderSpecifier<?>[]{institution.createdAt.desc(), institution.id.desc()};
+            case NAME_ASC -> new OrderSpecifier<?>[]{institution.name.asc(), institution.id.asc()};
+            case MONTHLY_BASE_FEE_ASC -> new OrderSpecifier<?>[]{
+                    institution.priceInfo.monthlyBaseFee.asc().nullsLast(), institution.id.asc()};
+        };
+    }
+
+    /**
+     * 커서 이후 조건 (정렬 키, id) 키셋 비교
+     * - 요금 정렬은 요금 미등록(NULL) 기관이 마지막
+     */
+    private BooleanExpression afterCursor(InstitutionCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return switch (cursor.sort()) {
+            case CREATED_AT_DESC -> institution.createdAt.lt(cursor.createdAt())
+                    .or(institution.createdAt.eq(cursor.createdAt()).and(institution.id.lt(cursor.id())));
+            case NAME_ASC -> institution.name.gt(cursor.sortKey())
+                    .or(institution.name.eq(cursor.sortKey()).and(institution.id.gt(cursor.id())));
+            case MONTHLY_BASE_FEE_ASC -> {
+                NumberPath<Integer> fee = institution.priceInfo.monthlyBaseFee;
+                Integer cursorFee = cursor.monthlyBaseFee();
+                yield cursorFee == null
+                        ? fee.isNull().and(institution.id.gt(cursor.id()))
+                        : fee.gt(cursorFee)
+                                .or(fee.isNull())
+                                .or(fee.eq(cursorFee).and(institution.id.gt(cursor.id())));
+            }
+        };
+    }
 }
@@ -0,0 +1,28 @@
+package com.caring.caringbackend.domain.institution.profile.repository;
+
+import com.caring.caringbackend.domain.institution.profile.entity.InstitutionType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인메모리 검색 인덱스용 기관 프로젝션
+ * - 승인된, 삭제되지 않은 기관의 검색 조건 / 정렬 컬럼만 포함
+ * - 위치 정보가 없는 기관은 latitude, longitude가 null
+ */
+public record InstitutionSearchDocument(
+        Long id,
+        String name,
+        InstitutionType institutionType,
+        Boolean isAdmissionAvailable,
+        String city,
+        Integer monthlyBaseFee,
+        Integer bedCount,
+        LocalDateTime createdAt,
+        Double latitude,
+        Double longitude
+) {
+
+    public boolean hasLocation() {
+        return latitude != null && longitude != null;
+    }
+}
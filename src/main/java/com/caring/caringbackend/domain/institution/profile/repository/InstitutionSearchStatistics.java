@@ -0,0 +1,25 @@
+package com.caring.caringbackend.domain.institution.profile.repository;
+
+import com.caring.caringbackend.domain.institution.profile.entity.InstitutionType;
+
+import java.util.Map;
+import java.util.NavigableMap;
+
+/**
+ * 공개 기관(승인 + 미삭제) 분포 통계
+ * - 근사 건수 계산용, 주기적으로 다시 집계
+ *
+ * @param total 전체 기관 수
+ * @param countByType 기관 유형별 기관 수
+ * @param admissionAvailableCount 입소 가능 기관 수
+ * @param countByCity 도시별 기관 수
+ * @param countByMonthlyBaseFee 월 기본 요금별 기관 수 (요금 미등록 제외)
+ */
+public record InstitutionSearchStatistics(
+        long total,
+        Map<InstitutionType, Long> countByType,
+        long admissionAvailableCount,
+        Map<String, Long> countByCity,
+        NavigableMap<Integer, Long> countByMonthlyBaseFee
+) {
+}
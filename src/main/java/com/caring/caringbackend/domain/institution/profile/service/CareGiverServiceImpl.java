@@ -10,12 +10,14 @@ import com.caring.caringbackend.domain.file.service.FileService;
 import com.caring.caringbackend.domain.institution.profile.entity.CareGiver;
 import com.caring.caringbackend.domain.institution.profile.entity.Institution;
 import com.caring.caringbackend.domain.institution.profile.entity.InstitutionAdmin;
+import com.caring.caringbackend.domain.institution.profile.event.InstitutionDetailChangedEvent;
 import com.caring.caringbackend.domain.institution.profile.repository.CareGiverRepository;
 import com.caring.caringbackend.domain.institution.profile.repository.InstitutionAdminRepository;
 import com.caring.caringbackend.global.exception.BusinessException;
 import com.caring.caringbackend.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -31,6 +33,7 @@ public class CareGiverServiceImpl implements CareGiverService {
     private final CareGiverRepository careGiverRepository;
     private final InstitutionAdminRepository institutionAdminRepository;
     private final FileService fileService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 요양보호사 등록
@@ -60,6 +63,7 @@ public class CareGiverServiceImpl implements CareGiverService {
             File uploadedFile = fileService.uploadCareGiverPhoto(photo, savedCareGiver.getId());
             savedCareGiver.updatePhotoUrl(uploadedFile.getFileUrl());
         }
+        eventPublisher.publishEvent(new InstitutionDetailChangedEvent(institution.getId()));
     }
 
     @Override
@@ -107,6 +111,7 @@ public class CareGiverServiceImpl implements CareGiverService {
                 requestDto.birthDate(),
                 requestDto.experienceDetails()
         );
+        eventPublisher.publishEvent(new InstitutionDetailChangedEvent(institution.getId()));
     }
 
     @Override
@@ -131,6 +136,7 @@ public class CareGiverServiceImpl implements CareGiverService {
         } else {
             careGiver.updatePhotoUrl(null);
         }
+        eventPublisher.publishEvent(new InstitutionDetailChangedEvent(institution.getId()));
     }
 
     @Override
@@ -139,6 +145,7 @@ public class CareGiverServiceImpl implements CareGiverService {
         validate(admin);
         Institution institution = admin.getInstitution();
         getCareGiver(institution.getId(), careGiverId).softDelete();
+        eventPublisher.publishEvent(new InstitutionDetailChangedEvent(institution.getId()));
     }
 
     private CareGiver getCareGiver(Long institutionId, Long careGiverId) {
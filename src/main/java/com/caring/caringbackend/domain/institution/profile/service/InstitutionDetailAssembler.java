@@ -0,0 +1,230 @@
+package com.caring.caringbackend.domain.institution.profile.service;
+
+import com.caring.caringbackend.api.internal.admin.dto.response.TagResponse;
+import com.caring.caringbackend.api.internal.institution.dto.response.CareGiverResponseDto;
+import com.caring.caringbackend.api.internal.institution.dto.response.InstitutionDetailResponseDto;
+import com.caring.caringbackend.api.internal.institution.dto.response.counsel.InstitutionCounselResponseDto;
+import com.caring.caringbackend.api.internal.institution.dto.response.review.InstitutionRatingSummaryResponseDto;
+import com.caring.caringbackend.api.internal.institution.dto.response.review.InstitutionReviewsResponseDto;
+import com.caring.caringbackend.domain.file.service.FileService;
+import com.caring.caringbackend.domain.institution.counsel.repository.InstitutionCounselRepository;
+import com.caring.caringbackend.domain.institution.profile.entity.CareGiver;
+import com.caring.caringbackend.domain.institution.profile.entity.Institution;
+import com.caring.caringbackend.domain.institution.profile.repository.CareGiverRepository;
+import com.caring.caringbackend.domain.institution.profile.repository.InstitutionRepository;
+import com.caring.caringbackend.domain.review.service.InstitutionRatingSummaryService;
+import com.caring.caringbackend.domain.review.service.InstitutionReviewService;
+import com.caring.caringbackend.domain.tag.repository.InstitutionTagRepository;
+import com.caring.caringbackend.global.exception.BusinessException;
+import com.caring.caringbackend.global.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 기관 상세 응답 병렬 조립
+ * <p>
+ * 기관 기본 정보를 조회/검증한 뒤, 서로 독립적인 하위 목록(태그, 상담 서비스, 요양보호사 + PreSigned URL, 리뷰, 평점 요약)을
+ * 전용 스레드 풀에서 동시에 조회합니다.
+ * - 하위 항목마다 별도의 읽기 전용 트랜잭션(= 별도 DB 커넥션)을 사용하므로, 스레드 수가 상세 조립에 쓰는 커넥션 상한
+ * - 하위 항목 트랜잭션에는 제한 시간을 트랜잭션 타임아웃(= 쿼리 타임아웃)으로 걸어, 대기를 포기한 쿼리가 커넥션을 계속 잡지 않도록 함
+ * - 풀과 대기열이 모두 차면 해당 하위 항목은 실행하지 않고 누락 처리 (요청 스레드에서 대신 실행하지 않음)
+ * - 하위 항목이 제한 시간 안에 끝나지 않거나 실패하면 작업을 취소하고 빈 값으로 대체한 부분 응답을 반환 (캐시하지 않음)
+ */
+@Slf4j
+@Component
+public class InstitutionDetailAssembler {
+
+    private static final String PART_TAGS = "tags";
+    private static final String PART_COUNSELS = "counselServices";
+    private static final String PART_CARE_GIVERS = "careGivers";
+    private static final String PART_REVIEWS = "reviewData";
+    private static final String PART_RATING_SUMMARY = "ratingSummary";
+
+    private final InstitutionRepository institutionRepository;
+    private final InstitutionTagRepository institutionTagRepository;
+    private final InstitutionCounselRepository institutionCounselRepository;
+    private final CareGiverRepository careGiverRepository;
+    private final InstitutionReviewService institutionReviewService;
+    private final InstitutionRatingSummaryService institutionRatingSummaryService;
+    private final FileService fileService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate partTransaction;
+    private final ThreadPoolTaskExecutor executor;
+    private final long partTimeoutMillis;
+
+    public InstitutionDetailAssembler(InstitutionRepository institutionRepository,
+                                      InstitutionTagRepository institutionTagRepository,
+                                      InstitutionCounselRepository institutionCounselRepository,
+                                      CareGiverRepository careGiverRepository,
+                                      InstitutionReviewService institutionReviewService,
+                                      InstitutionRatingSummaryService institutionRatingSummaryService,
+                                      FileService fileService,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${institution.detail-assembly.threads:4}") int threads,
+                                      @Value("${institution.detail-assembly.queue-capacity:100}") int queueCapacity,
+                                      @Value("${institution.detail-assembly.part-timeout-ms:2000}") long partTimeoutMillis) {
+        this.institutionRepository = institutionRepository;
+        this.institutionTagRepository = institutionTagRepository;
+        this.institutionCounselRepository = institutionCounselRepository;
+        this.careGiverRepository = careGiverRepository;
+        this.institutionReviewService = institutionReviewService;
+        this.institutionRatingSummaryService = institutionRatingSummaryService;
+        this.fileService = fileService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.partTransaction = new TransactionTemplate(transactionManager);
+        this.partTransaction.setReadOnly(true);
+        this.partTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(partTimeoutMillis + 999)));
+        this.partTimeoutMillis = partTimeoutMillis;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(threads);
+        this.executor.setMaxPoolSize(threads);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setThreadNamePrefix("institution-detail-");
+        this.executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        this.executor.initialize();
+    }
+
+    /**
+     * 기관 상세 조립
+     * - 기관 조회/검증 실패는 그대로 전파 (하위 항목 조회 전에 실패)
+     *
+     * @param institutionId 기관 ID
+     * @return 조립 결과 (부분 응답 여부 포함)
+     */
+    public InstitutionDetailAssembly assemble(Long institutionId) {
+        Institution institution = readOnlyTransaction.execute(status -> findDisplayableInstitution(institutionId));
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(partTimeoutMillis);
+        Future<List<TagResponse>> tags = submit(() -> partTransaction.execute(status ->
+                institutionTagRepository.findTagsByInstitutionId(institutionId).stream()
+                        .map(TagResponse::from)
+                        .toList()));
+        Future<List<InstitutionCounselResponseDto>> counsels = submit(() -> partTransaction.execute(status ->
+                institutionCounselRepository.findByInstitutionId(institutionId).stream()
+                        .map(InstitutionCounselResponseDto::from)
+                        .toList()));
+        Future<List<CareGiverResponseDto>> careGivers = submit(() -> presignCareGivers(
+                partTransaction.execute(status -> careGiverRepository.findByInstitutionIdOrderByCreatedAtDesc(institutionId))));
+        // 서비스의 @Transactional은 바깥 트랜잭션에 참여하므로 같은 타임아웃이 적용됨
+        Future<InstitutionReviewsResponseDto> reviews = submit(() -> partTransaction.execute(status ->
+                institutionReviewService.getInstitutionDetailReviews(institutionId)));
+        Future<InstitutionRatingSummaryResponseDto> ratingSummary = submit(() -> partTransaction.execute(status ->
+                institutionRatingSummaryService.getSummary(institutionId)));
+
+        // 대표 사진 URL은 하위 항목을 기다리는 동안 호출 스레드에서 생성
+        String mainImageUrl = fileService.generatePresignedUrl(institution.getMainImageUrl());
+
+        Set<String> missingParts = new LinkedHashSet<>();
+        InstitutionDetailResponseDto detail = InstitutionDetailResponseDto.of(
+                institution,
+                mainImageUrl,
+                await(institutionId, PART_COUNSELS, counsels, deadline, List.of(), missingParts),
+                await(institutionId, PART_CARE_GIVERS, careGivers, deadline, List.of(), missingParts),
+                await(institutionId, PART_TAGS, tags, deadline, List.of(), missingParts),
+                await(institutionId, PART_REVIEWS, reviews, deadline, InstitutionReviewsResponseDto.of(null), missingParts),
+                await(institutionId, PART_RATING_SUMMARY, ratingSummary, deadline,
+                        InstitutionRatingSummaryResponseDto.empty(), missingParts)
+        );
+
+        if (!missingParts.isEmpty()) {
+            log.warn("기관 상세 부분 응답: institutionId={}, missingParts={}", institutionId, missingParts);
+        }
+        return new InstitutionDetailAssembly(detail, Set.copyOf(missingParts));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // ==================== Private Methods ====================
+
+    /**
+     * 공개 상세 조회 대상 기관 (활성 + 승인) 조회
+     * - 전문 질환 목록은 기본 정보와 함께 초기화 (트랜잭션 밖에서 사용)
+     */
+    private Institution findDisplayableInstitution(Long institutionId) {
+        Institution institution = institutionRepository.findById(institutionId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.INSTITUTION_NOT_FOUND));
+        if (!institution.isActive()) {
+            throw new BusinessException(ErrorCode.INSTITUTION_INACTIVE);
+        }
+        if (!institution.isApproved()) {
+            throw new BusinessException(ErrorCode.INSTITUTION_APPROVAL_PENDING);
+        }
+
+        if (institution.getSpecializedConditions() != null) {
+            institution.getSpecializedConditions().size();
+        }
+        return institution;
+    }
+
+    /**
+     * 요양보호사 사진 PreSigned URL 생성 (DB 커넥션 반납 후 실행)
+     */
+    private List<CareGiverResponseDto> presignCareGivers(List<CareGiver> careGivers) {
+        return careGivers.stream()
+                .map(careGiver -> CareGiverResponseDto.fromWithPresignedUrl(
+                        careGiver, fileService.generatePresignedUrl(careGiver.getPhotoUrl())))
+                .toList();
+    }
+
+    /**
+     * 하위 항목 제출 (풀과 대기열이 모두 차면 실행하지 않고 실패한 Future 반환 → 누락 처리)
+     * - cancel(true)로 실행 중인 스레드를 인터럽트할 수 있도록 CompletableFuture 대신 FutureTask 사용
+     */
+    private <T> Future<T> submit(Callable<T> part) {
+        try {
+            return executor.submit(part);
+        } catch (TaskRejectedException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 하위 항목 결과 대기 (모든 항목이 같은 시점에 시작하므로 공통 마감 시각까지 대기)
+     * - 시간 초과/대기 중단 시 작업을 취소하여 대기열에 남은 작업은 실행되지 않고, 실행 중인 작업은 인터럽트됨
+     */
+    private <T> T await(Long institutionId, String partName, Future<T> part, long deadline,
+                        T fallback, Set<String> missingParts) {
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            return part.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            part.cancel(true);
+            log.warn("기관 상세 하위 항목 시간 초과: institutionId={}, part={}, timeoutMs={}",
+                    institutionId, partName, partTimeoutMillis);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TaskRejectedException) {
+                log.warn("기관 상세 하위 항목 대기열 초과: institutionId={}, part={}", institutionId, partName);
+            } else {
+                log.warn("기관 상세 하위 항목 조회 실패: institutionId={}, part={}", institutionId, partName, e.getCause());
+            }
+        } catch (InterruptedException e) {
+            part.cancel(true);
+            Thread.currentThread().interrupt();
+            log.warn("기관 상세 하위 항목 대기 중단: institutionId={}, part={}", institutionId, partName);
+        }
+        missingParts.add(partName);
+        return fallback;
+    }
+}
@@ -0,0 +1,28 @@
+package com.caring.caringbackend.domain.institution.profile.service;
+
+import com.caring.caringbackend.api.internal.institution.dto.response.InstitutionDetailResponseDto;
+
+import java.util.Set;
+
+/**
+ * 기관 상세 조립 결과
+ *
+ * @param detail 상세 응답 (일부 하위 목록이 빠졌을 수 있음)
+ * @param missingParts 시간 초과/실패로 빈 값으로 대체된 하위 항목 (완전하면 비어 있음)
+ */
+public record InstitutionDetailAssembly(
+        InstitutionDetailResponseDto detail,
+        Set<String> missingParts
+) {
+
+    public static InstitutionDetailAssembly complete(InstitutionDetailResponseDto detail) {
+        return new InstitutionDetailAssembly(detail, Set.of());
+    }
+
+    /**
+     * 부분 응답은 캐시하지 않음
+     */
+    public boolean isComplete() {
+        return missingParts.isEmpty();
+    }
+}
@@ -0,0 +1,242 @@
+package com.caring.caringbackend.domain.institution.profile.service;
+
+import com.caring.caringbackend.api.internal.institution.dto.response.InstitutionDetailResponseDto;
+import com.caring.caringbackend.domain.institution.profile.event.InstitutionChangedEvent;
+import com.caring.caringbackend.domain.institution.profile.event.InstitutionDetailChangedEvent;
+import com.caring.caringbackend.domain.tag.event.TagChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 기관 상세 응답 캐시 (Caffeine → Redis → DB)
+ * <p>
+ * 조립이 끝난 상세 응답을 (기관 ID, 버전)별로 보관합니다.
+ * - 버전은 Redis의 기관별 카운터 + 전체 카운터로 구성되며, 기관/요양보호사/상담/리뷰/태그 변경 커밋 후 증가
+ * - 노드 로컬(Caffeine)에 없으면 Redis에서 다른 노드가 조립해 둔 응답을 읽고, 둘 다 없을 때만 DB에서 조립
+ * - Redis 조회와 조립은 Caffeine 계산 함수 밖에서 실행하고, 같은 키의 동시 조립은 키별 Future 하나로 합침
+ *   (Caffeine 내부 잠금을 잡은 채 DB/Redis IO를 기다리지 않음)
+ * - 하위 항목이 빠진 부분 응답은 캐시하지 않음
+ * - 응답에 PreSigned URL이 포함되므로 TTL은 캐시된 URL의 잔여 유효시간(최소 15분)보다 짧게 유지
+ *   (TTL은 조립 시각 기준이며, Redis에서 읽어 온 응답은 로컬에 남은 TTL만큼만 보관하여 두 계층 합계도 TTL 이내)
+ * - Redis 장애 시 캐시 없이 매번 조립
+ */
+@Slf4j
+@Component
+public class InstitutionDetailCache {
+
+    private static final String GLOBAL_VERSION_KEY = "institution:detail:version";
+    private static final String VERSION_KEY_PREFIX = "institution:detail:version:";
+    private static final String DETAIL_KEY_PREFIX = "institution:detail:entry:";
+    private static final long LOCAL_MAXIMUM_SIZE = 2_000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Cache<String, LocalEntry> local;
+    // 키별 진행 중인 조립 (같은 노드의 동시 미적중은 먼저 시작한 조립 결과를 기다림)
+    private final ConcurrentMap<String, CompletableFuture<LocalEntry>> assembling = new ConcurrentHashMap<>();
+
+    public InstitutionDetailCache(StringRedisTemplate stringRedisTemplate,
+                                  ObjectMapper objectMapper,
+                                  @Value("${institution.detail-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.local = Caffeine.newBuilder()
+                .maximumSize(LOCAL_MAXIMUM_SIZE)
+                .expireAfter(new Expiry<String, LocalEntry>() {
+                    @Override
+                    public long expireAfterCreate(String key, LocalEntry entry, long currentTime) {
+                        return remaining(entry.assembledAtMillis()).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, LocalEntry entry, long currentTime, long currentDuration) {
+                        return remaining(entry.assembledAtMillis()).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, LocalEntry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 현재 버전의 상세 응답 조회, 없으면 조립 후 저장
+     * - 조립은 캐시 미적중 시에만 실행 (적중 시 DB 커넥션 사용 안 함)
+     * - 같은 노드의 동시 미적중은 한 번만 조립
+     *
+     * @param institutionId 기관 ID
+     * @param assembler 상세 응답 조립 (조회/검증 예외는 그대로 전파, 캐시하지 않음)
+     * @return 기관 상세 응답
+     */
+    public InstitutionDetailResponseDto get(Long institutionId, Supplier<InstitutionDetailAssembly> assembler) {
+        Optional<String> key = version(institutionId).map(version -> DETAIL_KEY_PREFIX + institutionId + ":" + version);
+        if (key.isEmpty()) {
+            return assembler.get().detail();
+        }
+
+        LocalEntry cached = local.getIfPresent(key.get());
+        if (cached != null) {
+            return cached.assembly().detail();
+        }
+
+        Optional<StoredDetail> stored = read(key.get());
+        if (stored.isPresent()) {
+            LocalEntry entry = new LocalEntry(
+                    InstitutionDetailAssembly.complete(stored.get().detail()), stored.get().assembledAtMillis());
+            local.put(key.get(), entry);
+            return entry.assembly().detail();
+        }
+
+        return assembleOnce(key.get(), assembler).assembly().detail();
+    }
+
+    /**
+     * 기관 정보/태그 변경 (검색 인덱스와 같은 이벤트)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onInstitutionChanged(InstitutionChangedEvent event) {
+        increment(VERSION_KEY_PREFIX + event.institutionId());
+    }
+
+    /**
+     * 요양보호사/상담/리뷰 변경
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onInstitutionDetailChanged(InstitutionDetailChangedEvent event) {
+        increment(VERSION_KEY_PREFIX + event.institutionId());
+    }
+
+    /**
+     * 태그 정의 변경 (태그 이름/설명이 모든 기관 상세 응답에 복제되어 있음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTagChanged(TagChangedEvent event) {
+        increment(GLOBAL_VERSION_KEY);
+    }
+
+    /**
+     * 기관 상세 버전 (전체 버전 + 기관 버전을 한 번에 조회)
+     * - 상세/상담 목록/리뷰 목록 응답의 ETag로도 사용
+     *
+     * @param institutionId 기관 ID
+     * @return 버전 (Redis 장애 시 empty)
+     */
+    public Optional<String> version(Long institutionId) {
+        try {
+            List<String> versions = stringRedisTemplate.opsForValue()
+                    .multiGet(List.of(GLOBAL_VERSION_KEY, VERSION_KEY_PREFIX + institutionId));
+            String global = versions != null && versions.get(0) != null ? versions.get(0) : "0";
+            String version = versions != null && versions.get(1) != null ? versions.get(1) : "0";
+            return Optional.of(global + "." + version);
+        } catch (Exception e) {
+            log.warn("기관 상세 캐시 버전 조회 실패, 캐시 없이 조회: institutionId={}", institutionId, e);
+            return Optional.empty();
+        }
+    }
+
+    // ==================== Private Methods ====================
+
+    /**
+     * 키별 1회 조립 (single-flight)
+     * - 먼저 시작한 요청이 조립하고, 동시에 들어온 요청은 그 결과(부분 응답/예외 포함)를 공유
+     * - 완전한 응답만 로컬/Redis에 저장하므로, 부분 응답은 조립이 끝난 뒤 들어온 요청에서 다시 조립
+     */
+    private LocalEntry assembleOnce(String key, Supplier<InstitutionDetailAssembly> assembler) {
+        CompletableFuture<LocalEntry> mine = new CompletableFuture<>();
+        CompletableFuture<LocalEntry> running = assembling.putIfAbsent(key, mine);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            LocalEntry assembled = new LocalEntry(assembler.get(), System.currentTimeMillis());
+            if (assembled.assembly().isComplete()) {
+                local.put(key, assembled);
+                write(key, new StoredDetail(assembled.assembledAtMillis(), assembled.assembly().detail()));
+            }
+            mine.complete(assembled);
+            return assembled;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            assembling.remove(key, mine);
+        }
+    }
+
+    private Optional<StoredDetail> read(String key) {
+        try {
+            String cached = stringRedisTemplate.opsForValue().get(key);
+            return Optional.ofNullable(cached != null ? objectMapper.readValue(cached, StoredDetail.class) : null)
+                    .filter(stored -> stored.detail() != null);
+        } catch (Exception e) {
+            log.warn("기관 상세 캐시 조회 실패: key={}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    private void write(String key, StoredDetail stored) {
+        try {
+            stringRedisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(stored), ttl);
+        } catch (Exception e) {
+            log.warn("기관 상세 캐시 저장 실패: key={}", key, e);
+        }
+    }
+
+    private void increment(String versionKey) {
+        try {
+            stringRedisTemplate.opsForValue().increment(versionKey);
+        } catch (Exception e) {
+            log.warn("기관 상세 캐시 버전 증가 실패, TTL 만료까지 이전 응답이 노출될 수 있음: key={}", versionKey, e);
+        }
+    }
+
+    /**
+     * 조립 시각 기준 남은 TTL (음수면 즉시 만료)
+     */
+    private Duration remaining(long assembledAtMillis) {
+        Duration age = Duration.ofMillis(System.currentTimeMillis() - assembledAtMillis);
+        Duration remaining = ttl.minus(age);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    /**
+     * Redis 저장 형식 (조립 시각 포함)
+     */
+    private record StoredDetail(long assembledAtMillis, InstitutionDetailResponseDto detail) {
+    }
+
+    /**
+     * 로컬 캐시 항목 (조립 시각 기준으로 만료)
+     */
+    private record LocalEntry(InstitutionDetailAssembly assembly, long assembledAtMillis) {
+    }
+}
@@ -5,13 +5,18 @@ import com.caring.caringbackend.api.internal.institution.dto.request.Institution
 import com.caring.caringbackend.api.internal.institution.dto.request.InstitutionSearchFilter;
 import com.caring.caringbackend.api.internal.institution.dto.request.InstitutionUpdateRequestDto;
 import com.caring.caringbackend.api.internal.institution.dto.response.DashboardDto;
+import com.caring.caringbackend.api.internal.institution.dto.response.InstitutionCursorResponseDto;
 import com.caring.caringbackend.api.internal.institution.dto.response.InstitutionDetailResponseDto;
+import com.caring.caringbackend.api.internal.institution.dto.response.InstitutionFacetResponseDto;
 import com.caring.caringbackend.api.internal.institution.dto.response.InstitutionProfileResponseDto;
+import com.caring.caringbackend.api.internal.institution.dto.response.InstitutionSuggestionResponseDto;
+import com.caring.caringbackend.domain.institution.profile.repository.InstitutionCursorSort;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface InstitutionService {
 
@@ -31,12 +36,57 @@ public interface InstitutionService {
      */
     Page<InstitutionProfileResponseDto> getInstitutions(Pageable pageable, InstitutionSearchFilter filter);
 
+    /**
+     * 기관 목록 조회 (키셋 커서, COUNT 없음)
+     *
+     * @param filter 검색 필터
+     * @param sort 정렬 기준
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 조회 건수
+     * @param includeApproximateCount 근사 건수 포함 여부
+     * @return 기관 목록 커서 응답 DTO
+     */
+    InstitutionCursorResponseDto getInstitutionsByCursor(InstitutionSearchFilter filter, InstitutionCursorSort sort,
+                                                         String cursor, int size, boolean includeApproximateCount);
+
+    /**
+     * 기관 검색 패싯 건수 조회 (유형/도시/입소 가능 여부)
+     *
+     * @param filter 검색 필터
+     * @return 패싯 응답 DTO
+     */
+    InstitutionFacetResponseDto getInstitutionFacets(InstitutionSearchFilter filter);
+
+    /**
+     * 기관 자동완성 (인메모리 인덱스, DB 접근 없음)
+     *
+     * @param query 입력 중인 검색어 (초성 검색 지원)
+     * @param limit 최대 건수
+     * @return 자동완성 후보 목록
+     */
+    List<InstitutionSuggestionResponseDto> suggestInstitutions(String query, int limit);
+
     /**
      * 기관 상세 조회
      * @param institutionId 기관 ID
      */
     InstitutionDetailResponseDto getInstitutionDetail(Long institutionId);
 
+    /**
+     * 공개 기관 목록 버전 (목록/패싯/자동완성 ETag용, DB 접근 없음)
+     *
+     * @return 버전 (확인할 수 없으면 empty)
+     */
+    Optional<String> getCatalogVersion();
+
+    /**
+     * 기관 상세 버전 (상세/상담 목록/리뷰 목록 ETag용, DB 접근 없음)
+     *
+     * @param institutionId 기관 ID
+     * @return 버전 (확인할 수 없으면 empty)
+     */
+    Optional<String> getInstitutionDetailVersion(Long institutionId);
+
     /**
      * 기관 정보 수정
      * @param adminId 관리자 ID
@@ -5,17 +5,30 @@ import com.caring.caringbackend.api.internal.admin.dto.response.TagResponse;
 import com.caring.caringbackend.api.internal.institution.dto.request.InstitutionCreateRequestDto;
 import com.caring.caringbackend.api.internal.institution.dto.request.InstitutionSearchFilter;
 import com.caring.caringbackend.api.internal.institution.dto.request.InstitutionUpdateRequestDto;
+import com.caring.caringbackend.api.internal.institution.dto.response.InstitutionCursorResponseDto;
 import com.caring.caringbackend.api.internal.institution.dto.response.InstitutionDetailResponseDto;
+import com.caring.caringbackend.api.internal.institution.dto.response.InstitutionFacetResponseDto;
 import com.caring.caringbackend.api.internal.institution.dto.response.InstitutionProfileResponseDto;
+import com.caring.caringbackend.api.internal.institution.dto.response.InstitutionSuggestionResponseDto;
 import com.caring.caringbackend.api.internal.institution.dto.response.review.InstitutionReviewsResponseDto;
+import com.caring.caringbackend.domain.chat.service.ChatRoomAccessCache;
 import com.caring.caringbackend.domain.file.entity.File;
 import com.caring.caringbackend.domain.file.entity.FileCategory;
 import com.caring.caringbackend.domain.file.service.FileService;
 import com.caring.caringbackend.domain.institution.profile.entity.Institution;
 import com.caring.caringbackend.domain.institution.profile.entity.InstitutionAdmin;
 import com.caring.caringbackend.domain.institution.profile.entity.PriceInfo;
+import com.caring.caringbackend.domain.institution.profile.event.InstitutionChangedEvent;
 import com.caring.caringbackend.domain.institution.profile.repository.InstitutionAdminRepository;
+import com.caring.caringbackend.domain.institution.profile.repository.InstitutionCard;
+import com.caring.caringbackend.domain.institution.profile.repository.InstitutionCursor;
+import com.caring.caringbackend.domain.institution.profile.repository.InstitutionCursorSort;
 import com.caring.caringbackend.domain.institution.profile.repository.InstitutionRepository;
+import com.caring.caringbackend.domain.institution.profile.service.search.InstitutionCountEstimator;
+import com.caring.caringbackend.domain.institution.profile.service.search.InstitutionSearchPlanner;
+import com.caring.caringbackend.domain.institution.profile.service.search.InstitutionSearchResultCache;
+import com.caring.caringbackend.domain.institution.profile.service.search.InstitutionSuggestIndex;
+import com.caring.caringbackend.domain.review.service.InstitutionRatingSummaryService;
 import com.caring.caringbackend.domain.review.service.InstitutionReviewService;
 import com.caring.caringbackend.domain.tag.entity.InstitutionTag;
 import com.caring.caringbackend.domain.tag.entity.Tag;
@@ -32,14 +45,15 @@ import java.util.HashSet;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Function;
 
 import static com.caring.caringbackend.domain.file.entity.ReferenceType.INSTITUTION;
@@ -49,16 +63,27 @@ import static com.caring.caringbackend.domain.file.entity.ReferenceType.INSTITUT
 @RequiredArgsConstructor
 public class InstitutionServiceImpl implements InstitutionService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_SUGGESTION_SIZE = 20;
+
     private final InstitutionRepository institutionRepository;
     private final InstitutionAdminRepository institutionAdminRepository;
     private final GeocodingService geocodingService;
-    private final List<InstitutionSearchStrategy> searchStrategies;
+    private final InstitutionSearchPlanner institutionSearchPlanner;
+    private final InstitutionCountEstimator institutionCountEstimator;
+    private final InstitutionSuggestIndex institutionSuggestIndex;
     private final FileService fileService;
     private final TagRepository tagRepository;
     private final InstitutionTagRepository institutionTagRepository;
     private final AiServerService aiServerService;
     private final InstitutionReviewService institutionReviewService;
+    private final InstitutionRatingSummaryService institutionRatingSummaryService;
     private final TagService tagService;
+    private final ChatRoomAccessCache chatRoomAccessCache;
+    private final InstitutionDetailCache institutionDetailCache;
+    private final InstitutionDetailAssembler institutionDetailAssembler;
+    private final InstitutionSearchResultCache institutionSearchResultCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 기관 등록
@@ -112,7 +137,8 @@ public class InstitutionServiceImpl implements InstitutionService {
         if (uploadedFile.getId() != null) {
             fileService.updateFileReference(uploadedFile.getId(), savedInstitution.getId(), INSTITUTION);
         }
-        
+
+        eventPublisher.publishEvent(new InstitutionChangedEvent(savedInstitution.getId()));
         log.info("기관 등록 완료: institutionId={}, adminId={}", savedInstitution.getId(), adminId);
     }
 
@@ -122,19 +148,56 @@ public class InstitutionServiceImpl implements InstitutionService {
     @Override
     @Transactional(readOnly = true)
     public Page<InstitutionProfileResponseDto> getInstitutions(Pageable pageable, InstitutionSearchFilter filter) {
-        // 적용 가능한 검색 전략 선택 (우선순위 순)
-        InstitutionSearchStrategy strategy = searchStrategies.stream()
-                .filter(s -> s.isApplicable(filter))
-                .min(Comparator.comparingInt(InstitutionSearchStrategy::getPriority))
-                .orElseThrow(() -> new IllegalStateException("검색 전략을 찾을 수 없습니다."));
-
-        Page<Institution> institutionPage = strategy.search(filter, pageable);
-
-        return institutionPage.map(InstitutionProfileResponseDto::from)
-                .map(dto -> {
-                    dto.setMainImageUrl(fileService.generatePresignedUrl(dto.getMainImageUrl()));
-                    return dto;
-                });
+        // 모든 검색 조건을 한 계획으로 실행 (접근 경로는 후보 수 기준으로 선택)
+        Page<InstitutionCard> institutionPage = institutionSearchPlanner.search(filter, pageable);
+
+        return institutionPage.map(this::toProfileResponse);
+    }
+
+    /**
+     * 기관 목록 조회 (키셋 커서, COUNT 없음)
+     * - size + 1건을 조회하여 다음 페이지 존재 여부 판단
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public InstitutionCursorResponseDto getInstitutionsByCursor(InstitutionSearchFilter filter,
+                                                                InstitutionCursorSort sort, String cursor,
+                                                                int size, boolean includeApproximateCount) {
+        InstitutionSearchFilter criteria = filter != null ? filter : new InstitutionSearchFilter();
+        InstitutionCursor after = (cursor == null || cursor.isBlank()) ? null : InstitutionCursor.decode(cursor, sort);
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+
+        List<InstitutionCard> fetched = institutionRepository.searchByCursor(criteria, sort, after, limit + 1);
+        boolean hasNext = fetched.size() > limit;
+        List<InstitutionCard> institutions = hasNext ? fetched.subList(0, limit) : fetched;
+
+        return InstitutionCursorResponseDto.builder()
+                .institutions(institutions.stream().map(this::toProfileResponse).toList())
+                .hasNext(hasNext)
+                .nextCursor(hasNext
+                        ? InstitutionCursor.after(sort, institutions.get(institutions.size() - 1)).encode()
+                        : null)
+                .approximateTotal(includeApproximateCount ? institutionCountEstimator.estimate(criteria) : null)
+                .build();
+    }
+
+    /**
+     * 기관 검색 패싯 건수 조회 (집계 1회, 검색 결과와 같은 캐시 사용)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public InstitutionFacetResponseDto getInstitutionFacets(InstitutionSearchFilter filter) {
+        return InstitutionFacetResponseDto.from(institutionSearchPlanner.facets(filter));
+    }
+
+    /**
+     * 기관 자동완성 (인메모리 인덱스만 사용하므로 트랜잭션 없음)
+     */
+    @Override
+    public List<InstitutionSuggestionResponseDto> suggestInstitutions(String query, int limit) {
+        return institutionSuggestIndex.suggest(query, Math.min(limit, MAX_SUGGESTION_SIZE)).stream()
+                .map(InstitutionSuggestionResponseDto::from)
+                .toList();
     }
 
     /**
@@ -143,22 +206,19 @@ public class InstitutionServiceImpl implements InstitutionService {
      * @param institutionId 기관 ID
      */
     @Override
-    @Transactional(readOnly = true)
     public InstitutionDetailResponseDto getInstitutionDetail(Long institutionId) {
-        // 기관 조회
-        Institution institution = findInstitutionById(institutionId);
-        // 활성 상태 검사
-        validateIsActive(institution);
-        // 승인 여부 검사
-        validateIsApproved(institution);
-
-        // Lazy 컬렉션 초기화
-        initializeLazyCollections(institution);
+        // (기관 ID, 버전)별 캐시, 미적중 시에만 읽기 전용 트랜잭션에서 조립
+        return institutionDetailCache.get(institutionId, () -> institutionDetailAssembler.assemble(institutionId));
+    }
 
-        // 리뷰 조회
-        InstitutionReviewsResponseDto institutionDetailReviews = institutionReviewService.getInstitutionDetailReviews(institutionId);
+    @Override
+    public Optional<String> getCatalogVersion() {
+        return institutionSearchResultCache.currentVersion();
+    }
 
-        return InstitutionDetailResponseDto.from(institution, fileService, institutionDetailReviews);
+    @Override
+    public Optional<String> getInstitutionDetailVersion(Long institutionId) {
+        return institutionDetailCache.version(institutionId);
     }
 
     @Override
@@ -176,7 +236,8 @@ public class InstitutionServiceImpl implements InstitutionService {
 
         // 리뷰 조회
         InstitutionReviewsResponseDto institutionDetailReviews = institutionReviewService.getInstitutionDetailReviews(institution.getId());
-        return InstitutionDetailResponseDto.from(institution, fileService, institutionDetailReviews);
+        return InstitutionDetailResponseDto.from(institution, fileService, institutionDetailReviews,
+                institutionRatingSummaryService.getSummary(institution.getId()));
     }
 
     /**
@@ -229,6 +290,8 @@ public class InstitutionServiceImpl implements InstitutionService {
                 requestDto.getDescription(),
                 uploadedFile != null ? uploadedFile.getFileUrl() : null
         );
+
+        eventPublisher.publishEvent(new InstitutionChangedEvent(institution.getId()));
     }
 
     /**
@@ -241,6 +304,7 @@ public class InstitutionServiceImpl implements InstitutionService {
     public void approveInstitution(Long institutionId) {
         Institution institution = findInstitutionById(institutionId);
         institution.approveInstitution();
+        eventPublisher.publishEvent(new InstitutionChangedEvent(institution.getId()));
 
         // 기관 승인 후 AI 서버에 기관 데이터 전송하여 임베딩 벡터로 저장
         try {
@@ -278,6 +342,7 @@ public class InstitutionServiceImpl implements InstitutionService {
         validateAdminAuthorization(admin, false);
 
         institution.changeAdmissionAvailability(isAdmissionAvailable);
+        eventPublisher.publishEvent(new InstitutionChangedEvent(institution.getId()));
         log.info("입소 가능 여부 변경: adminId={}, id={}, isAdmissionAvailable={}", adminId, institution.getId(), isAdmissionAvailable);
     }
 
@@ -296,6 +361,10 @@ public class InstitutionServiceImpl implements InstitutionService {
         validateAdminAuthorization(admin, true);
 
         institution.deleteInstitution();
+        eventPublisher.publishEvent(new InstitutionChangedEvent(institution.getId()));
+
+        // 소속 해제된 관리자들의 채팅방 접근 권한 캐시 무효화 (커밋 후)
+        chatRoomAccessCache.invalidateInstitution(institution.getId());
         log.info("기관 삭제 완료: adminId={}, id={}, name={}", adminId, institution.getId(), institution.getName());
     }
 
@@ -369,12 +438,24 @@ public class InstitutionServiceImpl implements InstitutionService {
             saveInstitutionTags(institution, needAdd.stream().toList());
         }
 
+        // 검색 인덱스의 태그 비트맵 갱신 및 검색 결과 캐시 무효화
+        eventPublisher.publishEvent(new InstitutionChangedEvent(institution.getId()));
+
         log.info("기관 태그 설정 완료: adminId={}, institutionId={}, tagCount={}",
                 adminId, institution.getId(), tagIds != null ? tagIds.size() : 0);
     }
 
     // ============ private methods ============
 
+    /**
+     * 목록 응답 변환 (메인 이미지는 Presigned URL로 변환)
+     */
+    private InstitutionProfileResponseDto toProfileResponse(InstitutionCard card) {
+        InstitutionProfileResponseDto dto = InstitutionProfileResponseDto.from(card);
+        dto.setMainImageUrl(fileService.generatePresignedUrl(dto.getMainImageUrl()));
+        return dto;
+    }
+
     /**
      * Institution의 Lazy 컬렉션 강제 초기화
      * BatchSize 덕분에 각 컬렉션을 효율적으로 로딩
@@ -444,18 +525,6 @@ public class InstitutionServiceImpl implements InstitutionService {
         }
     }
 
-    private static void validateIsActive(Institution institution) {
-        if(!institution.isActive()) {
-            throw new BusinessException(ErrorCode.INSTITUTION_INACTIVE);
-        }
-    }
-
-    private static void validateIsApproved(Institution institution) {
-        if(!institution.isApproved()) {
-            throw new BusinessException(ErrorCode.INSTITUTION_APPROVAL_PENDING);
-        }
-    }
-
     /**
      * 업데이트된 Address 객체 생성
      * 주소 관련 필드가 있으면 기존 값과 병합하여 새 Address 반환
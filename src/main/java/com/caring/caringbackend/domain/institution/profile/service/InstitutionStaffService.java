@@ -1,6 +1,8 @@
 package com.caring.caringbackend.domain.institution.profile.service;
 
 import com.caring.caringbackend.api.internal.institution.dto.response.InstitutionStaffsResponse;
+import com.caring.caringbackend.domain.chat.entity.SenderType;
+import com.caring.caringbackend.domain.chat.service.ChatRoomAccessCache;
 import com.caring.caringbackend.domain.institution.profile.entity.Institution;
 import com.caring.caringbackend.domain.institution.profile.entity.InstitutionAdmin;
 import com.caring.caringbackend.domain.institution.profile.repository.InstitutionAdminRepository;
@@ -17,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class InstitutionStaffService {
 
     private final InstitutionAdminRepository institutionAdminRepository;
+    private final ChatRoomAccessCache chatRoomAccessCache;
 
     @Transactional(readOnly = true)
     public InstitutionStaffsResponse getAllStaffs(Long adminId) {
@@ -52,5 +55,8 @@ public class InstitutionStaffService {
         }
 
         staff.unlinkInstitution();
+
+        // 소속 해제된 직원의 채팅방 접근 권한 캐시 무효화 (커밋 후)
+        chatRoomAccessCache.invalidatePrincipal(SenderType.INSTITUTION_ADMIN, staffId);
     }
 }
@@ -0,0 +1,92 @@
+package com.caring.caringbackend.domain.institution.profile.service.search;
+
+import com.caring.caringbackend.api.internal.institution.dto.request.InstitutionSearchFilter;
+import com.caring.caringbackend.domain.institution.profile.repository.InstitutionRepository;
+import com.caring.caringbackend.domain.institution.profile.repository.InstitutionSearchStatistics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 기관 목록 근사 건수 계산
+ * - 주기적으로 집계한 분포 통계(InstitutionSearchStatistics)로 조건별 선택도를 구해 곱함 (조건 간 독립 가정)
+ * - 이름 / 반경 / 태그 조건은 통계로 추정할 수 없어 건수를 제공하지 않음 (null)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InstitutionCountEstimator {
+
+    private final InstitutionRepository institutionRepository;
+
+    private volatile InstitutionSearchStatistics statistics;
+
+    /**
+     * 기동 직후 및 주기적으로 통계 재집계
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${institution.statistics.refresh-interval-ms:300000}",
+            initialDelayString = "${institution.statistics.refresh-interval-ms:300000}")
+    public void refresh() {
+        try {
+            statistics = institutionRepository.collectSearchStatistics();
+            log.debug("기관 분포 통계 갱신: total={}", statistics.total());
+        } catch (DataAccessException e) {
+            log.warn("기관 분포 통계 갱신 실패, 이전 통계 유지", e);
+        }
+    }
+
+    /**
+     * 조건에 맞는 기관 수 근사값
+     *
+     * @param filter 검색 조건
+     * @return 근사 건수 (통계가 없거나 추정할 수 없는 조건이면 null)
+     */
+    public Long estimate(InstitutionSearchFilter filter) {
+        InstitutionSearchStatistics snapshot = statistics;
+        if (snapshot == null || hasText(filter.getName()) || InstitutionSearchPlanner.isSpatial(filter)
+                || InstitutionSearchPlanner.hasTags(filter)) {
+            return null;
+        }
+        if (snapshot.total() == 0) {
+            return 0L;
+        }
+
+        double total = snapshot.total();
+        double selectivity = 1.0;
+
+        if (filter.getInstitutionType() != null) {
+            selectivity *= snapshot.countByType().getOrDefault(filter.getInstitutionType(), 0L) / total;
+        }
+        if (filter.getIsAdmissionAvailable() != null) {
+            double available = snapshot.admissionAvailableCount() / total;
+            selectivity *= filter.getIsAdmissionAvailable() ? available : 1.0 - available;
+        }
+        if (hasText(filter.getCity())) {
+            String keyword = filter.getCity().toLowerCase();
+            long matched = snapshot.countByCity().entrySet().stream()
+                    .filter(entry -> entry.getKey().toLowerCase().contains(keyword))
+                    .mapToLong(Map.Entry::getValue)
+                    .sum();
+            selectivity *= matched / total;
+        }
+        if (filter.getMaxMonthlyFee() != null) {
+            long matched = snapshot.countByMonthlyBaseFee().headMap(filter.getMaxMonthlyFee(), true).values().stream()
+                    .mapToLong(Long::longValue)
+                    .sum();
+            selectivity *= matched / total;
+        }
+
+        return Math.round(total * selectivity);
+    }
+
+    private boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -0,0 +1,83 @@
+package com.caring.caringbackend.domain.institution.profile.service.search;
+
+import com.caring.caringbackend.api.internal.institution.dto.request.InstitutionSearchFilter;
+import com.caring.caringbackend.domain.institution.profile.entity.InstitutionType;
+import com.caring.caringbackend.domain.institution.profile.repository.InstitutionFacetGroup;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 기관 검색 패싯 건수
+ * - 각 패싯은 자기 자신의 조건만 제외하고 나머지 조건을 모두 적용한 건수
+ *   (예: 유형 필터를 건 상태에서도 다른 유형을 선택했을 때의 건수를 보여줌)
+ *
+ * @param total 현재 조건 전체 건수
+ * @param types 기관 유형별 건수
+ * @param cities 도시별 건수 (건수 많은 순)
+ * @param admissionAvailable 입소 가능 건수
+ * @param admissionUnavailable 입소 불가 건수
+ */
+public record InstitutionFacets(
+        long total,
+        Map<InstitutionType, Long> types,
+        Map<String, Long> cities,
+        long admissionAvailable,
+        long admissionUnavailable
+) {
+
+    /**
+     * (유형, 도시, 입소 가능 여부) 집계를 패싯별 건수로 변환
+     *
+     * @param groups 유형/도시/입소 가능 여부를 제외한 조건을 적용한 집계
+     * @param filter 검색 조건
+     */
+    public static InstitutionFacets from(Collection<InstitutionFacetGroup> groups, InstitutionSearchFilter filter) {
+        long total = 0;
+        long admissionAvailable = 0;
+        long admissionUnavailable = 0;
+        Map<InstitutionType, Long> types = new EnumMap<>(InstitutionType.class);
+        Map<String, Long> cities = new HashMap<>();
+
+        String cityKeyword = filter.getCity() != null && !filter.getCity().isBlank()
+                ? filter.getCity().toLowerCase()
+                : null;
+
+        for (InstitutionFacetGroup group : groups) {
+            boolean typeMatched = filter.getInstitutionType() == null
+                    || filter.getInstitutionType() == group.institutionType();
+            boolean cityMatched = cityKeyword == null
+                    || (group.city() != null && group.city().toLowerCase().contains(cityKeyword));
+            boolean admissionMatched = filter.getIsAdmissionAvailable() == null
+                    || filter.getIsAdmissionAvailable().equals(group.isAdmissionAvailable());
+
+            if (typeMatched && cityMatched && admissionMatched) {
+                total += group.count();
+            }
+            if (cityMatched && admissionMatched && group.institutionType() != null) {
+                types.merge(group.institutionType(), group.count(), Long::sum);
+            }
+            if (typeMatched && admissionMatched && group.city() != null) {
+                cities.merge(group.city(), group.count(), Long::sum);
+            }
+            if (typeMatched && cityMatched) {
+                if (Boolean.TRUE.equals(group.isAdmissionAvailable())) {
+                    admissionAvailable += group.count();
+                } else if (Boolean.FALSE.equals(group.isAdmissionAvailable())) {
+                    admissionUnavailable += group.count();
+                }
+            }
+        }
+
+        Map<String, Long> sortedCities = new LinkedHashMap<>();
+        cities.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> sortedCities.put(entry.getKey(), entry.getValue()));
+
+        return new InstitutionFacets(total, types, sortedCities, admissionAvailable, admissionUnavailable);
+    }
+}
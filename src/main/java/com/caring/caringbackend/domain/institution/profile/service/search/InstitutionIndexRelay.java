@@ -0,0 +1,58 @@
+package com.caring.caringbackend.domain.institution.profile.service.search;
+
+import com.caring.caringbackend.domain.institution.profile.event.InstitutionChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 기관 변경 노드 간 중계 (Redis Pub/Sub)
+ * - 기관 변경 커밋 후 기관 ID를 Redis 채널로 발행
+ * - 모든 노드(발행 노드 포함)가 채널을 구독하여 자신의 인메모리 검색 인덱스를 갱신 (이름/자동완성 인덱스 포함)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InstitutionIndexRelay implements MessageListener {
+
+    public static final String CHANNEL = "institution:changed";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final InstitutionSearchIndex institutionSearchIndex;
+
+    /**
+     * 기관 변경 커밋 후 Redis 채널로 발행
+     * - 발행 실패 시 이 노드의 인덱스만 갱신
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onInstitutionChanged(InstitutionChangedEvent event) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, String.valueOf(event.institutionId()));
+        } catch (Exception e) {
+            log.warn("기관 변경 Redis 발행 실패, 로컬 인덱스만 갱신: institutionId={}", event.institutionId(), e);
+            institutionSearchIndex.refresh(event.institutionId());
+        }
+    }
+
+    /**
+     * Redis 채널 수신 → 로컬 인덱스 갱신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Long institutionId;
+        try {
+            institutionId = Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8).trim());
+        } catch (NumberFormatException e) {
+            log.warn("기관 변경 중계 페이로드 파싱 실패", e);
+            return;
+        }
+        institutionSearchIndex.refresh(institutionId);
+    }
+}
@@ -0,0 +1,139 @@
+package com.caring.caringbackend.domain.institution.profile.service.search;
+
+import com.caring.caringbackend.domain.institution.profile.repository.InstitutionSearchDocument;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 기관 이름 부분 검색 인덱스 (DB 접근 없음)
+ * <p>
+ * 인메모리 n-gram 역색인 (한 글자 / 두 글자 → 기관 ID 목록)으로, 인메모리 검색 계획(InstitutionSearchIndex)의
+ * 이름 조건 후보 ID를 구합니다. 2글자 한글 검색어처럼 트라이그램이 없는 검색어도 처리합니다.
+ * DB 검색의 이름 조건은 이 인덱스를 쓰지 않고 lower(name) LIKE로 처리합니다
+ * (ops/db/institution_name_trgm_index.sql의 GIN 트라이그램 인덱스 사용).
+ * <p>
+ * InstitutionSearchIndex와 같은 대상(승인 + 미삭제)을 같은 시점에 갱신하며, 적재/동기화/재적재도 검색 인덱스가 함께 수행합니다.
+ */
+@Component
+public class InstitutionNameIndex {
+
+    // 후보가 이보다 많으면 선택도가 낮아 n-gram 경로를 쓰지 않음
+    private static final int MAX_CANDIDATES = 1_000;
+
+    private final Map<Long, String> names = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    /**
+     * 이름에 검색어가 포함된 기관 ID (대소문자 무시, 인메모리 검색 계획용 후보)
+     *
+     * @param keyword 검색어
+     * @return 일치하는 기관 ID (검증 완료, 후보가 너무 많으면 empty)
+     */
+    public Optional<Set<Long>> matchIds(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return Optional.empty();
+        }
+        String normalized = normalize(keyword);
+
+        Set<Long> candidates = null;
+        for (String gram : queryGrams(normalized)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return Optional.of(Set.of());
+            }
+            if (candidates == null) {
+                candidates = new HashSet<>(ids);
+            } else {
+                candidates.retainAll(ids);
+            }
+            if (candidates.isEmpty()) {
+                return Optional.of(Set.of());
+            }
+        }
+        if (candidates == null || candidates.size() > MAX_CANDIDATES) {
+            return Optional.empty();
+        }
+
+        // n-gram 교집합은 상위 집합이므로 실제 포함 여부 확인
+        candidates.removeIf(id -> {
+            String name = names.get(id);
+            return name == null || !name.contains(normalized);
+        });
+        return Optional.of(candidates);
+    }
+
+    int gramCount() {
+        return postings.size();
+    }
+
+    synchronized void put(InstitutionSearchDocument document) {
+        if (document.name() == null) {
+            remove(document.id());
+            return;
+        }
+        String normalized = normalize(document.name());
+        String previous = names.put(document.id(), normalized);
+        if (previous != null) {
+            if (previous.equals(normalized)) {
+                return;
+            }
+            indexGrams(previous).forEach(gram -> unlink(gram, document.id()));
+        }
+        indexGrams(normalized).forEach(gram ->
+                postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(document.id()));
+    }
+
+    synchronized void remove(Long institutionId) {
+        String previous = names.remove(institutionId);
+        if (previous != null) {
+            indexGrams(previous).forEach(gram -> unlink(gram, institutionId));
+        }
+    }
+
+    // ==================== Private Methods ====================
+
+    private void unlink(String gram, Long institutionId) {
+        postings.computeIfPresent(gram, (key, ids) -> {
+            ids.remove(institutionId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    /**
+     * 색인용 n-gram (한 글자 + 두 글자)
+     */
+    private static Set<String> indexGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 1 < text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색용 n-gram (한 글자 검색어는 한 글자, 그 외에는 두 글자)
+     */
+    private static Set<String> queryGrams(String keyword) {
+        if (keyword.length() == 1) {
+            return Set.of(keyword);
+        }
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 1 < keyword.length(); i++) {
+            grams.add(keyword.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+}
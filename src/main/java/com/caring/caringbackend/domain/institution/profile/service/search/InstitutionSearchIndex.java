@@ -0,0 +1,606 @@
+package com.caring.caringbackend.domain.institution.profile.service.search;
+
+import com.caring.caringbackend.api.internal.institution.dto.request.InstitutionSearchFilter;
+import com.caring.caringbackend.domain.institution.profile.entity.InstitutionType;
+import com.caring.caringbackend.domain.institution.profile.repository.InstitutionFacetGroup;
+import com.caring.caringbackend.domain.institution.profile.repository.InstitutionRepository;
+import com.caring.caringbackend.domain.institution.profile.repository.InstitutionSearchDocument;
+import com.caring.caringbackend.domain.institution.profile.service.search.InstitutionSearchPlan.AccessPath;
+import com.caring.caringbackend.domain.tag.repository.InstitutionTagRepository;
+import com.caring.caringbackend.global.model.GeoBoundingBox;
+import com.caring.caringbackend.global.model.GeoPoint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+
+/**
+ * 승인된 기관 인메모리 검색 인덱스
+ * - 위경도 격자(CELL_DEGREES 간격), 기관 유형별 목록, 월 기본 요금 정렬 목록, 태그별 목록을 함께 유지
+ * - 기관별 보유 태그는 TagBitmap으로 보관하여 "모든 태그 보유" 조건을 워드 단위 AND로 검사
+ * - 이름 조건은 InstitutionNameIndex(n-gram 역색인)의 후보 ID를 사용
+ * - 이름 인덱스(InstitutionNameIndex)와 자동완성 인덱스(InstitutionSuggestIndex)도 같은 시점에 갱신
+ *   (적재/동기화/재적재 경로는 이 클래스 하나, 두 인덱스는 별도로 DB를 읽지 않음)
+ * - 각 목록의 크기가 곧 검색 계획(InstitutionSearchPlanner)의 비용 통계
+ * - 기동 시 한 번 전체 적재, 이후에는 InstitutionChangedEvent로 변경된 기관만 갱신
+ * - 중계 메시지 유실에 대비해 주기적으로 updated_at 기준 변경분을 다시 반영하고, 더 긴 주기로 전체 재적재
+ *   (기동 시 적재에 실패했으면 동기화 주기마다 전체 적재 재시도)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InstitutionSearchIndex {
+
+    // 약 5.5km (위도 기준) 격자
+    private static final double CELL_DEGREES = 0.05;
+    private static final long CELL_COLUMNS = 10_000L;
+
+    // 변경 커밋이 updated_at보다 늦게 보일 수 있으므로 동기화 기준 시각을 이만큼 앞당김
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(5);
+
+    // 이름 정렬은 DB 콜레이션과 순서가 달라 인메모리에서 하지 않음 (InstitutionSearchPlanner가 DB 경로로 실행)
+    private static final Map<String, Comparator<InstitutionSearchDocument>> SORTABLE = Map.of(
+            "createdAt", ascending(InstitutionSearchDocument::createdAt),
+            "bedCount", ascending(InstitutionSearchDocument::bedCount),
+            "monthlyBaseFee", ascending(InstitutionSearchDocument::monthlyBaseFee),
+            "id", ascending(InstitutionSearchDocument::id)
+    );
+
+    private final InstitutionRepository institutionRepository;
+    private final InstitutionNameIndex institutionNameIndex;
+    private final InstitutionSuggestIndex institutionSuggestIndex;
+    private final InstitutionTagRepository institutionTagRepository;
+
+    private final Map<Long, InstitutionSearchDocument> documents = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+    private final Map<InstitutionType, Set<Long>> types = new ConcurrentHashMap<>();
+    private final NavigableMap<Integer, Set<Long>> fees = new ConcurrentSkipListMap<>();
+    private final Map<Long, Set<Long>> tags = new ConcurrentHashMap<>();          // 태그 ID → 기관 ID
+    private final Map<Long, Set<Long>> institutionTagIds = new ConcurrentHashMap<>(); // 기관 ID → 태그 ID
+    private final Map<Long, TagBitmap> tagBitmaps = new ConcurrentHashMap<>();
+
+    // 전체 적재 중 들어온 변경은 적재 후 다시 반영
+    private final Set<Long> changedDuringLoad = ConcurrentHashMap.newKeySet();
+    // 갱신에 실패해 다음 동기화 때 다시 반영할 기관
+    private final Set<Long> retryIds = ConcurrentHashMap.newKeySet();
+    private final Object loadLock = new Object();
+    private volatile boolean loading;
+    private volatile boolean ready;
+    private volatile LocalDateTime syncedAt;
+
+    /**
+     * 기동 시 전체 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        load();
+    }
+
+    /**
+     * 전체 재적재 (중계 메시지 유실, 하드 삭제된 태그 매핑 등 동기화로 잡지 못한 차이 복구)
+     */
+    @Scheduled(fixedDelayString = "${institution.search-index.full-reload-interval-ms:3600000}",
+            initialDelayString = "${institution.search-index.full-reload-interval-ms:3600000}")
+    public void reload() {
+        if (ready) {
+            load();
+        }
+    }
+
+    /**
+     * 주기적 동기화
+     * - 적재 전이면 (기동 시 적재 실패) 전체 적재 재시도
+     * - 마지막 동기화 이후 updated_at이 바뀐 기관과 갱신에 실패했던 기관을 다시 반영
+     */
+    @Scheduled(fixedDelayString = "${institution.search-index.sync-interval-ms:60000}",
+            initialDelayString = "${institution.search-index.sync-interval-ms:60000}")
+    public void sync() {
+        if (loading) {
+            return;
+        }
+        if (!ready) {
+            load();
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        Set<Long> institutionIds = new HashSet<>(retryIds);
+        try {
+            institutionIds.addAll(institutionRepository.findIdsChangedSince(syncedAt.minus(SYNC_OVERLAP)));
+        } catch (DataAccessException e) {
+            log.warn("기관 검색 인덱스 동기화 실패, 다음 주기에 재시도", e);
+            return;
+        }
+
+        for (Long institutionId : institutionIds) {
+            retryIds.remove(institutionId);
+            refresh(institutionId);
+        }
+        syncedAt = startedAt;
+        log.debug("기관 검색 인덱스 동기화: {}건", institutionIds.size());
+    }
+
+    /**
+     * 전체 적재 (이전 적재 이후 대상에서 빠진 기관은 제거, 적재끼리는 직렬화)
+     */
+    private void load() {
+        synchronized (loadLock) {
+            loadAll();
+        }
+    }
+
+    private void loadAll() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        loading = true;
+        try {
+            List<InstitutionSearchDocument> loaded = institutionRepository.findAllSearchDocuments();
+            Map<Long, Set<Long>> loadedTagIds = institutionRepository.findAllSearchTagIds();
+            loaded.forEach(document -> put(document, loadedTagIds.getOrDefault(document.id(), Set.of())));
+
+            Set<Long> loadedIds = new HashSet<>();
+            loaded.forEach(document -> loadedIds.add(document.id()));
+            for (Long institutionId : Set.copyOf(documents.keySet())) {
+                if (!loadedIds.contains(institutionId)) {
+                    remove(institutionId);
+                }
+            }
+
+            loading = false;
+            for (Long institutionId : Set.copyOf(changedDuringLoad)) {
+                changedDuringLoad.remove(institutionId);
+                refresh(institutionId);
+            }
+
+            syncedAt = startedAt;
+            ready = true;
+            log.info("기관 검색 인덱스 적재 완료: {}건, 셀 {}개, 이름 n-gram {}개",
+                    documents.size(), cells.size(), institutionNameIndex.gramCount());
+        } catch (DataAccessException e) {
+            log.warn("기관 검색 인덱스 적재 실패, DB 검색으로 대체 (다음 동기화 주기에 재시도)", e);
+        } finally {
+            loading = false;
+        }
+    }
+
+    /**
+     * 기관 한 건 갱신 (인덱스 대상이 아니게 되었으면 제거)
+     *
+     * @param institutionId 기관 ID
+     */
+    public void refresh(Long institutionId) {
+        if (loading) {
+            changedDuringLoad.add(institutionId);
+        }
+        try {
+            institutionRepository.findSearchDocument(institutionId)
+                    .ifPresentOrElse(
+                            document -> put(document, institutionTagRepository.findTagIdsByInstitutionId(institutionId)),
+                            () -> remove(institutionId));
+        } catch (DataAccessException e) {
+            // 일시적 DB 오류로 기관을 검색 결과에서 빼지 않고, 다음 동기화 때 다시 반영
+            log.warn("기관 검색 인덱스 갱신 실패, 다음 동기화 시 재시도: institutionId={}", institutionId, e);
+            retryIds.add(institutionId);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ==================== 통계 (검색 계획용) ====================
+
+    public long size() {
+        return documents.size();
+    }
+
+    /**
+     * 사각 범위에 걸친 격자 셀의 기관 수
+     */
+    public long countInBoundingBox(GeoBoundingBox box) {
+        CellRange range = CellRange.of(box);
+        if (range.cellCount() > documents.size()) {
+            return documents.size();
+        }
+        long count = 0;
+        for (long row = range.minRow(); row <= range.maxRow(); row++) {
+            for (long column = range.minColumn(); column <= range.maxColumn(); column++) {
+                Set<Long> ids = cells.get(row * CELL_COLUMNS + column);
+                count += ids != null ? ids.size() : 0;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 이름 n-gram 역색인 후보 수 (역색인을 쓸 수 없으면 -1)
+     */
+    public long countNameMatches(String keyword) {
+        return institutionNameIndex.matchIds(keyword)
+                .map(Set::size)
+                .orElse(-1);
+    }
+
+    /**
+     * 요청 태그를 모두 보유한 기관 수의 상한 (가장 적은 태그의 보유 기관 수)
+     */
+    public long countWithAllTags(Collection<Long> tagIds) {
+        return tagIds.stream()
+                .filter(Objects::nonNull)
+                .mapToLong(tagId -> tags.getOrDefault(tagId, Set.of()).size())
+                .min()
+                .orElse(documents.size());
+    }
+
+    public long countByType(InstitutionType institutionType) {
+        Set<Long> ids = types.get(institutionType);
+        return ids != null ? ids.size() : 0;
+    }
+
+    public long countFeeAtMost(int maxMonthlyFee) {
+        return fees.headMap(maxMonthlyFee, true).values().stream()
+                .mapToLong(Set::size)
+                .sum();
+    }
+
+    // ==================== 검색 ====================
+
+    /**
+     * 접근 경로로 후보를 읽고 모든 조건을 적용한 뒤 정렬
+     * - 반경 조건이 있으면 거리순(같은 거리는 ID순), 없으면 요청 정렬 (DB 검색과 같은 규칙)
+     *
+     * @param accessPath 인메모리 접근 경로
+     * @param filter 검색 조건
+     * @param pageable 페이지 정보
+     * @return 순위가 매겨진 기관 ID 페이지
+     */
+    public Page<Long> search(AccessPath accessPath, InstitutionSearchFilter filter, Pageable pageable) {
+        boolean spatial = InstitutionSearchPlanner.isSpatial(filter);
+        GeoBoundingBox box = spatial
+                ? GeoBoundingBox.around(filter.getLatitude(), filter.getLongitude(), filter.getRadiusKm())
+                : null;
+
+        Optional<TagBitmap> required = requiredTags(filter.getTagIds());
+        if (required.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+        TagBitmap requiredTags = required.get();
+
+        List<Candidate> matches = new ArrayList<>();
+        for (InstitutionSearchDocument document : candidates(accessPath, filter, box)) {
+            if (!matchesFilter(document, filter)
+                    || !tagBitmaps.getOrDefault(document.id(), TagBitmap.EMPTY).containsAll(requiredTags)) {
+                continue;
+            }
+            if (!spatial) {
+                matches.add(new Candidate(document, 0));
+                continue;
+            }
+            OptionalDouble distance = distanceWithinRadius(document, filter, box);
+            if (distance.isPresent()) {
+                matches.add(new Candidate(document, distance.getAsDouble()));
+            }
+        }
+
+        matches.sort(spatial
+                ? Comparator.comparingDouble(Candidate::distanceKm).thenComparing(candidate -> candidate.document().id())
+                : Comparator.comparing(Candidate::document, comparator(pageable.getSort())));
+
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + pageable.getPageSize(), matches.size());
+        List<Long> pageIds = matches.subList(from, to).stream()
+                .map(candidate -> candidate.document().id())
+                .toList();
+        return new PageImpl<>(pageIds, pageable, matches.size());
+    }
+
+    /**
+     * 패싯 집계 (전체 카탈로그 1회 순회)
+     * - 유형/도시/입소 가능 여부를 제외한 조건으로 후보를 거른 뒤 (유형, 도시, 입소 가능 여부)별로 센다
+     * - 패싯별 건수는 InstitutionFacets.from에서 이 집계로 계산
+     *
+     * @param filter 검색 조건
+     * @return (유형, 도시, 입소 가능 여부)별 기관 수
+     */
+    public List<InstitutionFacetGroup> facetGroups(InstitutionSearchFilter filter) {
+        boolean spatial = InstitutionSearchPlanner.isSpatial(filter);
+        GeoBoundingBox box = spatial
+                ? GeoBoundingBox.around(filter.getLatitude(), filter.getLongitude(), filter.getRadiusKm())
+                : null;
+        Optional<TagBitmap> required = requiredTags(filter.getTagIds());
+        if (required.isEmpty()) {
+            return List.of();
+        }
+        TagBitmap requiredTags = required.get();
+
+        Collection<InstitutionSearchDocument> scanned = spatial
+                ? cellCandidates(box)
+                : InstitutionSearchPlanner.hasTags(filter) ? resolve(rarestTag(filter.getTagIds())) : documents.values();
+
+        Map<FacetKey, Long> counts = new HashMap<>();
+        for (InstitutionSearchDocument document : scanned) {
+            if (!matchesUnfaceted(document, filter)
+                    || !tagBitmaps.getOrDefault(document.id(), TagBitmap.EMPTY).containsAll(requiredTags)
+                    || (spatial && distanceWithinRadius(document, filter, box).isEmpty())) {
+                continue;
+            }
+            counts.merge(new FacetKey(document.institutionType(), document.city(), document.isAdmissionAvailable()),
+                    1L, Long::sum);
+        }
+
+        return counts.entrySet().stream()
+                .map(entry -> new InstitutionFacetGroup(entry.getKey().institutionType(), entry.getKey().city(),
+                        entry.getKey().isAdmissionAvailable(), entry.getValue()))
+                .toList();
+    }
+
+    // ==================== Private Methods ====================
+
+    private Collection<InstitutionSearchDocument> candidates(
+            AccessPath accessPath, InstitutionSearchFilter filter, GeoBoundingBox box) {
+        return switch (accessPath) {
+            case GEO_GRID -> cellCandidates(box);
+            case NAME_NGRAM -> resolve(institutionNameIndex.matchIds(filter.getName()).orElseGet(documents::keySet));
+            case TAG_BITMAP -> resolve(rarestTag(filter.getTagIds()));
+            case TYPE_BUCKET -> resolve(types.getOrDefault(filter.getInstitutionType(), Set.of()));
+            case FEE_RANGE -> resolve(fees.headMap(filter.getMaxMonthlyFee(), true).values().stream()
+                    .flatMap(Set::stream)
+                    .toList());
+            case FULL_SCAN -> documents.values();
+            default -> throw new IllegalArgumentException("인메모리 접근 경로가 아닙니다: " + accessPath);
+        };
+    }
+
+    /**
+     * 사각 범위에 걸친 셀의 기관 목록
+     * - 확인할 셀 수가 전체 기관 수보다 많으면 (넓은 반경) 전체 순회가 더 저렴
+     */
+    private Collection<InstitutionSearchDocument> cellCandidates(GeoBoundingBox box) {
+        CellRange range = CellRange.of(box);
+        if (range.cellCount() > documents.size()) {
+            return documents.values();
+        }
+
+        List<Long> ids = new ArrayList<>();
+        for (long row = range.minRow(); row <= range.maxRow(); row++) {
+            for (long column = range.minColumn(); column <= range.maxColumn(); column++) {
+                Set<Long> cell = cells.get(row * CELL_COLUMNS + column);
+                if (cell != null) {
+                    ids.addAll(cell);
+                }
+            }
+        }
+        return resolve(ids);
+    }
+
+    /**
+     * 요청 태그 비트맵 (공개 API 입력이므로 인덱스에 있는 태그만 비트로 변환)
+     * - 보유 기관이 없는 태그(존재하지 않는 ID, 음수 포함)가 하나라도 있으면 결과가 없으므로 empty
+     * - 임의의 큰 태그 ID로 거대한 비트맵이 할당되는 것을 막음
+     */
+    private Optional<TagBitmap> requiredTags(Collection<Long> tagIds) {
+        if (tagIds == null || tagIds.isEmpty()) {
+            return Optional.of(TagBitmap.EMPTY);
+        }
+        List<Long> known = new ArrayList<>(tagIds.size());
+        for (Long tagId : tagIds) {
+            if (tagId == null) {
+                continue;
+            }
+            if (!tags.containsKey(tagId)) {
+                return Optional.empty();
+            }
+            known.add(tagId);
+        }
+        return Optional.of(TagBitmap.of(known));
+    }
+
+    /**
+     * 요청 태그 중 보유 기관이 가장 적은 태그의 기관 목록 (나머지 태그는 비트맵으로 검사)
+     */
+    private Set<Long> rarestTag(Collection<Long> tagIds) {
+        return tagIds.stream()
+                .filter(Objects::nonNull)
+                .map(tagId -> tags.getOrDefault(tagId, Set.of()))
+                .min(Comparator.comparingInt(Set::size))
+                .orElse(Set.of());
+    }
+
+    private List<InstitutionSearchDocument> resolve(Collection<Long> ids) {
+        List<InstitutionSearchDocument> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            InstitutionSearchDocument document = documents.get(id);
+            if (document != null) {
+                result.add(document);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * DB 검색(InstitutionRepositoryImpl)과 같은 조건 (반경/태그 조건 제외)
+     */
+    private boolean matchesFilter(InstitutionSearchDocument document, InstitutionSearchFilter filter) {
+        if (!matchesUnfaceted(document, filter) || !containsIgnoreCase(document.city(), filter.getCity())) {
+            return false;
+        }
+        if (filter.getInstitutionType() != null && filter.getInstitutionType() != document.institutionType()) {
+            return false;
+        }
+        return filter.getIsAdmissionAvailable() == null
+                || filter.getIsAdmissionAvailable().equals(document.isAdmissionAvailable());
+    }
+
+    /**
+     * 패싯 대상(유형/도시/입소 가능 여부)이 아닌 조건: 이름, 월 요금 상한
+     */
+    private boolean matchesUnfaceted(InstitutionSearchDocument document, InstitutionSearchFilter filter) {
+        if (!containsIgnoreCase(document.name(), filter.getName())) {
+            return false;
+        }
+        return filter.getMaxMonthlyFee() == null
+                || (document.monthlyBaseFee() != null && document.monthlyBaseFee() <= filter.getMaxMonthlyFee());
+    }
+
+    /**
+     * 검색 반경 안이면 중심점으로부터의 거리(km)
+     */
+    private OptionalDouble distanceWithinRadius(
+            InstitutionSearchDocument document, InstitutionSearchFilter filter, GeoBoundingBox box) {
+        if (!document.hasLocation() || !box.contains(document.latitude(), document.longitude())) {
+            return OptionalDouble.empty();
+        }
+        double distance = GeoPoint.distanceKm(
+                filter.getLatitude(), filter.getLongitude(), document.latitude(), document.longitude());
+        return distance <= filter.getRadiusKm() ? OptionalDouble.of(distance) : OptionalDouble.empty();
+    }
+
+    private boolean containsIgnoreCase(String value, String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return true;
+        }
+        return value != null && value.toLowerCase().contains(keyword.toLowerCase());
+    }
+
+    /**
+     * 요청 정렬 → 비교자
+     * - 지원하지 않는 필드는 무시, 정렬이 없으면 createdAt DESC, id DESC
+     * - 마지막에 ID 비교를 더해 페이지 간 순서를 고정
+     */
+    private static Comparator<InstitutionSearchDocument> comparator(Sort sort) {
+        Comparator<InstitutionSearchDocument> result = null;
+        for (Sort.Order order : sort) {
+            Comparator<InstitutionSearchDocument> next = SORTABLE.get(order.getProperty());
+            if (next == null) {
+                continue;
+            }
+            next = order.isAscending() ? next : next.reversed();
+            result = result == null ? next : result.thenComparing(next);
+        }
+        if (result == null) {
+            result = SORTABLE.get("createdAt").reversed().thenComparing(SORTABLE.get("id").reversed());
+        }
+        return result.thenComparing(InstitutionSearchDocument::id);
+    }
+
+    /**
+     * 오름차순 NULL 마지막 (PostgreSQL 기본과 동일, 내림차순 시 NULL 처음)
+     */
+    private static <T extends Comparable<? super T>> Comparator<InstitutionSearchDocument> ascending(
+            Function<InstitutionSearchDocument, T> key) {
+        return Comparator.comparing(key, Comparator.nullsLast(Comparator.naturalOrder()));
+    }
+
+    private synchronized void put(InstitutionSearchDocument document, Set<Long> tagIds) {
+        InstitutionSearchDocument previous = documents.put(document.id(), document);
+        if (previous != null) {
+            unlink(previous);
+        }
+        Set<Long> copiedTagIds = Set.copyOf(tagIds);
+        institutionTagIds.put(document.id(), copiedTagIds);
+        tagBitmaps.put(document.id(), TagBitmap.of(copiedTagIds));
+        copiedTagIds.forEach(tagId -> link(tags, tagId, document.id()));
+        if (document.hasLocation()) {
+            link(cells, cellKey(document), document.id());
+        }
+        link(types, document.institutionType(), document.id());
+        if (document.monthlyBaseFee() != null) {
+            link(fees, document.monthlyBaseFee(), document.id());
+        }
+        institutionNameIndex.put(document);
+        institutionSuggestIndex.put(document);
+    }
+
+    private synchronized void remove(Long institutionId) {
+        InstitutionSearchDocument previous = documents.remove(institutionId);
+        if (previous != null) {
+            unlink(previous);
+        }
+        institutionNameIndex.remove(institutionId);
+        institutionSuggestIndex.remove(institutionId);
+    }
+
+    private void unlink(InstitutionSearchDocument document) {
+        Set<Long> previousTagIds = institutionTagIds.remove(document.id());
+        if (previousTagIds != null) {
+            previousTagIds.forEach(tagId -> unlink(tags, tagId, document.id()));
+        }
+        tagBitmaps.remove(document.id());
+        if (document.hasLocation()) {
+            unlink(cells, cellKey(document), document.id());
+        }
+        unlink(types, document.institutionType(), document.id());
+        if (document.monthlyBaseFee() != null) {
+            unlink(fees, document.monthlyBaseFee(), document.id());
+        }
+    }
+
+    private static <K> void link(Map<K, Set<Long>> buckets, K key, Long id) {
+        if (key != null) {
+            buckets.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    private static <K> void unlink(Map<K, Set<Long>> buckets, K key, Long id) {
+        if (key != null) {
+            buckets.computeIfPresent(key, (k, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private static long cellKey(InstitutionSearchDocument document) {
+        return row(document.latitude()) * CELL_COLUMNS + column(document.longitude());
+    }
+
+    private static long row(double latitude) {
+        return (long) Math.floor((latitude + 90.0) / CELL_DEGREES);
+    }
+
+    private static long column(double longitude) {
+        return (long) Math.floor((longitude + 180.0) / CELL_DEGREES);
+    }
+
+    private record CellRange(long minRow, long maxRow, long minColumn, long maxColumn) {
+
+        static CellRange of(GeoBoundingBox box) {
+            return new CellRange(row(box.minLatitude()), row(box.maxLatitude()),
+                    column(box.minLongitude()), column(box.maxLongitude()));
+        }
+
+        long cellCount() {
+            return (maxRow - minRow + 1) * (maxColumn - minColumn + 1);
+        }
+    }
+
+    private record FacetKey(InstitutionType institutionType, String city, Boolean isAdmissionAvailable) {
+    }
+
+    private record Candidate(InstitutionSearchDocument document, double distanceKm) {
+    }
+}
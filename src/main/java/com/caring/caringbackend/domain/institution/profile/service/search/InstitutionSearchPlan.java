@@ -0,0 +1,65 @@
+package com.caring.caringbackend.domain.institution.profile.service.search;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 기관 검색 실행 계획
+ * - 어떤 접근 경로로 후보를 읽고, 어떤 조건으로 거르고, 어떤 순서로 정렬하는지 기록
+ * - 모든 조건은 접근 경로와 무관하게 항상 함께 적용됨 (접근 경로는 후보를 읽는 방법만 결정)
+ *
+ * @param accessPath 선택된 접근 경로
+ * @param estimatedRows 접근 경로에서 읽을 예상 후보 수 (DB 경로는 -1)
+ * @param totalRows 인덱스 전체 기관 수 (DB 경로는 -1)
+ * @param predicates 적용 조건
+ * @param order 정렬
+ * @param alternatives 검토한 접근 경로별 예상 후보 수
+ */
+public record InstitutionSearchPlan(
+        AccessPath accessPath,
+        long estimatedRows,
+        long totalRows,
+        List<String> predicates,
+        String order,
+        Map<AccessPath, Long> alternatives
+) {
+
+    /**
+     * 후보 접근 경로
+     */
+    public enum AccessPath {
+        GEO_GRID(true),      // 인메모리 위경도 격자
+        NAME_NGRAM(true),    // 인메모리 이름 n-gram 역색인
+        TAG_BITMAP(true),    // 인메모리 태그별 목록 + 기관별 태그 비트맵
+        TYPE_BUCKET(true),   // 인메모리 기관 유형별 목록
+        FEE_RANGE(true),     // 인메모리 월 기본 요금 정렬 목록
+        FULL_SCAN(true),     // 인메모리 전체 순회
+        DB_RADIUS(false),    // DB 위경도 인덱스 사각 범위 (인덱스 준비 전)
+        DB_FILTER(false);    // DB 동적 조건 쿼리 (인덱스 준비 전, 이름 정렬)
+
+        private final boolean inMemory;
+
+        AccessPath(boolean inMemory) {
+            this.inMemory = inMemory;
+        }
+
+        public boolean isInMemory() {
+            return inMemory;
+        }
+    }
+
+    /**
+     * 디버그 로그용 계획 설명
+     */
+    public String describe() {
+        String considered = alternatives.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining(", ", "{", "}"));
+        return "access=" + accessPath
+                + ", estimatedRows=" + estimatedRows + "/" + totalRows
+                + ", predicates=" + predicates
+                + ", order=" + order
+                + ", considered=" + considered;
+    }
+}
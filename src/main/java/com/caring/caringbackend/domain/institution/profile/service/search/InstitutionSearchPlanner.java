@@ -0,0 +1,234 @@
+package com.caring.caringbackend.domain.institution.profile.service.search;
+
+import com.caring.caringbackend.api.internal.institution.dto.request.InstitutionSearchFilter;
+import com.caring.caringbackend.domain.institution.profile.repository.InstitutionCard;
+import com.caring.caringbackend.domain.institution.profile.repository.InstitutionFacetGroup;
+import com.caring.caringbackend.domain.institution.profile.repository.InstitutionRepository;
+import com.caring.caringbackend.domain.institution.profile.service.search.InstitutionSearchPlan.AccessPath;
+import com.caring.caringbackend.global.model.GeoBoundingBox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 기관 검색 계획 수립 및 실행
+ * - 검색 조건 전체를 하나의 계획으로 묶고, 후보를 가장 적게 읽는 접근 경로를 선택
+ * - 접근 경로별 후보 수는 인메모리 인덱스(InstitutionSearchIndex)의 목록 크기를 통계로 사용
+ * - 인덱스 준비 전이거나 이름 정렬이면 모든 조건을 담은 DB 쿼리로 실행 (이름 순서는 DB 콜레이션 기준)
+ * - 선택된 계획은 DEBUG 로그로 출력
+ * - 결과는 엔티티가 아닌 목록 카드 프로젝션(InstitutionCard)으로 조회
+ * - 반경 외 검색은 결과(ID 목록 + 전체 건수)를 Redis에 캐시하고, 적중 시 ID만 한 번에 조회
+ * - 패싯 건수(유형/도시/입소 가능 여부)도 같은 인덱스와 캐시를 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InstitutionSearchPlanner {
+
+    private final InstitutionSearchIndex institutionSearchIndex;
+    private final InstitutionRepository institutionRepository;
+    private final InstitutionSearchResultCache institutionSearchResultCache;
+
+    /**
+     * 기관 검색
+     *
+     * @param filter 검색 조건 (null 허용)
+     * @param pageable 페이지 정보
+     * @return 기관 목록 카드 페이지
+     */
+    public Page<InstitutionCard> search(InstitutionSearchFilter filter, Pageable pageable) {
+        InstitutionSearchFilter criteria = filter != null ? filter : new InstitutionSearchFilter();
+
+        // 반경 검색은 좌표가 요청마다 달라 캐시하지 않음
+        Optional<String> cacheKey = isSpatial(criteria)
+                ? Optional.empty()
+                : institutionSearchResultCache.key(criteria, pageable);
+        Optional<InstitutionSearchResultCache.CachedPage> cached = cacheKey.flatMap(institutionSearchResultCache::find);
+        if (cached.isPresent()) {
+            log.debug("기관 검색 결과 캐시 적중: key={}", cacheKey.get());
+            return new PageImpl<>(hydrate(cached.get().ids()), pageable, cached.get().total());
+        }
+
+        Page<InstitutionCard> result = execute(criteria, pageable);
+        cacheKey.ifPresent(key -> institutionSearchResultCache.put(key,
+                result.getContent().stream().map(InstitutionCard::id).toList(),
+                result.getTotalElements()));
+        return result;
+    }
+
+    /**
+     * 패싯 건수 조회
+     * - 인덱스 준비 후에는 카탈로그 1회 순회, 준비 전에는 GROUP BY 쿼리 1회로 집계
+     * - 검색 결과와 같은 규칙으로 캐시 (반경 검색 제외)
+     *
+     * @param filter 검색 조건 (null 허용)
+     * @return 패싯 건수
+     */
+    public InstitutionFacets facets(InstitutionSearchFilter filter) {
+        InstitutionSearchFilter criteria = filter != null ? filter : new InstitutionSearchFilter();
+
+        Optional<String> cacheKey = isSpatial(criteria)
+                ? Optional.empty()
+                : institutionSearchResultCache.facetsKey(criteria);
+        Optional<InstitutionFacets> cached = cacheKey.flatMap(institutionSearchResultCache::findFacets);
+        if (cached.isPresent()) {
+            log.debug("기관 패싯 캐시 적중: key={}", cacheKey.get());
+            return cached.get();
+        }
+
+        List<InstitutionFacetGroup> groups = institutionSearchIndex.isReady()
+                ? institutionSearchIndex.facetGroups(criteria)
+                : institutionRepository.countFacetGroups(criteria);
+        InstitutionFacets facets = InstitutionFacets.from(groups, criteria);
+        cacheKey.ifPresent(key -> institutionSearchResultCache.putFacets(key, facets));
+        return facets;
+    }
+
+    /**
+     * 검색 계획 수립
+     * - 조건이 있는 인덱스 목록마다 후보 수를 구하고 가장 작은 경로 선택 (전체 순회 포함)
+     * - 도시/입소 가능 여부는 선택도를 보장할 인덱스가 없어 후보를 거르는 조건으로만 사용
+     *
+     * @param filter 검색 조건
+     * @param pageable 페이지 정보
+     * @return 검색 계획
+     */
+    public InstitutionSearchPlan plan(InstitutionSearchFilter filter, Pageable pageable) {
+        boolean spatial = isSpatial(filter);
+        List<String> predicates = describePredicates(filter);
+        String order = spatial ? "distance ASC, id ASC" : describeSort(pageable.getSort());
+
+        if (!institutionSearchIndex.isReady()) {
+            return new InstitutionSearchPlan(spatial ? AccessPath.DB_RADIUS : AccessPath.DB_FILTER,
+                    -1, -1, predicates, order, Map.of());
+        }
+        // 인메모리 문자열 비교는 DB 콜레이션과 순서가 달라 페이지 경계가 어긋나므로 DB에서 정렬
+        if (!spatial && sortsByName(pageable.getSort())) {
+            return new InstitutionSearchPlan(AccessPath.DB_FILTER, -1, -1, predicates, order, Map.of());
+        }
+
+        Map<AccessPath, Long> costs = new EnumMap<>(AccessPath.class);
+        if (spatial) {
+            costs.put(AccessPath.GEO_GRID, institutionSearchIndex.countInBoundingBox(
+                    GeoBoundingBox.around(filter.getLatitude(), filter.getLongitude(), filter.getRadiusKm())));
+        }
+        if (filter.getName() != null && !filter.getName().isBlank()) {
+            long nameMatches = institutionSearchIndex.countNameMatches(filter.getName());
+            if (nameMatches >= 0) {
+                costs.put(AccessPath.NAME_NGRAM, nameMatches);
+            }
+        }
+        if (hasTags(filter)) {
+            costs.put(AccessPath.TAG_BITMAP, institutionSearchIndex.countWithAllTags(filter.getTagIds()));
+        }
+        if (filter.getInstitutionType() != null) {
+            costs.put(AccessPath.TYPE_BUCKET, institutionSearchIndex.countByType(filter.getInstitutionType()));
+        }
+        if (filter.getMaxMonthlyFee() != null) {
+            costs.put(AccessPath.FEE_RANGE, institutionSearchIndex.countFeeAtMost(filter.getMaxMonthlyFee()));
+        }
+        long totalRows = institutionSearchIndex.size();
+        costs.put(AccessPath.FULL_SCAN, totalRows);
+
+        // 같은 후보 수라면 enum 선언 순서(좁은 인덱스 우선)로 선택
+        Map.Entry<AccessPath, Long> cheapest = costs.entrySet().stream()
+                .min(Map.Entry.comparingByValue())
+                .orElseThrow();
+
+        return new InstitutionSearchPlan(cheapest.getKey(), cheapest.getValue(), totalRows,
+                predicates, order, costs);
+    }
+
+    static boolean hasTags(InstitutionSearchFilter filter) {
+        return filter.getTagIds() != null && filter.getTagIds().stream().anyMatch(Objects::nonNull);
+    }
+
+    static boolean sortsByName(Sort sort) {
+        return sort.getOrderFor("name") != null;
+    }
+
+    static boolean isSpatial(InstitutionSearchFilter filter) {
+        return filter.getLatitude() != null
+                && filter.getLongitude() != null
+                && filter.getRadiusKm() != null;
+    }
+
+    // ==================== Private Methods ====================
+
+    private Page<InstitutionCard> execute(InstitutionSearchFilter criteria, Pageable pageable) {
+        InstitutionSearchPlan plan = plan(criteria, pageable);
+        log.debug("기관 검색 계획: {}", plan.describe());
+
+        return switch (plan.accessPath()) {
+            case DB_RADIUS -> institutionRepository.searchWithinRadius(criteria, pageable);
+            case DB_FILTER -> institutionRepository.searchWithQueryDsl(criteria, pageable);
+            default -> {
+                Page<Long> rankedIds = institutionSearchIndex.search(plan.accessPath(), criteria, pageable);
+                yield new PageImpl<>(hydrate(rankedIds.getContent()), pageable, rankedIds.getTotalElements());
+            }
+        };
+    }
+
+    /**
+     * 페이지에 포함된 기관의 카드만 조회하여 인덱스 순위대로 정렬
+     * - 인덱스 갱신 직전에 삭제된 기관은 제외
+     */
+    private List<InstitutionCard> hydrate(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, InstitutionCard> institutions = institutionRepository.findCardsByIds(ids).stream()
+                .collect(Collectors.toMap(InstitutionCard::id, Function.identity()));
+        return ids.stream()
+                .map(institutions::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private List<String> describePredicates(InstitutionSearchFilter filter) {
+        List<String> predicates = new ArrayList<>();
+        predicates.add("approved");
+        if (isSpatial(filter)) {
+            predicates.add("distance<=" + filter.getRadiusKm() + "km");
+        }
+        if (filter.getName() != null && !filter.getName().isBlank()) {
+            predicates.add("name~" + filter.getName());
+        }
+        if (filter.getInstitutionType() != null) {
+            predicates.add("type=" + filter.getInstitutionType());
+        }
+        if (filter.getIsAdmissionAvailable() != null) {
+            predicates.add("admission=" + filter.getIsAdmissionAvailable());
+        }
+        if (filter.getCity() != null && !filter.getCity().isBlank()) {
+            predicates.add("city~" + filter.getCity());
+        }
+        if (filter.getMaxMonthlyFee() != null) {
+            predicates.add("monthlyBaseFee<=" + filter.getMaxMonthlyFee());
+        }
+        if (hasTags(filter)) {
+            predicates.add("tags⊇" + filter.getTagIds());
+        }
+        return predicates;
+    }
+
+    private String describeSort(Sort sort) {
+        return sort.isSorted()
+                ? sort.stream().map(order -> order.getProperty() + " " + order.getDirection())
+                        .collect(Collectors.joining(", "))
+                : "createdAt DESC, id DESC";
+    }
+}
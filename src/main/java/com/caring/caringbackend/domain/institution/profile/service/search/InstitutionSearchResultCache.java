@@ -0,0 +1,201 @@
+package com.caring.caringbackend.domain.institution.profile.service.search;
+
+import com.caring.caringbackend.api.internal.institution.dto.request.InstitutionSearchFilter;
+import com.caring.caringbackend.domain.institution.profile.event.InstitutionChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 기관 검색 결과 캐시 (Redis)
+ * - 정규화한 검색 조건 + 페이지 정보를 키로, 정렬된 기관 ID 목록과 전체 건수만 저장 (엔티티 저장 안 함)
+ * - 패싯 건수는 페이지 정보를 뺀 검색 조건을 키로 저장 (같은 버전으로 결과와 함께 무효화)
+ * - 키에 전역 버전을 포함하고, 기관이 변경될 때마다 버전을 올려 이전 결과를 한 번에 무효화 (TTL로 정리)
+ * - Redis 장애 시 캐시 없이 검색
+ */
+@Slf4j
+@Component
+public class InstitutionSearchResultCache {
+
+    private static final String VERSION_KEY = "institution:search:version";
+    private static final String RESULT_KEY_PREFIX = "institution:search:result:";
+    private static final String FACETS_KEY_PREFIX = "institution:search:facets:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public InstitutionSearchResultCache(StringRedisTemplate stringRedisTemplate,
+                                        ObjectMapper objectMapper,
+                                        @Value("${institution.search-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    /**
+     * 현재 버전의 캐시 키 생성
+     * - 조회 전에 키를 만들어 두고 같은 키로 저장하므로, 검색 중 버전이 바뀌면 저장된 결과는 다시 읽히지 않음
+     *
+     * @param filter 검색 조건
+     * @param pageable 페이지 정보
+     * @return 캐시 키 (Redis 장애 시 empty)
+     */
+    public Optional<String> key(InstitutionSearchFilter filter, Pageable pageable) {
+        return versionedKey(RESULT_KEY_PREFIX, canonicalize(filter, pageable));
+    }
+
+    /**
+     * 현재 버전의 패싯 캐시 키 생성 (페이지 정보 제외)
+     *
+     * @param filter 검색 조건
+     * @return 캐시 키 (Redis 장애 시 empty)
+     */
+    public Optional<String> facetsKey(InstitutionSearchFilter filter) {
+        return versionedKey(FACETS_KEY_PREFIX, canonicalize(filter));
+    }
+
+    /**
+     * 현재 전역 버전 (목록/패싯/자동완성 응답의 ETag로도 사용)
+     *
+     * @return 버전 (Redis 장애 시 empty)
+     */
+    public Optional<String> currentVersion() {
+        try {
+            String version = stringRedisTemplate.opsForValue().get(VERSION_KEY);
+            return Optional.of(version != null ? version : "0");
+        } catch (Exception e) {
+            log.warn("기관 검색 캐시 버전 조회 실패, 캐시 없이 검색", e);
+            return Optional.empty();
+        }
+    }
+
+    public Optional<CachedPage> find(String key) {
+        return read(key, CachedPage.class);
+    }
+
+    public void put(String key, List<Long> ids, long total) {
+        write(key, new CachedPage(ids, total));
+    }
+
+    public Optional<InstitutionFacets> findFacets(String key) {
+        return read(key, InstitutionFacets.class);
+    }
+
+    public void putFacets(String key, InstitutionFacets facets) {
+        write(key, facets);
+    }
+
+    /**
+     * 기관 변경 커밋 후 버전 증가 (모든 노드가 같은 Redis 버전을 읽으므로 별도 전파 불필요)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onInstitutionChanged(InstitutionChangedEvent event) {
+        try {
+            stringRedisTemplate.opsForValue().increment(VERSION_KEY);
+        } catch (Exception e) {
+            log.warn("기관 검색 캐시 버전 증가 실패, TTL 만료까지 이전 결과가 노출될 수 있음: institutionId={}",
+                    event.institutionId(), e);
+        }
+    }
+
+    private Optional<String> versionedKey(String prefix, String canonical) {
+        return currentVersion().map(version -> prefix + version + ":" + digest(canonical));
+    }
+
+    private <T> Optional<T> read(String key, Class<T> type) {
+        try {
+            String cached = stringRedisTemplate.opsForValue().get(key);
+            return cached != null ? Optional.of(objectMapper.readValue(cached, type)) : Optional.empty();
+        } catch (Exception e) {
+            log.warn("기관 검색 캐시 조회 실패: key={}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    private void write(String key, Object value) {
+        try {
+            stringRedisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value), ttl);
+        } catch (Exception e) {
+            log.warn("기관 검색 캐시 저장 실패: key={}", key, e);
+        }
+    }
+
+    private String canonicalize(InstitutionSearchFilter filter, Pageable pageable) {
+        String sort = pageable.getSort().stream()
+                .map(order -> order.getProperty() + "," + order.getDirection())
+                .collect(Collectors.joining(";"));
+        return String.join("|",
+                canonicalize(filter),
+                "page=" + pageable.getPageNumber(),
+                "size=" + pageable.getPageSize(),
+                "sort=" + sort);
+    }
+
+    /**
+     * 검색 조건 정규화
+     * - 이름/도시는 대소문자 무시 검색이므로 소문자, 빈 문자열은 조건 없음과 동일
+     */
+    private String canonicalize(InstitutionSearchFilter filter) {
+        return String.join("|",
+                "name=" + text(filter.getName()),
+                "type=" + filter.getInstitutionType(),
+                "admission=" + filter.getIsAdmissionAvailable(),
+                "city=" + text(filter.getCity()),
+                "maxFee=" + filter.getMaxMonthlyFee(),
+                "lat=" + filter.getLatitude(),
+                "lng=" + filter.getLongitude(),
+                "radius=" + filter.getRadiusKm(),
+                "tags=" + tags(filter.getTagIds()));
+    }
+
+    /**
+     * 태그는 "모두 보유" 조건이므로 순서/중복 무관
+     */
+    private String tags(List<Long> tagIds) {
+        return tagIds == null ? "" : tagIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+
+    private String text(String value) {
+        return value == null || value.isBlank() ? "" : value.toLowerCase();
+    }
+
+    private String digest(String canonical) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256은 모든 JVM에서 지원
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 캐시된 검색 결과
+     *
+     * @param ids 정렬된 기관 ID 목록 (해당 페이지)
+     * @param total 전체 건수
+     */
+    public record CachedPage(List<Long> ids, long total) {
+    }
+}
@@ -0,0 +1,175 @@
+package com.caring.caringbackend.domain.institution.profile.service.search;
+
+import com.caring.caringbackend.domain.institution.profile.repository.InstitutionSearchDocument;
+import com.caring.caringbackend.global.util.HangulUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 기관 이름/도시 자동완성 인덱스 (DB 접근 없음)
+ * - 이름(각 단어 시작 위치부터)과 도시를 자모 분해한 키를 정렬 맵에 보관하여 접두사 범위로 조회
+ * - 초성만 입력한 경우("ㅅㅇ")는 초성 키 맵에서 조회
+ * - InstitutionSearchIndex와 같은 대상(승인 + 미삭제)을 같은 시점에 갱신
+ */
+@Component
+public class InstitutionSuggestIndex {
+
+    // 접두사 범위에서 확인할 최대 키 수 (짧은 검색어에서 응답 시간 제한)
+    private static final int MAX_SCANNED_KEYS = 500;
+
+    private static final int RANK_NAME_PREFIX = 0;
+    private static final int RANK_WORD_PREFIX = 1;
+    private static final int RANK_CITY_PREFIX = 2;
+
+    private final NavigableMap<String, Set<Long>> jamoKeys = new ConcurrentSkipListMap<>();
+    private final NavigableMap<String, Set<Long>> initialKeys = new ConcurrentSkipListMap<>();
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 자동완성 후보 조회
+     * - 이름 시작 일치 → 단어 시작 일치 → 도시 일치 순, 같은 순위는 짧은 이름 우선
+     *
+     * @param query 입력 중인 검색어
+     * @param limit 최대 건수
+     * @return 후보 목록
+     */
+    public List<InstitutionSuggestion> suggest(String query, int limit) {
+        String normalized = query != null ? normalize(query) : "";
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        boolean initialsOnly = HangulUtils.isInitialsOnly(normalized);
+        String prefix = initialsOnly ? normalized : HangulUtils.decompose(normalized);
+        NavigableMap<String, Set<Long>> keys = initialsOnly ? initialKeys : jamoKeys;
+
+        Map<Long, Match> matches = new HashMap<>();
+        int scanned = 0;
+        for (Set<Long> ids : keys.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            for (Long id : ids) {
+                Entry entry = entries.get(id);
+                if (entry != null && !matches.containsKey(id)) {
+                    matches.put(id, new Match(id, entry, entry.rank(prefix, initialsOnly)));
+                }
+            }
+            if (++scanned >= MAX_SCANNED_KEYS) {
+                break;
+            }
+        }
+
+        return matches.values().stream()
+                .sorted(Comparator.comparingInt(Match::rank)
+                        .thenComparingInt(match -> match.entry().name().length())
+                        .thenComparing(match -> match.entry().name())
+                        .thenComparing(Match::id))
+                .limit(limit)
+                .map(match -> new InstitutionSuggestion(match.id(), match.entry().name(), match.entry().city()))
+                .toList();
+    }
+
+    synchronized void put(InstitutionSearchDocument document) {
+        Entry entry = Entry.of(document);
+        Entry previous = entries.put(document.id(), entry);
+        if (previous != null) {
+            previous.forEachKey((map, key) -> unlink(map, key, document.id()), jamoKeys, initialKeys);
+        }
+        entry.forEachKey((map, key) -> map.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(document.id()),
+                jamoKeys, initialKeys);
+    }
+
+    synchronized void remove(Long institutionId) {
+        Entry previous = entries.remove(institutionId);
+        if (previous != null) {
+            previous.forEachKey((map, key) -> unlink(map, key, institutionId), jamoKeys, initialKeys);
+        }
+    }
+
+    private static void unlink(NavigableMap<String, Set<Long>> map, String key, Long id) {
+        map.computeIfPresent(key, (k, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    /**
+     * 공백 제거 + 소문자 (공백 유무와 관계없이 일치)
+     */
+    private static String normalize(String text) {
+        return text.replaceAll("\\s+", "").toLowerCase();
+    }
+
+    /**
+     * 기관별 색인 키
+     *
+     * @param name 기관 이름 (원문)
+     * @param city 도시 (원문)
+     * @param nameJamo 이름 전체 자모 키
+     * @param nameInitials 이름 전체 초성 키
+     * @param wordJamo 둘째 단어부터의 자모 키
+     * @param wordInitials 둘째 단어부터의 초성 키
+     * @param cityJamo 도시 자모 키 (도시 없으면 null)
+     * @param cityInitials 도시 초성 키 (도시 없으면 null)
+     */
+    private record Entry(String name, String city,
+                         String nameJamo, String nameInitials,
+                         List<String> wordJamo, List<String> wordInitials,
+                         String cityJamo, String cityInitials) {
+
+        static Entry of(InstitutionSearchDocument document) {
+            String[] words = document.name().trim().split("\\s+");
+            List<String> wordJamo = new ArrayList<>();
+            List<String> wordInitials = new ArrayList<>();
+            for (int i = 1; i < words.length; i++) {
+                String fromWord = normalize(String.join("", List.of(words).subList(i, words.length)));
+                wordJamo.add(HangulUtils.decompose(fromWord));
+                wordInitials.add(HangulUtils.initials(fromWord));
+            }
+
+            String name = normalize(document.name());
+            String city = document.city() != null && !document.city().isBlank() ? normalize(document.city()) : null;
+            return new Entry(document.name(), document.city(),
+                    HangulUtils.decompose(name), HangulUtils.initials(name),
+                    wordJamo, wordInitials,
+                    city != null ? HangulUtils.decompose(city) : null,
+                    city != null ? HangulUtils.initials(city) : null);
+        }
+
+        int rank(String prefix, boolean initialsOnly) {
+            if ((initialsOnly ? nameInitials : nameJamo).startsWith(prefix)) {
+                return RANK_NAME_PREFIX;
+            }
+            boolean wordMatch = (initialsOnly ? wordInitials : wordJamo).stream()
+                    .anyMatch(key -> key.startsWith(prefix));
+            return wordMatch ? RANK_WORD_PREFIX : RANK_CITY_PREFIX;
+        }
+
+        void forEachKey(KeyConsumer consumer,
+                        NavigableMap<String, Set<Long>> jamo, NavigableMap<String, Set<Long>> initials) {
+            consumer.accept(jamo, nameJamo);
+            consumer.accept(initials, nameInitials);
+            wordJamo.forEach(key -> consumer.accept(jamo, key));
+            wordInitials.forEach(key -> consumer.accept(initials, key));
+            if (cityJamo != null) {
+                consumer.accept(jamo, cityJamo);
+                consumer.accept(initials, cityInitials);
+            }
+        }
+    }
+
+    private record Match(Long id, Entry entry, int rank) {
+    }
+
+    @FunctionalInterface
+    private interface KeyConsumer {
+        void accept(NavigableMap<String, Set<Long>> map, String key);
+    }
+}
@@ -0,0 +1,11 @@
+package com.caring.caringbackend.domain.institution.profile.service.search;
+
+/**
+ * 자동완성 후보
+ *
+ * @param id 기관 ID
+ * @param name 기관 이름
+ * @param city 도시
+ */
+public record InstitutionSuggestion(Long id, String name, String city) {
+}
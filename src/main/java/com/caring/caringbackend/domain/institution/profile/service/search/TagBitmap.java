@@ -0,0 +1,57 @@
+package com.caring.caringbackend.domain.institution.profile.service.search;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * 태그 ID 비트맵 (태그 ID = 비트 위치)
+ * - 기관별 보유 태그를 long[] 워드로 보관하여 "태그 X, Y, Z 모두 보유" 검사를 워드 단위 AND로 처리
+ * - 태그는 관리자가 등록하는 소규모 코드 테이블이므로 ID가 작아 워드 수가 적음
+ * - 요청 파라미터를 그대로 넘기지 말 것 (인덱스에 존재하는 태그 ID만 사용, InstitutionSearchIndex.requiredTags 참고)
+ */
+final class TagBitmap {
+
+    static final TagBitmap EMPTY = new TagBitmap(new long[0]);
+
+    private final long[] words;
+
+    private TagBitmap(long[] words) {
+        this.words = words;
+    }
+
+    static TagBitmap of(Collection<Long> tagIds) {
+        if (tagIds == null || tagIds.isEmpty()) {
+            return EMPTY;
+        }
+        BitSet bits = new BitSet();
+        tagIds.stream()
+                .filter(Objects::nonNull)
+                .forEach(tagId -> {
+                    if (tagId < 0 || tagId > Integer.MAX_VALUE) {
+                        throw new IllegalArgumentException("비트맵으로 표현할 수 없는 태그 ID: " + tagId);
+                    }
+                    bits.set(tagId.intValue());
+                });
+        return new TagBitmap(bits.toLongArray());
+    }
+
+    boolean isEmpty() {
+        return words.length == 0;
+    }
+
+    /**
+     * required의 모든 비트를 포함하는지 확인
+     */
+    boolean containsAll(TagBitmap required) {
+        if (required.words.length > words.length) {
+            return false;
+        }
+        for (int i = 0; i < required.words.length; i++) {
+            if ((words[i] & required.words[i]) != required.words[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
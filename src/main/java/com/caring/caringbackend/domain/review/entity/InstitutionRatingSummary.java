@@ -0,0 +1,83 @@
+package com.caring.caringbackend.domain.review.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 기관별 리뷰 평점 집계 (institution_rating_summary)
+ * <p>
+ * 리뷰 작성/수정/삭제 트랜잭션에서 증감(upsert)으로 갱신되며, 엔티티로 저장/수정하지 않습니다.
+ * - 대상: 삭제/신고되지 않은 리뷰 (기관 상세의 리뷰 목록과 동일)
+ * - 집계가 어긋나면 InstitutionRatingSummaryRebuilder가 리뷰 테이블 기준으로 복구
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "institution_rating_summary")
+public class InstitutionRatingSummary {
+
+    // 기관 ID (기관당 1행)
+    @Id
+    @Column(name = "institution_id")
+    private Long institutionId;
+
+    // 리뷰 수
+    @Column(nullable = false)
+    private long reviewCount;
+
+    // 별점 합계
+    @Column(nullable = false)
+    private long ratingSum;
+
+    // 별점별 리뷰 수
+    @Column(nullable = false)
+    private long oneStarCount;
+
+    @Column(nullable = false)
+    private long twoStarCount;
+
+    @Column(nullable = false)
+    private long threeStarCount;
+
+    @Column(nullable = false)
+    private long fourStarCount;
+
+    @Column(nullable = false)
+    private long fiveStarCount;
+
+    // 마지막 갱신 시각
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 평균 별점 (리뷰가 없으면 null)
+     */
+    public Double averageRating() {
+        return averageRating(reviewCount, ratingSum);
+    }
+
+    /**
+     * 별점별 리뷰 수 (1점 → 5점 순)
+     */
+    public List<Long> starCounts() {
+        return List.of(oneStarCount, twoStarCount, threeStarCount, fourStarCount, fiveStarCount);
+    }
+
+    /**
+     * 평균 별점 (소수점 첫째 자리 반올림, 리뷰가 없으면 null)
+     */
+    public static Double averageRating(Long reviewCount, Long ratingSum) {
+        if (reviewCount == null || reviewCount <= 0 || ratingSum == null) {
+            return null;
+        }
+        return Math.round(ratingSum * 10.0 / reviewCount) / 10.0;
+    }
+}
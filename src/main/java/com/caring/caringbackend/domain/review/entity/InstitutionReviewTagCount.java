@@ -0,0 +1,43 @@
+package com.caring.caringbackend.domain.review.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 기관별 리뷰 태그 집계 (institution_review_tag_count)
+ * <p>
+ * 삭제되지 않은 리뷰에 달린 태그별 리뷰 수로, InstitutionRatingSummary와 같은 트랜잭션에서 증감 갱신됩니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "institution_review_tag_count",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"institution_id", "tag_id"})
+)
+public class InstitutionReviewTagCount {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 기관 ID
+    @Column(name = "institution_id", nullable = false)
+    private Long institutionId;
+
+    // 태그 ID
+    @Column(name = "tag_id", nullable = false)
+    private Long tagId;
+
+    // 태그가 달린 리뷰 수
+    @Column(nullable = false)
+    private long reviewCount;
+}
@@ -0,0 +1,150 @@
+package com.caring.caringbackend.domain.review.repository;
+
+import com.caring.caringbackend.domain.review.entity.InstitutionRatingSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 기관별 리뷰 평점 집계 Repository
+ * <p>
+ * 갱신은 모두 행 단위 원자적 증감(INSERT ... ON CONFLICT DO UPDATE)으로 처리하여
+ * 같은 기관에 리뷰가 동시에 작성되어도 읽고-쓰기 경합으로 집계가 유실되지 않도록 합니다.
+ */
+@Repository
+public interface InstitutionRatingSummaryRepository extends JpaRepository<InstitutionRatingSummary, Long> {
+
+    /**
+     * 리뷰 1건 반영 (delta = 1: 추가, -1: 제거)
+     *
+     * @param institutionId 기관 ID
+     * @param rating 리뷰 별점 (1~5)
+     * @param delta 증감 값
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO institution_rating_summary AS s (
+                institution_id, review_count, rating_sum,
+                one_star_count, two_star_count, three_star_count, four_star_count, five_star_count,
+                updated_at
+            )
+            VALUES (
+                :institutionId, :delta, :rating * :delta,
+                CASE WHEN :rating = 1 THEN :delta ELSE 0 END,
+                CASE WHEN :rating = 2 THEN :delta ELSE 0 END,
+                CASE WHEN :rating = 3 THEN :delta ELSE 0 END,
+                CASE WHEN :rating = 4 THEN :delta ELSE 0 END,
+                CASE WHEN :rating = 5 THEN :delta ELSE 0 END,
+                now()
+            )
+            ON CONFLICT (institution_id) DO UPDATE SET
+                review_count = s.review_count + EXCLUDED.review_count,
+                rating_sum = s.rating_sum + EXCLUDED.rating_sum,
+                one_star_count = s.one_star_count + EXCLUDED.one_star_count,
+                two_star_count = s.two_star_count + EXCLUDED.two_star_count,
+                three_star_count = s.three_star_count + EXCLUDED.three_star_count,
+                four_star_count = s.four_star_count + EXCLUDED.four_star_count,
+                five_star_count = s.five_star_count + EXCLUDED.five_star_count,
+                updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    void applyReviewDelta(@Param("institutionId") Long institutionId,
+                          @Param("rating") int rating,
+                          @Param("delta") int delta);
+
+    /**
+     * 재집계 대상 기관 ID 조회 (리뷰 또는 집계가 있는 기관, ID 오름차순 키셋 페이징)
+     *
+     * @param afterInstitutionId 이 ID 이후부터 조회
+     * @param limit 조회 건수
+     * @return 기관 ID 목록
+     */
+    @Query(value = """
+            SELECT t.institution_id
+            FROM (
+                SELECT r.institution_id FROM review r WHERE r.deleted = false AND r.reported = false
+                UNION
+                SELECT s.institution_id FROM institution_rating_summary s
+                UNION
+                SELECT c.institution_id FROM institution_review_tag_count c
+            ) t
+            WHERE t.institution_id > :afterInstitutionId
+            ORDER BY t.institution_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findInstitutionIdsToRebuild(@Param("afterInstitutionId") Long afterInstitutionId,
+                                           @Param("limit") int limit);
+
+    /**
+     * 집계 행이 없으면 빈 집계로 생성 (재집계 시 잠글 행 확보)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO institution_rating_summary (
+                institution_id, review_count, rating_sum,
+                one_star_count, two_star_count, three_star_count, four_star_count, five_star_count,
+                updated_at
+            )
+            VALUES (:institutionId, 0, 0, 0, 0, 0, 0, 0, now())
+            ON CONFLICT (institution_id) DO NOTHING
+            """, nativeQuery = true)
+    void insertEmptyIfAbsent(@Param("institutionId") Long institutionId);
+
+    /**
+     * 기관 집계 행 잠금 (SELECT ... FOR UPDATE)
+     * <p>
+     * 리뷰 증감 갱신도 같은 행을 먼저 갱신하므로, 잠금을 잡은 동안에는 해당 기관의 리뷰 반영이 대기하고
+     * 잠금 이후 실행되는 재집계 쿼리는 이미 커밋된 리뷰를 모두 봅니다.
+     */
+    @Query(value = """
+            SELECT s.institution_id
+            FROM institution_rating_summary s
+            WHERE s.institution_id = :institutionId
+            FOR UPDATE
+            """, nativeQuery = true)
+    Long lockByInstitutionId(@Param("institutionId") Long institutionId);
+
+    /**
+     * 기관 1곳을 리뷰 테이블 기준으로 재집계 (집계가 다를 때만 갱신, 삭제/신고된 리뷰 제외)
+     * <p>
+     * lockByInstitutionId로 행을 잠근 뒤 같은 트랜잭션에서 호출해야 동시 증감 갱신을 덮어쓰지 않습니다.
+     *
+     * @param institutionId 기관 ID
+     * @return 복구된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE institution_rating_summary s
+            SET review_count = a.review_count,
+                rating_sum = a.rating_sum,
+                one_star_count = a.one_star_count,
+                two_star_count = a.two_star_count,
+                three_star_count = a.three_star_count,
+                four_star_count = a.four_star_count,
+                five_star_count = a.five_star_count,
+                updated_at = now()
+            FROM (
+                SELECT count(*) AS review_count,
+                       coalesce(sum(r.rating), 0) AS rating_sum,
+                       count(*) FILTER (WHERE r.rating = 1) AS one_star_count,
+                       count(*) FILTER (WHERE r.rating = 2) AS two_star_count,
+                       count(*) FILTER (WHERE r.rating = 3) AS three_star_count,
+                       count(*) FILTER (WHERE r.rating = 4) AS four_star_count,
+                       count(*) FILTER (WHERE r.rating = 5) AS five_star_count
+                FROM review r
+                WHERE r.institution_id = :institutionId
+                AND r.deleted = false
+                AND r.reported = false
+            ) a
+            WHERE s.institution_id = :institutionId
+            AND (s.review_count, s.rating_sum,
+                 s.one_star_count, s.two_star_count, s.three_star_count, s.four_star_count, s.five_star_count)
+                IS DISTINCT FROM
+                (a.review_count, a.rating_sum,
+                 a.one_star_count, a.two_star_count, a.three_star_count, a.four_star_count, a.five_star_count)
+            """, nativeQuery = true)
+    int rebuildFromReviews(@Param("institutionId") Long institutionId);
+}
@@ -0,0 +1,92 @@
+package com.caring.caringbackend.domain.review.repository;
+
+import com.caring.caringbackend.domain.review.entity.InstitutionReviewTagCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 기관별 리뷰 태그 집계 Repository
+ */
+@Repository
+public interface InstitutionReviewTagCountRepository extends JpaRepository<InstitutionReviewTagCount, Long> {
+
+    /**
+     * 리뷰 태그 1건 반영 (delta = 1: 추가, -1: 제거)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO institution_review_tag_count AS c (institution_id, tag_id, review_count)
+            VALUES (:institutionId, :tagId, :delta)
+            ON CONFLICT (institution_id, tag_id) DO UPDATE SET
+                review_count = c.review_count + EXCLUDED.review_count
+            """, nativeQuery = true)
+    void applyTagDelta(@Param("institutionId") Long institutionId,
+                       @Param("tagId") Long tagId,
+                       @Param("delta") int delta);
+
+    /**
+     * 기관의 태그별 리뷰 수 (많은 순, 0건 제외)
+     */
+    @Query("""
+            SELECT new com.caring.caringbackend.domain.review.repository.ReviewTagCountView(t.id, t.name, c.reviewCount)
+            FROM InstitutionReviewTagCount c
+            JOIN Tag t ON t.id = c.tagId
+            WHERE c.institutionId = :institutionId
+            AND c.reviewCount > 0
+            ORDER BY c.reviewCount DESC, t.id ASC
+            """)
+    List<ReviewTagCountView> findTagCounts(@Param("institutionId") Long institutionId);
+
+    /**
+     * 기관 1곳의 태그 집계를 리뷰 태그 매핑 기준으로 재집계 (집계가 다른 행만 갱신, 삭제/신고된 리뷰 제외)
+     * <p>
+     * 기관 평점 집계 행(InstitutionRatingSummaryRepository.lockByInstitutionId)을 잠근 트랜잭션에서 호출합니다.
+     *
+     * @param institutionId 기관 ID
+     * @return 복구된 행 수
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO institution_review_tag_count AS c (institution_id, tag_id, review_count)
+            SELECT r.institution_id, m.tag_id, count(*)
+            FROM review_tag_mapping m
+            JOIN review r ON r.id = m.review_id
+            WHERE r.institution_id = :institutionId
+            AND r.deleted = false
+            AND r.reported = false
+            AND m.deleted = false
+            GROUP BY r.institution_id, m.tag_id
+            ON CONFLICT (institution_id, tag_id) DO UPDATE SET
+                review_count = EXCLUDED.review_count
+            WHERE c.review_count <> EXCLUDED.review_count
+            """, nativeQuery = true)
+    int rebuildFromReviews(@Param("institutionId") Long institutionId);
+
+    /**
+     * 기관 1곳에서 더 이상 해당 태그가 달린 리뷰가 없는 집계 삭제
+     *
+     * @param institutionId 기관 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM institution_review_tag_count c
+            WHERE c.institution_id = :institutionId
+            AND NOT EXISTS (
+                SELECT 1
+                FROM review_tag_mapping m
+                JOIN review r ON r.id = m.review_id
+                WHERE r.institution_id = c.institution_id
+                  AND m.tag_id = c.tag_id
+                  AND r.deleted = false
+                  AND r.reported = false
+                  AND m.deleted = false
+            )
+            """, nativeQuery = true)
+    int deleteWithoutReviews(@Param("institutionId") Long institutionId);
+}
@@ -5,6 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -57,6 +58,18 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @EntityGraph(attributePaths = {"institution", "reservation"})
     List<Review> findTop5ByMemberIdAndDeletedFalseAndReportedFalseOrderByCreatedAtDesc(Long memberId);
 
+    /**
+     * 리뷰 신고 표시 (아직 신고되지 않은 경우에만)
+     * <p>
+     * 동시에 여러 회원이 신고해도 한 요청만 1을 반환하므로, 평점 집계 차감을 한 번만 수행할 수 있습니다.
+     *
+     * @param reviewId 리뷰 ID
+     * @return 신고 상태로 바뀐 행 수 (이미 신고된 리뷰면 0)
+     */
+    @Modifying
+    @Query("UPDATE Review r SET r.reported = true WHERE r.id = :reviewId AND r.reported = false")
+    int markReportedIfNotReported(@Param("reviewId") Long reviewId);
+
     /**
      * 예약 ID와 회원 ID로 리뷰 존재 여부 확인 (중복 리뷰 체크용)
      *
@@ -0,0 +1,15 @@
+package com.caring.caringbackend.domain.review.repository;
+
+/**
+ * 기관 리뷰 태그 집계 조회 결과
+ *
+ * @param tagId 태그 ID
+ * @param tagName 태그 이름
+ * @param reviewCount 태그가 달린 리뷰 수
+ */
+public record ReviewTagCountView(
+        Long tagId,
+        String tagName,
+        long reviewCount
+) {
+}
@@ -0,0 +1,97 @@
+package com.caring.caringbackend.domain.review.service;
+
+import com.caring.caringbackend.domain.review.repository.InstitutionRatingSummaryRepository;
+import com.caring.caringbackend.domain.review.repository.InstitutionReviewTagCountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 기관 평점 집계 재구성
+ * - 기동 직후(최초 배포 시 기존 리뷰 집계 포함) 및 매일 새벽 리뷰 테이블 기준으로 다시 집계
+ * - 증감 갱신과 달라진 행만 덮어쓰고, 복구된 건수를 로그로 남김
+ * - 기관 단위 트랜잭션에서 집계 행을 잠근 뒤(SELECT ... FOR UPDATE) 재집계하므로,
+ *   같은 기관의 리뷰 증감 갱신과 직렬화되어 재집계가 동시 반영분을 덮어쓰지 않음
+ */
+@Slf4j
+@Component
+public class InstitutionRatingSummaryRebuilder {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final InstitutionRatingSummaryRepository ratingSummaryRepository;
+    private final InstitutionReviewTagCountRepository reviewTagCountRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public InstitutionRatingSummaryRebuilder(InstitutionRatingSummaryRepository ratingSummaryRepository,
+                                             InstitutionReviewTagCountRepository reviewTagCountRepository,
+                                             PlatformTransactionManager transactionManager) {
+        this.ratingSummaryRepository = ratingSummaryRepository;
+        this.reviewTagCountRepository = reviewTagCountRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${review.rating-summary.rebuild-cron:0 30 4 * * *}")
+    public void rebuild() {
+        long afterInstitutionId = 0L;
+        int summaries = 0;
+        int tagCounts = 0;
+        int failedInstitutions = 0;
+
+        while (true) {
+            List<Long> institutionIds;
+            try {
+                institutionIds = ratingSummaryRepository.findInstitutionIdsToRebuild(
+                        afterInstitutionId, REBUILD_BATCH_SIZE);
+            } catch (DataAccessException e) {
+                log.warn("기관 평점 집계 재구성 실패: afterInstitutionId={}", afterInstitutionId, e);
+                return;
+            }
+            if (institutionIds.isEmpty()) {
+                break;
+            }
+
+            for (Long institutionId : institutionIds) {
+                try {
+                    int[] rebuilt = transactionTemplate.execute(status -> rebuildInstitution(institutionId));
+                    summaries += rebuilt[0];
+                    tagCounts += rebuilt[1];
+                } catch (DataAccessException e) {
+                    failedInstitutions++;
+                    log.warn("기관 평점 집계 재구성 실패: institutionId={}", institutionId, e);
+                }
+            }
+            afterInstitutionId = institutionIds.get(institutionIds.size() - 1);
+        }
+
+        if (summaries > 0 || tagCounts > 0 || failedInstitutions > 0) {
+            log.warn("기관 평점 집계 불일치 복구: summaries={}, tagCounts={}, failedInstitutions={}",
+                    summaries, tagCounts, failedInstitutions);
+        } else {
+            log.info("기관 평점 집계 재구성 완료: 불일치 없음");
+        }
+    }
+
+    /**
+     * 기관 1곳 재집계 (집계 행 잠금 → 평점 재집계 → 태그 재집계)
+     *
+     * @return {복구된 평점 집계 행 수, 복구된 태그 집계 행 수}
+     */
+    private int[] rebuildInstitution(Long institutionId) {
+        ratingSummaryRepository.insertEmptyIfAbsent(institutionId);
+        ratingSummaryRepository.lockByInstitutionId(institutionId);
+
+        int summaries = ratingSummaryRepository.rebuildFromReviews(institutionId);
+        int tagCounts = reviewTagCountRepository.rebuildFromReviews(institutionId)
+                + reviewTagCountRepository.deleteWithoutReviews(institutionId);
+        return new int[]{summaries, tagCounts};
+    }
+}
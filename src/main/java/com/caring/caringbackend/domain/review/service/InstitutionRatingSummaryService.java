@@ -0,0 +1,90 @@
+package com.caring.caringbackend.domain.review.service;
+
+import com.caring.caringbackend.api.internal.institution.dto.response.review.InstitutionRatingSummaryResponseDto;
+import com.caring.caringbackend.domain.review.repository.InstitutionRatingSummaryRepository;
+import com.caring.caringbackend.domain.review.repository.InstitutionReviewTagCountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 기관별 리뷰 평점 집계 서비스
+ * <p>
+ * 리뷰 작성/수정/삭제와 같은 트랜잭션에서 집계를 증감시켜 리뷰와 집계가 함께 커밋/롤백되도록 합니다.
+ * 모든 증감은 기관 평점 집계 행을 태그 집계보다 먼저 갱신(잠금)하여 재집계와 같은 순서로 잠급니다.
+ * 검색 카드와 기관 상세는 리뷰를 읽지 않고 이 집계만 조회합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class InstitutionRatingSummaryService {
+
+    private final InstitutionRatingSummaryRepository ratingSummaryRepository;
+    private final InstitutionReviewTagCountRepository reviewTagCountRepository;
+
+    /**
+     * 리뷰 추가 반영
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reviewAdded(Long institutionId, int rating, Collection<Long> tagIds) {
+        ratingSummaryRepository.applyReviewDelta(institutionId, rating, 1);
+        applyTagDeltas(institutionId, Set.copyOf(tagIds), 1);
+    }
+
+    /**
+     * 리뷰 수정 반영 (별점이 바뀐 경우와 추가/제거된 태그만 증감)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reviewChanged(Long institutionId, int oldRating, Collection<Long> oldTagIds,
+                              int newRating, Collection<Long> newTagIds) {
+        // 태그만 바뀐 경우에도 집계 행을 먼저 잠가 재집계(InstitutionRatingSummaryRebuilder)와 직렬화
+        ratingSummaryRepository.lockByInstitutionId(institutionId);
+
+        if (oldRating != newRating) {
+            ratingSummaryRepository.applyReviewDelta(institutionId, oldRating, -1);
+            ratingSummaryRepository.applyReviewDelta(institutionId, newRating, 1);
+        }
+
+        Set<Long> removed = new HashSet<>(oldTagIds);
+        removed.removeAll(newTagIds);
+        Set<Long> added = new HashSet<>(newTagIds);
+        added.removeAll(oldTagIds);
+        applyTagDeltas(institutionId, removed, -1);
+        applyTagDeltas(institutionId, added, 1);
+    }
+
+    /**
+     * 리뷰 제거 반영 (소프트 삭제, 신고로 목록에서 빠진 경우)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reviewRemoved(Long institutionId, int rating, Collection<Long> tagIds) {
+        ratingSummaryRepository.applyReviewDelta(institutionId, rating, -1);
+        applyTagDeltas(institutionId, Set.copyOf(tagIds), -1);
+    }
+
+    /**
+     * 기관 평점 요약 조회 (리뷰가 없으면 빈 요약)
+     *
+     * @param institutionId 기관 ID
+     * @return 평점 요약
+     */
+    public InstitutionRatingSummaryResponseDto getSummary(Long institutionId) {
+        return ratingSummaryRepository.findById(institutionId)
+                .map(summary -> InstitutionRatingSummaryResponseDto.of(
+                        summary, reviewTagCountRepository.findTagCounts(institutionId)))
+                .orElseGet(InstitutionRatingSummaryResponseDto::empty);
+    }
+
+    private void applyTagDeltas(Long institutionId, Collection<Long> tagIds, int delta) {
+        for (Long tagId : tagIds) {
+            reviewTagCountRepository.applyTagDelta(institutionId, tagId, delta);
+        }
+    }
+}
@@ -5,17 +5,10 @@ import com.caring.caringbackend.api.internal.Member.dto.review.response.ReviewRe
 import com.caring.caringbackend.api.internal.institution.dto.request.review.InstitutionReviewSearchFilter;
 import com.caring.caringbackend.api.internal.institution.dto.response.review.InstitutionReviewResponseDto;
 import com.caring.caringbackend.api.internal.institution.dto.response.review.InstitutionReviewsResponseDto;
-import com.caring.caringbackend.domain.file.entity.File;
-import com.caring.caringbackend.domain.file.entity.FileCategory;
-import com.caring.caringbackend.domain.file.entity.ReferenceType;
-import com.caring.caringbackend.domain.file.service.FileService;
 import com.caring.caringbackend.domain.institution.profile.entity.InstitutionAdmin;
 import com.caring.caringbackend.domain.institution.profile.repository.InstitutionAdminRepository;
 import com.caring.caringbackend.domain.review.entity.Review;
 import com.caring.caringbackend.domain.review.repository.ReviewRepository;
-import com.caring.caringbackend.domain.tag.entity.ReviewTagMapping;
-import com.caring.caringbackend.domain.tag.entity.Tag;
-import com.caring.caringbackend.domain.tag.repository.ReviewTagMappingRepository;
 import com.caring.caringbackend.global.exception.BusinessException;
 import com.caring.caringbackend.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -26,15 +19,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class InstitutionReviewServiceImpl implements InstitutionReviewService {
 
-    private final FileService fileService;
     private final ReviewRepository reviewRepository;
-    private final ReviewTagMappingRepository reviewTagMappingRepository;
+    private final ReviewResponseAssembler reviewResponseAssembler;
     private final InstitutionAdminRepository institutionAdminRepository;
     private static final int RECENT_REVIEW_DAYS = 7;
 
@@ -54,16 +45,8 @@ public class InstitutionReviewServiceImpl implements InstitutionReviewService {
         Page<Review> reviewPage = reviewRepository.findByInstitutionIdAndDeletedFalseAndReportedFalse(
                 institutionId, pageable);
 
-        // 2. DTO 변환 (태그 및 이미지 포함)
-        List<ReviewResponse> reviewResponses = reviewPage.getContent().stream()
-                .map(review -> {
-                    List<Tag> tags = reviewTagMappingRepository.findByReviewId(review.getId()).stream()
-                            .map(ReviewTagMapping::getTag)
-                            .collect(Collectors.toList());
-                    List<String> imageUrls = getReviewImageUrls(review.getId());
-                    return ReviewResponse.fromWithTagsAndImages(review, tags, imageUrls);
-                })
-                .collect(Collectors.toList());
+        // 2. DTO 변환 (태그 및 이미지 일괄 조회)
+        List<ReviewResponse> reviewResponses = reviewResponseAssembler.toResponses(reviewPage.getContent());
 
         // 3. 응답 반환
         return ReviewListResponse.of(reviewResponses, reviewPage);
@@ -74,10 +57,7 @@ public class InstitutionReviewServiceImpl implements InstitutionReviewService {
     public InstitutionReviewsResponseDto getInstitutionDetailReviews(Long institutionId) {
         // 리뷰에 reservation, member, institution를 한번에 다 가져온다.
         List<Review> reviews = reviewRepository.findByIdWithFetches(institutionId);
-        initializeLazyCollection(reviews);
-        List<InstitutionReviewResponseDto> reviewResponses = reviews.stream()
-                .map(InstitutionReviewResponseDto::from)
-                .toList();
+        List<InstitutionReviewResponseDto> reviewResponses = reviewResponseAssembler.toInstitutionResponses(reviews);
 
         return InstitutionReviewsResponseDto.of(reviewResponses);
     }
@@ -101,10 +81,7 @@ public class InstitutionReviewServiceImpl implements InstitutionReviewService {
             reviews = reviewRepository.findByIdWithFetches(institutionId);
         }
 
-        initializeLazyCollection(reviews);
-        List<InstitutionReviewResponseDto> reviewResponses = reviews.stream()
-                .map(InstitutionReviewResponseDto::from)
-                .toList();
+        List<InstitutionReviewResponseDto> reviewResponses = reviewResponseAssembler.toInstitutionResponses(reviews);
         return InstitutionReviewsResponseDto.of(reviewResponses);
     }
 
@@ -115,36 +92,4 @@ public class InstitutionReviewServiceImpl implements InstitutionReviewService {
         return reviewRepository.countRecentReviews(institutionId, from)
                 .getRecentReviewCount();
     }
-
-    // ================= private methods =================
-
-    /**
-     * 리뷰 이미지 URL 조회 헬퍼 메서드
-     *
-     * @param reviewId 리뷰 ID
-     * @return 이미지 URL 목록
-     */
-    private List<String> getReviewImageUrls(Long reviewId) {
-        List<File> files = fileService.getFilesByReferenceAndCategory(
-                reviewId,
-                ReferenceType.REVIEW,
-                FileCategory.REVIEW_IMAGE
-        );
-        return files.stream()
-                .map(File::getFileUrl)
-                .collect(Collectors.toList());
-    }
-
-    private static void initializeLazyCollection(List<Review> reviews) {
-        reviews.forEach(review -> {
-            if (review.getReviewTags() != null && !review.getReviewTags().isEmpty()) {
-
-                review.getReviewTags().size();
-                review.getReviewTags().forEach(reviewTag -> {
-                    Tag tag = reviewTag.getTag();
-                    tag.getName();
-                });
-            }
-        });
-    }
 }
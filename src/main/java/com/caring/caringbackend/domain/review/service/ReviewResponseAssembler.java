@@ -0,0 +1,112 @@
+package com.caring.caringbackend.domain.review.service;
+
+import com.caring.caringbackend.api.internal.Member.dto.review.response.ReviewResponse;
+import com.caring.caringbackend.api.internal.institution.dto.response.review.InstitutionReviewResponseDto;
+import com.caring.caringbackend.domain.file.entity.File;
+import com.caring.caringbackend.domain.file.entity.FileCategory;
+import com.caring.caringbackend.domain.file.entity.ReferenceType;
+import com.caring.caringbackend.domain.file.service.FileService;
+import com.caring.caringbackend.domain.review.entity.Review;
+import com.caring.caringbackend.domain.tag.entity.ReviewTagMapping;
+import com.caring.caringbackend.domain.tag.entity.Tag;
+import com.caring.caringbackend.domain.tag.repository.ReviewTagMappingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 리뷰 응답 일괄 조립
+ * <p>
+ * 리뷰 목록의 태그/이미지를 리뷰마다 조회하지 않고, 목록 전체에 대해 한 번씩(IN 조회) 가져와 메모리에서 묶습니다.
+ * - 리뷰 N건 응답: 태그 매핑(+태그) 1회 + 이미지 1회
+ * - 호출하는 서비스의 트랜잭션 안에서 사용 (리뷰의 회원/예약 등 지연 로딩 포함)
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewResponseAssembler {
+
+    private final ReviewTagMappingRepository reviewTagMappingRepository;
+    private final FileService fileService;
+
+    /**
+     * 리뷰 응답 목록 조립 (태그 + 이미지 포함, 입력 순서 유지)
+     */
+    public List<ReviewResponse> toResponses(List<Review> reviews) {
+        if (reviews.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> reviewIds = reviewIds(reviews);
+        Map<Long, List<Tag>> tags = loadTags(reviewIds);
+        Map<Long, List<String>> imageUrls = loadImageUrls(reviewIds);
+
+        return reviews.stream()
+                .map(review -> ReviewResponse.fromWithTagsAndImages(
+                        review,
+                        tags.getOrDefault(review.getId(), List.of()),
+                        imageUrls.getOrDefault(review.getId(), List.of())))
+                .toList();
+    }
+
+    /**
+     * 단건 리뷰 응답 조립
+     */
+    public ReviewResponse toResponse(Review review) {
+        return toResponses(List.of(review)).get(0);
+    }
+
+    /**
+     * 기관용 리뷰 응답 목록 조립 (태그 이름 포함, 입력 순서 유지)
+     */
+    public List<InstitutionReviewResponseDto> toInstitutionResponses(List<Review> reviews) {
+        if (reviews.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<Tag>> tags = loadTags(reviewIds(reviews));
+
+        return reviews.stream()
+                .map(review -> InstitutionReviewResponseDto.from(
+                        review,
+                        tags.getOrDefault(review.getId(), List.of()).stream()
+                                .map(Tag::getName)
+                                .toList()))
+                .toList();
+    }
+
+    // ==================== Private Methods ====================
+
+    private static List<Long> reviewIds(List<Review> reviews) {
+        return reviews.stream()
+                .map(Review::getId)
+                .distinct()
+                .toList();
+    }
+
+    private Map<Long, List<Tag>> loadTags(List<Long> reviewIds) {
+        Map<Long, List<Tag>> tags = new HashMap<>();
+        for (ReviewTagMapping mapping : reviewTagMappingRepository.findByReviewIdIn(reviewIds)) {
+            tags.computeIfAbsent(mapping.getReview().getId(), id -> new ArrayList<>())
+                    .add(mapping.getTag());
+        }
+        return tags;
+    }
+
+    private Map<Long, List<String>> loadImageUrls(List<Long> reviewIds) {
+        Map<Long, List<String>> imageUrls = new HashMap<>();
+        List<File> files = fileService.getFilesByReferencesAndCategory(
+                reviewIds,
+                ReferenceType.REVIEW,
+                FileCategory.REVIEW_IMAGE
+        );
+        for (File file : files) {
+            imageUrls.computeIfAbsent(file.getReferenceId(), id -> new ArrayList<>())
+                    .add(file.getFileUrl());
+        }
+        return imageUrls;
+    }
+}
@@ -8,6 +8,7 @@ import com.caring.caringbackend.api.internal.Member.dto.review.response.ReviewRe
 import com.caring.caringbackend.api.internal.institution.dto.response.review.InstitutionReviewResponseDto;
 import com.caring.caringbackend.api.internal.institution.dto.response.review.InstitutionReviewsResponseDto;
 import com.caring.caringbackend.domain.institution.profile.entity.Institution;
+import com.caring.caringbackend.domain.institution.profile.event.InstitutionDetailChangedEvent;
 import com.caring.caringbackend.domain.reservation.entity.Reservation;
 import com.caring.caringbackend.domain.reservation.entity.ReservationStatus;
 import com.caring.caringbackend.domain.reservation.repository.ReservationRepository;
@@ -30,6 +31,7 @@ import com.caring.caringbackend.global.exception.ErrorCode;
 import com.caring.caringbackend.global.exception.MemberNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -61,6 +63,9 @@ public class ReviewService {
     private final TagRepository tagRepository;
     private final ReviewTagMappingRepository reviewTagMappingRepository;
     private final FileService fileService;
+    private final ReviewResponseAssembler reviewResponseAssembler;
+    private final InstitutionRatingSummaryService institutionRatingSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final int MAX_REVIEW_IMAGES = 5;
 
@@ -117,11 +122,14 @@ public class ReviewService {
 
         log.info("리뷰 작성 완료: reviewId={}, memberId={}, institutionId={}, rating={}",
                 savedReview.getId(), memberId, institution.getId(), request.getRating());
+        eventPublisher.publishEvent(new InstitutionDetailChangedEvent(institution.getId()));
 
         // 8. 태그 연결 (ReviewTagMapping 생성)
         if (request.getTagIds() != null && !request.getTagIds().isEmpty()) {
             saveReviewTags(savedReview, request.getTagIds());
         }
+        institutionRatingSummaryService.reviewAdded(
+                institution.getId(), savedReview.getRating(), findReviewTagIds(savedReview.getId()));
 
         // 9. 이미지 업로드 및 저장
         List<String> imageUrls = uploadReviewImages(images, savedReview.getId());
@@ -158,16 +166,8 @@ public class ReviewService {
         Page<Review> reviewPage = reviewRepository.findByMemberIdAndDeletedFalseAndReportedFalseOrderByCreatedAtDesc(
                 memberId, pageable);
 
-        // 3. DTO 변환 (태그 및 이미지 포함)
-        List<ReviewResponse> reviewResponses = reviewPage.getContent().stream()
-                .map(review -> {
-                    List<Tag> tags = reviewTagMappingRepository.findByReviewId(review.getId()).stream()
-                            .map(ReviewTagMapping::getTag)
-                            .collect(Collectors.toList());
-                    List<String> imageUrls = getReviewImageUrls(review.getId());
-                    return ReviewResponse.fromWithTagsAndImages(review, tags, imageUrls);
-                })
-                .collect(Collectors.toList());
+        // 3. DTO 변환 (태그 및 이미지 일괄 조회)
+        List<ReviewResponse> reviewResponses = reviewResponseAssembler.toResponses(reviewPage.getContent());
 
         // 4. 응답 반환
         return ReviewListResponse.of(reviewResponses, reviewPage);
@@ -185,15 +185,8 @@ public class ReviewService {
         Review review = reviewRepository.findByIdAndMemberIdAndDeletedFalse(reviewId, memberId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.REVIEW_NOT_FOUND));
 
-        // 리뷰에 연결된 태그 조회
-        List<Tag> tags = reviewTagMappingRepository.findByReviewId(reviewId).stream()
-                .map(ReviewTagMapping::getTag)
-                .collect(Collectors.toList());
-
-        // 리뷰 이미지 URL 조회
-        List<String> imageUrls = getReviewImageUrls(reviewId);
-
-        return ReviewResponse.fromWithTagsAndImages(review, tags, imageUrls);
+        // 리뷰에 연결된 태그 및 이미지 URL 포함
+        return reviewResponseAssembler.toResponse(review);
     }
 
     /**
@@ -206,15 +199,8 @@ public class ReviewService {
         Review review = reviewRepository.findByIdAndDeletedFalse(reviewId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.REVIEW_NOT_FOUND));
 
-        // 리뷰에 연결된 태그 조회
-        List<Tag> tags = reviewTagMappingRepository.findByReviewId(reviewId).stream()
-                .map(ReviewTagMapping::getTag)
-                .collect(Collectors.toList());
-
-        // 리뷰 이미지 URL 조회
-        List<String> imageUrls = getReviewImageUrls(reviewId);
-
-        return ReviewResponse.fromWithTagsAndImages(review, tags, imageUrls);
+        // 리뷰에 연결된 태그 및 이미지 URL 포함
+        return reviewResponseAssembler.toResponse(review);
     }
 
     /**
@@ -238,17 +224,25 @@ public class ReviewService {
             throw new BusinessException(ErrorCode.REVIEW_EDIT_EXPIRED);
         }
 
-        // 3. 리뷰 내용 및 별점 수정
+        // 3. 리뷰 내용 및 별점 수정 (평점 집계 반영을 위해 이전 별점/태그 보관)
+        int previousRating = review.getRating();
+        List<Long> previousTagIds = findReviewTagIds(reviewId);
         review.updateContent(request.getContent(), request.getRating());
 
         log.info("리뷰 수정 완료: reviewId={}, memberId={}, rating={}",
                 reviewId, memberId, request.getRating());
+        eventPublisher.publishEvent(new InstitutionDetailChangedEvent(review.getInstitution().getId()));
 
         // 4. 태그 업데이트 (기존 태그 삭제 후 재생성)
         reviewTagMappingRepository.deleteByReviewId(reviewId);
         if (request.getTagIds() != null && !request.getTagIds().isEmpty()) {
             saveReviewTags(review, request.getTagIds());
         }
+        // 신고된 리뷰는 이미 집계에서 빠져 있으므로 반영하지 않음
+        if (!review.isReported()) {
+            institutionRatingSummaryService.reviewChanged(review.getInstitution().getId(),
+                    previousRating, previousTagIds, review.getRating(), findReviewTagIds(reviewId));
+        }
 
         // 5. 이미지 업데이트 (기존 이미지 삭제 후 재업로드)
         deleteReviewImages(reviewId);
@@ -275,8 +269,13 @@ public class ReviewService {
 
         // 2. 소프트 삭제 처리
         review.softDelete();
+        if (!review.isReported()) {
+            institutionRatingSummaryService.reviewRemoved(
+                    review.getInstitution().getId(), review.getRating(), findReviewTagIds(reviewId));
+        }
 
         log.info("리뷰 삭제 완료: reviewId={}, memberId={}", reviewId, memberId);
+        eventPublisher.publishEvent(new InstitutionDetailChangedEvent(review.getInstitution().getId()));
     }
 
     /**
@@ -317,11 +316,18 @@ public class ReviewService {
                 .description(request.getDescription())
                 .build();
 
+        // 6. 신고된 리뷰는 목록에서 빠지므로 평점 집계에서도 제외 (첫 신고 시 1회만 반영)
+        if (reviewRepository.markReportedIfNotReported(reviewId) > 0) {
+            institutionRatingSummaryService.reviewRemoved(
+                    review.getInstitution().getId(), review.getRating(), findReviewTagIds(reviewId));
+        }
         review.markReported();
         reviewReportRepository.save(reviewReport);
 
         log.info("리뷰 신고 완료: reportId={}, reviewId={}, reporterId={}, reason={}",
                 reviewReport.getId(), reviewId, memberId, request.getReportReason());
+        // 신고된 리뷰는 기관 상세 리뷰 목록에서 빠지므로 상세 캐시/ETag 무효화
+        eventPublisher.publishEvent(new InstitutionDetailChangedEvent(review.getInstitution().getId()));
     }
 
     /**
@@ -357,6 +363,18 @@ public class ReviewService {
         log.debug("리뷰 태그 저장 완료: reviewId={}, tagCount={}", review.getId(), mappings.size());
     }
 
+    /**
+     * 리뷰에 연결된 태그 ID 목록 조회 헬퍼 메서드
+     *
+     * @param reviewId 리뷰 ID
+     * @return 태그 ID 목록
+     */
+    private List<Long> findReviewTagIds(Long reviewId) {
+        return reviewTagMappingRepository.findByReviewId(reviewId).stream()
+                .map(mapping -> mapping.getTag().getId())
+                .toList();
+    }
+
     /**
      * 리뷰 이미지 업로드 헬퍼 메서드
      *
@@ -389,23 +407,6 @@ public class ReviewService {
         return imageUrls;
     }
 
-    /**
-     * 리뷰 이미지 URL 조회 헬퍼 메서드
-     *
-     * @param reviewId 리뷰 ID
-     * @return 이미지 URL 목록
-     */
-    private List<String> getReviewImageUrls(Long reviewId) {
-        List<File> files = fileService.getFilesByReferenceAndCategory(
-                reviewId,
-                ReferenceType.REVIEW,
-                FileCategory.REVIEW_IMAGE
-        );
-        return files.stream()
-                .map(File::getFileUrl)
-                .collect(Collectors.toList());
-    }
-
     /**
      * 리뷰 이미지 삭제 헬퍼 메서드
      *
@@ -0,0 +1,10 @@
+package com.caring.caringbackend.domain.tag.event;
+
+/**
+ * 태그 정의 변경 이벤트 (생성/수정/비활성화)
+ * - 태그 목록 응답과 태그 이름을 복제해 둔 기관 상세 응답의 버전을 커밋 후 올리도록 알림
+ *
+ * @param tagId 변경된 태그 ID (기동 시 일괄 추가는 null)
+ */
+public record TagChangedEvent(Long tagId) {
+}
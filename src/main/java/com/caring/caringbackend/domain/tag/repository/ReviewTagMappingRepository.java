@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -29,6 +30,15 @@ public interface ReviewTagMappingRepository extends JpaRepository<ReviewTagMappi
     @Query("SELECT rtm FROM ReviewTagMapping rtm JOIN FETCH rtm.tag WHERE rtm.review.id = :reviewId")
     List<ReviewTagMapping> findByReviewId(@Param("reviewId") Long reviewId);
 
+    /**
+     * 여러 리뷰의 태그 매핑 목록 일괄 조회 (목록 응답 조립용)
+     *
+     * @param reviewIds 리뷰 ID 목록
+     * @return 태그 매핑 목록 (태그 포함, 매핑 ID 순)
+     */
+    @Query("SELECT rtm FROM ReviewTagMapping rtm JOIN FETCH rtm.tag WHERE rtm.review.id IN :reviewIds ORDER BY rtm.id")
+    List<ReviewTagMapping> findByReviewIdIn(@Param("reviewIds") Collection<Long> reviewIds);
+
     /**
      * 리뷰 ID로 태그 매핑 삭제 (리뷰 수정 시 사용)
      *
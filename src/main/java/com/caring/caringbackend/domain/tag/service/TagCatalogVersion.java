@@ -0,0 +1,47 @@
+package com.caring.caringbackend.domain.tag.service;
+
+import com.caring.caringbackend.domain.tag.event.TagChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+
+/**
+ * 태그 목록 버전 (Redis 카운터)
+ * - 태그 정의가 변경될 때마다 커밋 후 증가, 공개 태그 목록 ETag로 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagCatalogVersion {
+
+    private static final String VERSION_KEY = "tag:version";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 현재 버전 (Redis 장애 시 empty)
+     */
+    public Optional<String> current() {
+        try {
+            String version = stringRedisTemplate.opsForValue().get(VERSION_KEY);
+            return Optional.of(version != null ? version : "0");
+        } catch (Exception e) {
+            log.warn("태그 목록 버전 조회 실패", e);
+            return Optional.empty();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTagChanged(TagChangedEvent event) {
+        try {
+            stringRedisTemplate.opsForValue().increment(VERSION_KEY);
+        } catch (Exception e) {
+            log.warn("태그 목록 버전 증가 실패: tagId={}", event.tagId(), e);
+        }
+    }
+}
@@ -4,15 +4,19 @@ import com.caring.caringbackend.api.internal.admin.dto.request.TagCreateRequest;
 import com.caring.caringbackend.api.internal.admin.dto.request.TagUpdateRequest;
 import com.caring.caringbackend.domain.tag.entity.Tag;
 import com.caring.caringbackend.domain.tag.entity.TagCategory;
+import com.caring.caringbackend.domain.tag.event.TagChangedEvent;
 import com.caring.caringbackend.domain.tag.repository.TagRepository;
 import com.caring.caringbackend.global.exception.BusinessException;
 import com.caring.caringbackend.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Tag 비즈니스 로직을 처리하는 서비스
@@ -27,6 +31,8 @@ import java.util.List;
 public class TagService {
 
     private final TagRepository tagRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TagCatalogVersion tagCatalogVersion;
 
     /**
      * 전체 활성화된 태그 목록 조회
@@ -38,6 +44,16 @@ public class TagService {
         return tagRepository.findByIsActiveTrueOrderByCategoryAscDisplayOrderAsc();
     }
 
+    /**
+     * 태그 목록 버전 (공개 태그 목록 ETag용, DB 접근 없음)
+     *
+     * @return 버전 (Redis 장애 시 empty)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<String> getCatalogVersion() {
+        return tagCatalogVersion.current();
+    }
+
     /**
      * 카테고리별 활성화된 태그 목록 조회
      *
@@ -73,6 +89,7 @@ public class TagService {
         
         Tag savedTag = tagRepository.save(tag);
         log.info("태그 생성 완료: tagId={}, code={}, name={}", savedTag.getId(), savedTag.getCode(), savedTag.getName());
+        eventPublisher.publishEvent(new TagChangedEvent(savedTag.getId()));
         return savedTag;
     }
     
@@ -96,6 +113,7 @@ public class TagService {
         );
         
         log.info("태그 수정 완료: tagId={}, name={}", tagId, tag.getName());
+        eventPublisher.publishEvent(new TagChangedEvent(tagId));
         return tag;
     }
     
@@ -113,6 +131,7 @@ public class TagService {
         tag.updateInfo(null, null, false, null);
         
         log.info("태그 비활성화 완료: tagId={}, code={}", tagId, tag.getCode());
+        eventPublisher.publishEvent(new TagChangedEvent(tagId));
     }
 }
 
@@ -9,6 +9,8 @@ import com.caring.caringbackend.api.internal.Member.dto.member.response.MemberLi
 import com.caring.caringbackend.api.internal.Member.dto.member.response.MemberMyPageResponse;
 import com.caring.caringbackend.api.internal.Member.dto.member.response.MemberResponse;
 import com.caring.caringbackend.api.internal.Member.dto.member.response.MemberStatisticsResponse;
+import com.caring.caringbackend.domain.chat.entity.SenderType;
+import com.caring.caringbackend.domain.chat.service.ChatRoomAccessCache;
 import com.caring.caringbackend.domain.tag.entity.MemberPreferenceTag;
 import com.caring.caringbackend.domain.tag.entity.Tag;
 import com.caring.caringbackend.domain.tag.repository.MemberPreferenceTagRepository;
@@ -57,6 +59,7 @@ public class MemberService {
     private final ReservationRepository reservationRepository;
     private final TagRepository tagRepository;
     private final MemberPreferenceTagRepository memberPreferenceTagRepository;
+    private final ChatRoomAccessCache chatRoomAccessCache;
 
     /**
      * 회원 단건 조회
@@ -157,6 +160,9 @@ public class MemberService {
 
         // 3) 소프트 삭제
         member.softDelete();
+
+        // 4) 탈퇴 회원의 채팅방 접근 권한 캐시 무효화 (커밋 후)
+        chatRoomAccessCache.invalidatePrincipal(SenderType.MEMBER, memberId);
     }
 
     /**
@@ -1,10 +1,12 @@
 package com.caring.caringbackend.global.config;
 
 import com.caring.caringbackend.domain.tag.entity.*;
+import com.caring.caringbackend.domain.tag.event.TagChangedEvent;
 import com.caring.caringbackend.domain.tag.repository.TagRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +28,7 @@ import java.util.List;
 public class TagInitializer implements CommandLineRunner {
 
     private final TagRepository tagRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -117,6 +120,7 @@ public class TagInitializer implements CommandLineRunner {
         // 일괄 저장
         if (!tagsToSave.isEmpty()) {
             tagRepository.saveAll(tagsToSave);
+            eventPublisher.publishEvent(new TagChangedEvent(null));
             log.info("태그 {} 개 초기화 완료", tagsToSave.size());
         } else {
             log.info("이미 모든 태그가 초기화되어 있습니다.");
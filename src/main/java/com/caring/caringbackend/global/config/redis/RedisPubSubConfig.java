@@ -0,0 +1,29 @@
+package com.caring.caringbackend.global.config.redis;
+
+import com.caring.caringbackend.domain.chat.service.ChatMessageRelay;
+import com.caring.caringbackend.domain.institution.profile.service.search.InstitutionIndexRelay;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 📡 Redis Pub/Sub 설정
+ *
+ * 여러 애플리케이션 노드 간 채팅 메시지 / 기관 변경 중계용 리스너 컨테이너
+ */
+@Configuration
+public class RedisPubSubConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory redisConnectionFactory, ChatMessageRelay chatMessageRelay,
+            InstitutionIndexRelay institutionIndexRelay) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(chatMessageRelay, new ChannelTopic(ChatMessageRelay.CHANNEL));
+        container.addMessageListener(institutionIndexRelay, new ChannelTopic(InstitutionIndexRelay.CHANNEL));
+        return container;
+    }
+}
@@ -65,6 +65,7 @@ public enum ErrorCode {
     INSTITUTION_INVITATION_ALREADY_EXIST(HttpStatus.CONFLICT, "INST-017", "이미 초대한 유저입니다."),
     INSTITUTION_INVITATION_ALREADY_SOLVED(HttpStatus.CONFLICT, "INST-018", "이미 처리한 초대입니다."),
     INSTITUTION_INVITATION_USERNAME_NOT_FOUND(HttpStatus.NOT_FOUND, "INST-019", "해당 아이디로 유저를 찾을 수 없습니다."),
+    INVALID_INSTITUTION_CURSOR(HttpStatus.BAD_REQUEST, "INST-020", "유효하지 않은 기관 목록 커서입니다"),
 
     // 📋 Care Domain Errors (CARE-xxx)
     CARE_REQUEST_NOT_FOUND(HttpStatus.NOT_FOUND, "CARE-001", "케어 요청을 찾을 수 없습니다"),
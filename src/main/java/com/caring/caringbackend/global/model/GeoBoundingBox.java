@@ -0,0 +1,39 @@
+package com.caring.caringbackend.global.model;
+
+/**
+ * 위경도 사각 범위 (반경 검색 사전 필터용)
+ * <p>
+ * 중심점에서 반경 radiusKm 원을 감싸는 최소 사각형입니다.
+ * (latitude, longitude) 인덱스로 후보를 좁힌 뒤 정확한 거리로 다시 거릅니다.
+ */
+public record GeoBoundingBox(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+
+    private static final double KM_PER_LATITUDE_DEGREE = 111.045;
+
+    /**
+     * 중심점과 반경으로 사각 범위 계산
+     * - 극지방 근처(cos(lat) ≈ 0)에서는 경도 범위를 전체로 확장
+     *
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param radiusKm 반경 (km)
+     */
+    public static GeoBoundingBox around(double latitude, double longitude, double radiusKm) {
+        double latitudeDelta = radiusKm / KM_PER_LATITUDE_DEGREE;
+        double cosLatitude = Math.cos(Math.toRadians(latitude));
+        double longitudeDelta = cosLatitude < 1e-6
+                ? 180.0
+                : Math.min(180.0, radiusKm / (KM_PER_LATITUDE_DEGREE * cosLatitude));
+
+        return new GeoBoundingBox(
+                Math.max(-90.0, latitude - latitudeDelta),
+                Math.min(90.0, latitude + latitudeDelta),
+                Math.max(-180.0, longitude - longitudeDelta),
+                Math.min(180.0, longitude + longitudeDelta));
+    }
+
+    public boolean contains(double latitude, double longitude) {
+        return latitude >= minLatitude && latitude <= maxLatitude
+                && longitude >= minLongitude && longitude <= maxLongitude;
+    }
+}
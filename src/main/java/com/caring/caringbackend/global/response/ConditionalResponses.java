@@ -0,0 +1,65 @@
+package com.caring.caringbackend.global.response;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 조건부 GET (ETag / If-None-Match) 응답 생성
+ * <p>
+ * ETag는 응답 본문이 아니라 데이터 버전(변경 카운터, 집계값)으로 만들기 때문에
+ * 변경이 없으면 본문 조회/직렬화 없이 304를 반환합니다.
+ * - 공개 카탈로그 응답은 저장은 허용하되 매번 재검증 (Cache-Control: no-cache, public)
+ * - 버전을 확인할 수 없으면 (Redis 장애 등) ETag 없이 일반 응답
+ */
+public final class ConditionalResponses {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePublic();
+
+    private ConditionalResponses() {
+    }
+
+    /**
+     * @param request 요청 (If-None-Match 확인용)
+     * @param version 응답 버전 (URL별로 구분되므로 같은 URL의 본문이 바뀔 때만 달라지면 됨)
+     * @param body 본문 생성 (304가 아닐 때만 호출)
+     */
+    public static <T> ResponseEntity<T> ok(WebRequest request, Optional<String> version, Supplier<T> body) {
+        if (version.isEmpty()) {
+            return ResponseEntity.ok(body.get());
+        }
+
+        String etag = "\"" + version.get() + "\"";
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(REVALIDATE)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(REVALIDATE)
+                .body(body.get());
+    }
+
+    /**
+     * If-None-Match 비교 (RFC 9110: 약한 비교, 목록/와일드카드 허용)
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(etag) || value.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -3,6 +3,7 @@ package com.caring.caringbackend.global.security.config;
 import com.caring.caringbackend.global.security.exception.JwtAccessDeniedHandler;
 import com.caring.caringbackend.global.security.exception.JwtAuthenticationEntryPoint;
 import com.caring.caringbackend.global.security.filter.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -73,6 +74,11 @@ public class SecurityConfig {
 
         http
                 .authorizeHttpRequests((requests) -> requests
+                        // ========================================
+                        // 0. 비동기 디스패치 (롱 폴링 응답 재전송, 최초 요청에서 이미 인가됨)
+                        // ========================================
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // ========================================
                         // 1. Swagger 및 API 문서 (공개)
                         // ========================================
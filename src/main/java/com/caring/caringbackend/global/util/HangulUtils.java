@@ -0,0 +1,94 @@
+package com.caring.caringbackend.global.util;
+
+/**
+ * 한글 자모 분해 유틸리티 (자동완성용)
+ * <p>
+ * 완성형 음절을 초성/중성/종성 호환 자모로 풀어 씁니다. 겹모음과 겹받침도 기본 자모로 풀어
+ * 입력 중인 글자("서우" → "서울", "오" → "와")가 접두사로 일치하도록 합니다.
+ */
+public final class HangulUtils {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int MEDIAL_COUNT = 21;
+    private static final int FINAL_COUNT = 28;
+
+    private static final String[] INITIALS = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private static final String[] MEDIALS = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ",
+            "ㅣ"
+    };
+
+    private static final String[] FINALS = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private HangulUtils() {
+    }
+
+    /**
+     * 자모 분해 (한글 음절 외 문자는 그대로)
+     *
+     * @param text 원문
+     * @return 자모 분해 문자열
+     */
+    public static String decompose(String text) {
+        StringBuilder builder = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!isSyllable(c)) {
+                builder.append(c);
+                continue;
+            }
+            int offset = c - SYLLABLE_BEGIN;
+            builder.append(INITIALS[offset / (MEDIAL_COUNT * FINAL_COUNT)])
+                    .append(MEDIALS[(offset % (MEDIAL_COUNT * FINAL_COUNT)) / FINAL_COUNT])
+                    .append(FINALS[offset % FINAL_COUNT]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 초성 추출 (한글 음절 외 문자는 그대로)
+     *
+     * @param text 원문
+     * @return 초성 문자열 (예: "서울요양원" → "ㅅㅇㅇㅇㅇ")
+     */
+    public static String initials(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            builder.append(isSyllable(c)
+                    ? INITIALS[(c - SYLLABLE_BEGIN) / (MEDIAL_COUNT * FINAL_COUNT)]
+                    : String.valueOf(c));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 초성(자음)만으로 이루어진 검색어인지 확인
+     */
+    public static boolean isInitialsOnly(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 'ㄱ' || c > 'ㅎ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+}
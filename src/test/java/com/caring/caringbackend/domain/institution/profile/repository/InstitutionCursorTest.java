@@ -0,0 +1,113 @@
+package com.caring.caringbackend.domain.institution.profile.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.caring.caringbackend.domain.institution.profile.entity.ApprovalStatus;
+import com.caring.caringbackend.domain.institution.profile.entity.InstitutionType;
+import com.caring.caringbackend.global.exception.BusinessException;
+import com.caring.caringbackend.global.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class InstitutionCursorTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_456_000);
+
+    @ParameterizedTest
+    @EnumSource(InstitutionCursorSort.class)
+    @DisplayName("마지막 기관으로 만든 커서는 인코딩 후 같은 정렬로 해석하면 그대로 복원된다")
+    void encodeDecode_roundTrip(InstitutionCursorSort sort) {
+        InstitutionCursor cursor = InstitutionCursor.after(sort, card(42L, "서울요양원", 350_000));
+
+        InstitutionCursor decoded = InstitutionCursor.decode(cursor.encode(), sort);
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.id()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("등록순 커서는 등록 시각을 나노초까지 복원한다")
+    void decode_createdAt() {
+        InstitutionCursor cursor = InstitutionCursor.after(InstitutionCursorSort.CREATED_AT_DESC,
+                card(1L, "서울요양원", null));
+
+        assertThat(InstitutionCursor.decode(cursor.encode(), InstitutionCursorSort.CREATED_AT_DESC).createdAt())
+                .isEqualTo(CREATED_AT);
+    }
+
+    @Test
+    @DisplayName("요금 미등록 기관의 요금순 커서는 정렬 키 없이 복원된다")
+    void decode_feeWithoutSortKey() {
+        InstitutionCursor cursor = InstitutionCursor.after(InstitutionCursorSort.MONTHLY_BASE_FEE_ASC,
+                card(7L, "서울요양원", null));
+
+        InstitutionCursor decoded = InstitutionCursor.decode(cursor.encode(), InstitutionCursorSort.MONTHLY_BASE_FEE_ASC);
+
+        assertThat(decoded.sortKey()).isNull();
+        assertThat(decoded.monthlyBaseFee()).isNull();
+    }
+
+    @Test
+    @DisplayName("구분자가 포함된 이름도 이름순 커서로 복원된다")
+    void decode_nameContainingDelimiter() {
+        InstitutionCursor cursor = InstitutionCursor.after(InstitutionCursorSort.NAME_ASC,
+                card(3L, "서울\n요양원", null));
+
+        assertThat(InstitutionCursor.decode(cursor.encode(), InstitutionCursorSort.NAME_ASC).sortKey())
+                .isEqualTo("서울\n요양원");
+    }
+
+    @Test
+    @DisplayName("다른 정렬로 만든 커서는 거부한다")
+    void decode_rejectsMismatchedSort() {
+        String token = InstitutionCursor.after(InstitutionCursorSort.NAME_ASC, card(1L, "서울요양원", 100))
+                .encode();
+
+        assertInvalid(token, InstitutionCursorSort.CREATED_AT_DESC);
+        assertInvalid(token, InstitutionCursorSort.MONTHLY_BASE_FEE_ASC);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "%%%", "bm90LWEtY3Vyc29y", "Q1JFQVRFRF9BVF9ERVNDCjEK"})
+    @DisplayName("Base64가 아니거나 형식이 맞지 않는 커서는 거부한다")
+    void decode_rejectsMalformed(String token) {
+        assertInvalid(token, InstitutionCursorSort.CREATED_AT_DESC);
+    }
+
+    @Test
+    @DisplayName("변조된 커서(알 수 없는 정렬, 숫자가 아닌 ID, 잘못된 정렬 키)는 거부한다")
+    void decode_rejectsTampered() {
+        assertInvalid(raw("UNKNOWN_SORT\n1\n서울요양원"), InstitutionCursorSort.NAME_ASC);
+        assertInvalid(raw("NAME_ASC\nabc\n서울요양원"), InstitutionCursorSort.NAME_ASC);
+        assertInvalid(raw("NAME_ASC\n1\n"), InstitutionCursorSort.NAME_ASC);
+        assertInvalid(raw("CREATED_AT_DESC\n1\n2024-13-45T99:00:00"), InstitutionCursorSort.CREATED_AT_DESC);
+        assertInvalid(raw("CREATED_AT_DESC\n1\n"), InstitutionCursorSort.CREATED_AT_DESC);
+        assertInvalid(raw("MONTHLY_BASE_FEE_ASC\n1\n십만원"), InstitutionCursorSort.MONTHLY_BASE_FEE_ASC);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static void assertInvalid(String token, InstitutionCursorSort sort) {
+        assertThatThrownBy(() -> InstitutionCursor.decode(token, sort))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INSTITUTION_CURSOR);
+    }
+
+    private static String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static InstitutionCard card(Long id, String name, Integer monthlyBaseFee) {
+        return new InstitutionCard(id, name, InstitutionType.NURSING_HOME, null, "021234567",
+                ApprovalStatus.APPROVED, true, 30, "서울시", "강남대로", "06100", 37.4, 127.1,
+                monthlyBaseFee, CREATED_AT, 0L, 0L);
+    }
+}
@@ -0,0 +1,175 @@
+package com.caring.caringbackend.domain.institution.profile.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.caring.caringbackend.api.internal.institution.dto.request.InstitutionSearchFilter;
+import com.caring.caringbackend.domain.institution.profile.entity.InstitutionType;
+import com.caring.caringbackend.domain.institution.profile.repository.InstitutionRepository;
+import com.caring.caringbackend.domain.institution.profile.repository.InstitutionSearchDocument;
+import com.caring.caringbackend.domain.institution.profile.service.search.InstitutionSearchPlan.AccessPath;
+import com.caring.caringbackend.domain.tag.repository.InstitutionTagRepository;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+class InstitutionSearchIndexTest {
+
+    // GeoPoint.distanceKm의 지구 반지름(6371km) 기준 위도 1도 거리
+    private static final double KM_PER_DEGREE = 6371.0 * Math.PI / 180.0;
+
+    private static final double CENTER_LATITUDE = 37.5;
+    private static final double CENTER_LONGITUDE = 127.0;
+
+    private final InstitutionRepository institutionRepository = mock(InstitutionRepository.class);
+    private final InstitutionTagRepository institutionTagRepository = mock(InstitutionTagRepository.class);
+
+    @Test
+    @DisplayName("반경 바로 안쪽 기관은 포함하고 바로 바깥쪽 기관은 제외한다")
+    void searchWithinRadius_boundary() {
+        InstitutionSearchIndex index = indexOf(
+                document(1L, north(CENTER_LATITUDE, 0.99), CENTER_LONGITUDE),
+                document(2L, north(CENTER_LATITUDE, 1.01), CENTER_LONGITUDE),
+                document(3L, CENTER_LATITUDE, east(CENTER_LATITUDE, CENTER_LONGITUDE, 0.99)),
+                document(4L, CENTER_LATITUDE, east(CENTER_LATITUDE, CENTER_LONGITUDE, 1.01)));
+
+        assertThat(searchIds(index, CENTER_LATITUDE, CENTER_LONGITUDE, 1.0)).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("사각 범위 모서리에 있지만 원 밖인 기관은 제외한다")
+    void searchWithinRadius_excludesBoundingBoxCorner() {
+        // 북동쪽으로 각 0.8km: 사각 범위(반경 1km) 안, 실제 거리 약 1.13km
+        double latitude = north(CENTER_LATITUDE, 0.8);
+        InstitutionSearchIndex index = indexOf(
+                document(1L, latitude, east(CENTER_LATITUDE, CENTER_LONGITUDE, 0.8)));
+
+        assertThat(searchIds(index, CENTER_LATITUDE, CENTER_LONGITUDE, 1.0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("중심과 다른 격자 셀에 있는 기관도 반경 안이면 포함한다")
+    void searchWithinRadius_acrossCellBoundary() {
+        // 격자 경계(위도 37.5, 경도 127.0) 바로 남서쪽 중심, 북쪽/동쪽 이웃 셀의 기관
+        double centerLatitude = 37.499;
+        double centerLongitude = 126.999;
+        InstitutionSearchIndex index = indexOf(
+                document(1L, 37.504, centerLongitude),
+                document(2L, centerLatitude, 127.004),
+                document(3L, 37.494, 126.994));
+
+        assertThat(searchIds(index, centerLatitude, centerLongitude, 1.0)).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("반경 0이면 중심과 같은 위치의 기관만 거리순, 같은 거리는 ID순으로 반환한다")
+    void searchWithinRadius_zeroRadius() {
+        InstitutionSearchIndex index = indexOf(
+                document(2L, CENTER_LATITUDE, CENTER_LONGITUDE),
+                document(1L, CENTER_LATITUDE, CENTER_LONGITUDE),
+                document(3L, north(CENTER_LATITUDE, 0.001), CENTER_LONGITUDE));
+
+        assertThat(searchIds(index, CENTER_LATITUDE, CENTER_LONGITUDE, 0.0)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("위치 정보가 없는 기관은 반경 검색에서 제외한다")
+    void searchWithinRadius_excludesWithoutLocation() {
+        InstitutionSearchIndex index = indexOf(
+                document(1L, null, null),
+                document(2L, CENTER_LATITUDE, CENTER_LONGITUDE));
+
+        assertThat(searchIds(index, CENTER_LATITUDE, CENTER_LONGITUDE, 1.0)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("격자 셀 수가 기관 수보다 많은 넓은 반경도 전체 순회로 같은 결과를 반환한다")
+    void searchWithinRadius_wideRadius() {
+        InstitutionSearchIndex index = indexOf(
+                document(1L, north(CENTER_LATITUDE, 99.0), CENTER_LONGITUDE),
+                document(2L, north(CENTER_LATITUDE, 101.0), CENTER_LONGITUDE));
+
+        assertThat(searchIds(index, CENTER_LATITUDE, CENTER_LONGITUDE, 100.0)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("요청 태그를 모두 보유한 기관만 반환한다")
+    void searchWithTags_allTags() {
+        InstitutionSearchIndex index = taggedIndex();
+
+        assertThat(searchIdsWithTags(index, List.of(1L, 2L))).containsExactly(1L);
+        assertThat(searchIdsWithTags(index, List.of(1L))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(searchIdsWithTags(index, Arrays.asList(2L, null))).containsExactly(1L);
+        assertThat(index.countWithAllTags(List.of(1L, 2L))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("인덱스에 없는 태그 ID(음수, 매우 큰 값 포함)가 하나라도 있으면 결과가 없다")
+    void searchWithTags_unknownTagIds() {
+        InstitutionSearchIndex index = taggedIndex();
+
+        assertThat(searchIdsWithTags(index, List.of(1L, 999L))).isEmpty();
+        assertThat(searchIdsWithTags(index, List.of(-5L))).isEmpty();
+        assertThat(searchIdsWithTags(index, List.of(1L, 10_000_000_000L))).isEmpty();
+        assertThat(index.countWithAllTags(List.of(1L, 999L))).isZero();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private InstitutionSearchIndex indexOf(InstitutionSearchDocument... documents) {
+        return indexOf(Map.of(), documents);
+    }
+
+    private InstitutionSearchIndex indexOf(Map<Long, Set<Long>> tagIds, InstitutionSearchDocument... documents) {
+        given(institutionRepository.findAllSearchDocuments()).willReturn(List.of(documents));
+        given(institutionRepository.findAllSearchTagIds()).willReturn(tagIds);
+        InstitutionSearchIndex index = new InstitutionSearchIndex(institutionRepository,
+                new InstitutionNameIndex(), new InstitutionSuggestIndex(), institutionTagRepository);
+        index.initialize();
+        return index;
+    }
+
+    private static List<Long> searchIds(InstitutionSearchIndex index, double latitude, double longitude,
+                                        double radiusKm) {
+        InstitutionSearchFilter filter = InstitutionSearchFilter.builder()
+                .latitude(latitude)
+                .longitude(longitude)
+                .radiusKm(radiusKm)
+                .build();
+        return index.search(AccessPath.GEO_GRID, filter, PageRequest.of(0, 20)).getContent();
+    }
+
+    /**
+     * 기관 1: 태그 {1, 2}, 기관 2: 태그 {1}, 기관 3: 태그 없음
+     */
+    private InstitutionSearchIndex taggedIndex() {
+        return indexOf(Map.of(1L, Set.of(1L, 2L), 2L, Set.of(1L)),
+                document(1L, CENTER_LATITUDE, CENTER_LONGITUDE),
+                document(2L, CENTER_LATITUDE, CENTER_LONGITUDE),
+                document(3L, CENTER_LATITUDE, CENTER_LONGITUDE));
+    }
+
+    private static List<Long> searchIdsWithTags(InstitutionSearchIndex index, List<Long> tagIds) {
+        InstitutionSearchFilter filter = InstitutionSearchFilter.builder().tagIds(tagIds).build();
+        return index.search(AccessPath.TAG_BITMAP, filter, PageRequest.of(0, 20)).getContent();
+    }
+
+    private static InstitutionSearchDocument document(Long id, Double latitude, Double longitude) {
+        return new InstitutionSearchDocument(id, "테스트요양원" + id, InstitutionType.NURSING_HOME, true, "서울시",
+                null, null, LocalDateTime.of(2024, 1, 1, 0, 0), latitude, longitude);
+    }
+
+    private static double north(double latitude, double km) {
+        return latitude + km / KM_PER_DEGREE;
+    }
+
+    private static double east(double latitude, double longitude, double km) {
+        return longitude + km / (KM_PER_DEGREE * Math.cos(Math.toRadians(latitude)));
+    }
+}
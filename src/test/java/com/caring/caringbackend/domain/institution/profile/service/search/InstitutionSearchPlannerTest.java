@@ -0,0 +1,177 @@
+package com.caring.caringbackend.domain.institution.profile.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.caring.caringbackend.IntegrationTestBase;
+import com.caring.caringbackend.api.internal.institution.dto.request.InstitutionSearchFilter;
+import com.caring.caringbackend.domain.institution.profile.entity.Institution;
+import com.caring.caringbackend.domain.institution.profile.entity.InstitutionType;
+import com.caring.caringbackend.domain.institution.profile.entity.PriceInfo;
+import com.caring.caringbackend.domain.institution.profile.repository.InstitutionCard;
+import com.caring.caringbackend.domain.institution.profile.repository.InstitutionRepository;
+import com.caring.caringbackend.domain.institution.profile.service.search.InstitutionSearchPlan.AccessPath;
+import com.caring.caringbackend.global.model.Address;
+import com.caring.caringbackend.global.model.GeoPoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+class InstitutionSearchPlannerTest extends IntegrationTestBase {
+
+    private static final AtomicLong INSTITUTION_CODE_SEQUENCE = new AtomicLong(90_000_000_000L);
+
+    @Autowired
+    private InstitutionSearchPlanner institutionSearchPlanner;
+
+    @Autowired
+    private InstitutionSearchIndex institutionSearchIndex;
+
+    @Autowired
+    private InstitutionRepository institutionRepository;
+
+    private final List<Long> institutionIds = new ArrayList<>();
+    private String keyword;
+
+    @BeforeEach
+    void setUp() {
+        keyword = "패리티" + INSTITUTION_CODE_SEQUENCE.incrementAndGet();
+        List<Institution> institutions = institutionRepository.saveAllAndFlush(List.of(
+                institution("가", InstitutionType.NURSING_HOME, 100, 30, true, new GeoPoint(37.40, 127.10)),
+                institution("나", InstitutionType.NURSING_HOME, 200, 10, false, new GeoPoint(37.41, 127.10)),
+                institution("다", InstitutionType.DAY_CARE_CENTER, 100, 20, true, new GeoPoint(37.42, 127.10)),
+                institution("라", InstitutionType.NURSING_HOME, null, 20, true, new GeoPoint(37.40, 127.12)),
+                institution("마", InstitutionType.HOME_CARE_SERVICE, 300, null, true, new GeoPoint(37.60, 127.10))));
+
+        // 테스트 트랜잭션 안에서 인덱스에 반영 (롤백 후에는 cleanUp에서 제거)
+        assertThat(institutionSearchIndex.isReady()).isTrue();
+        institutions.forEach(institution -> {
+            institutionIds.add(institution.getId());
+            institutionSearchIndex.refresh(institution.getId());
+        });
+    }
+
+    @AfterTransaction
+    void cleanUp() {
+        institutionIds.forEach(institutionSearchIndex::refresh);
+    }
+
+    @Test
+    @DisplayName("같은 조건이면 인메모리 검색과 DB 검색의 결과와 순서가 같다 (요금 정렬, NULL 마지막)")
+    void search_inMemoryMatchesDatabase_feeSort() {
+        InstitutionSearchFilter filter = InstitutionSearchFilter.builder().name(keyword).build();
+        Sort sort = Sort.by(Sort.Order.asc("monthlyBaseFee"), Sort.Order.asc("id"));
+
+        for (int page = 0; page < 3; page++) {
+            assertParity(filter, PageRequest.of(page, 2, sort));
+        }
+    }
+
+    @Test
+    @DisplayName("유형/요금 상한 조건과 병상 수 내림차순에서도 인메모리 검색과 DB 검색이 같다")
+    void search_inMemoryMatchesDatabase_typeAndFee() {
+        InstitutionSearchFilter filter = InstitutionSearchFilter.builder()
+                .name(keyword)
+                .institutionType(InstitutionType.NURSING_HOME)
+                .maxMonthlyFee(200)
+                .build();
+
+        assertParity(filter, PageRequest.of(0, 10, Sort.by(Sort.Order.desc("bedCount"), Sort.Order.asc("id"))));
+    }
+
+    @Test
+    @DisplayName("입소 가능 여부/도시 조건과 등록순 정렬에서도 인메모리 검색과 DB 검색이 같다")
+    void search_inMemoryMatchesDatabase_admissionAndCity() {
+        InstitutionSearchFilter filter = InstitutionSearchFilter.builder()
+                .name(keyword)
+                .isAdmissionAvailable(true)
+                .city("서울")
+                .build();
+
+        assertParity(filter, PageRequest.of(0, 10, Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"))));
+    }
+
+    @Test
+    @DisplayName("반경 검색은 인메모리 격자와 DB 사각 범위 검색의 결과와 거리 순서가 같다")
+    void search_inMemoryMatchesDatabase_radius() {
+        InstitutionSearchFilter filter = InstitutionSearchFilter.builder()
+                .name(keyword)
+                .latitude(37.40)
+                .longitude(127.10)
+                .radiusKm(5.0)
+                .build();
+        Pageable pageable = PageRequest.of(0, 10);
+
+        InstitutionSearchPlan plan = institutionSearchPlanner.plan(filter, pageable);
+        assertThat(plan.accessPath().isInMemory()).isTrue();
+
+        Page<Long> inMemory = institutionSearchIndex.search(plan.accessPath(), filter, pageable);
+        Page<InstitutionCard> database = institutionRepository.searchWithinRadius(filter, pageable);
+
+        assertThat(inMemory.getContent()).containsExactlyElementsOf(ids(database));
+        assertThat(inMemory.getContent()).hasSize(4);
+        assertThat(inMemory.getTotalElements()).isEqualTo(database.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("이름 정렬은 DB 콜레이션을 따르도록 DB 검색으로 계획한다")
+    void plan_nameSortUsesDatabase() {
+        InstitutionSearchFilter filter = InstitutionSearchFilter.builder().name(keyword).build();
+
+        InstitutionSearchPlan plan = institutionSearchPlanner.plan(filter, PageRequest.of(0, 10, Sort.by("name")));
+
+        assertThat(plan.accessPath()).isEqualTo(AccessPath.DB_FILTER);
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * 계획된 인메모리 경로와 전체 순회 모두 DB 검색과 같은 페이지를 반환하는지 확인
+     */
+    private void assertParity(InstitutionSearchFilter filter, Pageable pageable) {
+        InstitutionSearchPlan plan = institutionSearchPlanner.plan(filter, pageable);
+        assertThat(plan.accessPath().isInMemory()).isTrue();
+
+        Page<InstitutionCard> database = institutionRepository.searchWithQueryDsl(filter, pageable);
+        for (AccessPath accessPath : List.of(plan.accessPath(), AccessPath.FULL_SCAN)) {
+            Page<Long> inMemory = institutionSearchIndex.search(accessPath, filter, pageable);
+
+            assertThat(inMemory.getContent()).as("%s, %s", accessPath, pageable)
+                    .containsExactlyElementsOf(ids(database));
+            assertThat(inMemory.getTotalElements()).as("%s, %s", accessPath, pageable)
+                    .isEqualTo(database.getTotalElements());
+        }
+    }
+
+    private static List<Long> ids(Page<InstitutionCard> page) {
+        return page.getContent().stream().map(InstitutionCard::id).toList();
+    }
+
+    private Institution institution(String suffix, InstitutionType institutionType, Integer monthlyBaseFee,
+                                    Integer bedCount, boolean isAdmissionAvailable, GeoPoint location) {
+        Institution institution = Institution.createInstitution(
+                keyword + "요양원" + suffix,
+                institutionType,
+                INSTITUTION_CODE_SEQUENCE.incrementAndGet(),
+                "021234567",
+                new Address("서울시", "강남대로", "06100"),
+                location,
+                "123-45-67890",
+                "http://example.com/license.jpg"
+        );
+        institution.updateInstitution(null, null, null, null, bedCount, isAdmissionAvailable,
+                PriceInfo.builder().monthlyBaseFee(monthlyBaseFee).build(), null, null, null);
+        institution.approveInstitution();
+        return institution;
+    }
+}
@@ -0,0 +1,66 @@
+package com.caring.caringbackend.domain.institution.profile.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.caring.caringbackend.domain.institution.profile.entity.InstitutionType;
+import com.caring.caringbackend.domain.institution.profile.repository.InstitutionSearchDocument;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InstitutionSuggestIndexTest {
+
+    private final InstitutionSuggestIndex institutionSuggestIndex = new InstitutionSuggestIndex();
+
+    @BeforeEach
+    void setUp() {
+        institutionSuggestIndex.put(document(1L, "서울요양원", "서울시"));
+        institutionSuggestIndex.put(document(2L, "행복 서울요양원", "부산시"));
+        institutionSuggestIndex.put(document(3L, "와룡데이케어", "대구시"));
+    }
+
+    @Test
+    @DisplayName("초성 검색어는 이름 시작, 단어 시작 순으로 일치한다")
+    void suggest_initials() {
+        assertThat(suggestedIds("ㅅㅇ")).containsExactly(1L, 2L);
+        assertThat(suggestedIds("ㅎㅂ")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("입력 중인 글자(받침/겹모음 미완성)도 접두사로 일치한다")
+    void suggest_partialSyllable() {
+        assertThat(suggestedIds("서우")).containsExactly(1L, 2L);
+        assertThat(suggestedIds("오")).containsExactly(3L);
+        assertThat(suggestedIds("설")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("도시 일치는 이름 일치 뒤에 오고, 공백은 무시한다")
+    void suggest_cityAndWhitespace() {
+        assertThat(suggestedIds("부사")).containsExactly(2L);
+        assertThat(suggestedIds("서울 요")).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("제거된 기관은 후보에서 빠진다")
+    void suggest_afterRemove() {
+        institutionSuggestIndex.remove(1L);
+
+        assertThat(suggestedIds("ㅅㅇ")).containsExactly(2L);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private List<Long> suggestedIds(String query) {
+        return institutionSuggestIndex.suggest(query, 10).stream()
+                .map(InstitutionSuggestion::id)
+                .toList();
+    }
+
+    private static InstitutionSearchDocument document(Long id, String name, String city) {
+        return new InstitutionSearchDocument(id, name, InstitutionType.NURSING_HOME, true, city,
+                null, null, LocalDateTime.of(2024, 1, 1, 0, 0), null, null);
+    }
+}
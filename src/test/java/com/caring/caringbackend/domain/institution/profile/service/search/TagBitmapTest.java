@@ -0,0 +1,67 @@
+package com.caring.caringbackend.domain.institution.profile.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TagBitmapTest {
+
+    @Test
+    @DisplayName("요청 태그를 모두 보유하면 일치하고 하나라도 없으면 일치하지 않는다")
+    void containsAll() {
+        TagBitmap owned = TagBitmap.of(List.of(1L, 3L, 64L));
+
+        assertThat(owned.containsAll(TagBitmap.of(List.of(1L, 64L)))).isTrue();
+        assertThat(owned.containsAll(TagBitmap.of(List.of(1L, 3L, 64L)))).isTrue();
+        assertThat(owned.containsAll(TagBitmap.of(List.of(1L, 2L)))).isFalse();
+        assertThat(owned.containsAll(TagBitmap.of(List.of(65L)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("워드 경계(63/64)의 태그도 정확히 구분한다")
+    void containsAll_wordBoundary() {
+        TagBitmap owned = TagBitmap.of(List.of(63L));
+
+        assertThat(owned.containsAll(TagBitmap.of(List.of(63L)))).isTrue();
+        assertThat(owned.containsAll(TagBitmap.of(List.of(64L)))).isFalse();
+        assertThat(TagBitmap.of(List.of(64L)).containsAll(TagBitmap.of(List.of(63L)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("보유 태그보다 큰 태그 ID를 요청하면 일치하지 않는다")
+    void containsAll_requiredLongerThanOwned() {
+        TagBitmap owned = TagBitmap.of(List.of(1L));
+
+        assertThat(owned.containsAll(TagBitmap.of(List.of(1L, 200L)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("요청 태그가 없으면 태그가 없는 기관도 일치한다")
+    void containsAll_emptyRequired() {
+        assertThat(TagBitmap.of(List.of(5L)).containsAll(TagBitmap.EMPTY)).isTrue();
+        assertThat(TagBitmap.EMPTY.containsAll(TagBitmap.EMPTY)).isTrue();
+        assertThat(TagBitmap.EMPTY.containsAll(TagBitmap.of(List.of(5L)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("null 또는 빈 목록은 빈 비트맵이며 null 태그 ID는 무시한다")
+    void of_emptyAndNullIds() {
+        assertThat(TagBitmap.of(null).isEmpty()).isTrue();
+        assertThat(TagBitmap.of(List.of()).isEmpty()).isTrue();
+        assertThat(TagBitmap.of(Arrays.asList(null, null)).isEmpty()).isTrue();
+        assertThat(TagBitmap.of(Arrays.asList(2L, null)).containsAll(TagBitmap.of(List.of(2L)))).isTrue();
+    }
+
+    @Test
+    @DisplayName("비트 위치로 표현할 수 없는 태그 ID는 거부한다")
+    void of_rejectsOutOfRangeIds() {
+        assertThatThrownBy(() -> TagBitmap.of(List.of(-1L)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TagBitmap.of(List.of(Integer.MAX_VALUE + 1L)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -15,11 +15,17 @@ import com.caring.caringbackend.domain.institution.profile.repository.Institutio
 import com.caring.caringbackend.domain.reservation.entity.Reservation;
 import com.caring.caringbackend.domain.reservation.entity.ReservationStatus;
 import com.caring.caringbackend.domain.reservation.repository.ReservationRepository;
+import com.caring.caringbackend.domain.review.entity.InstitutionRatingSummary;
 import com.caring.caringbackend.domain.review.entity.ReportReason;
 import com.caring.caringbackend.domain.review.entity.Review;
 import com.caring.caringbackend.domain.review.entity.ReviewReport;
+import com.caring.caringbackend.domain.review.repository.InstitutionRatingSummaryRepository;
+import com.caring.caringbackend.domain.review.repository.InstitutionReviewTagCountRepository;
 import com.caring.caringbackend.domain.review.repository.ReviewReportRepository;
 import com.caring.caringbackend.domain.review.repository.ReviewRepository;
+import com.caring.caringbackend.domain.review.repository.ReviewTagCountView;
+import com.caring.caringbackend.domain.tag.entity.Tag;
+import com.caring.caringbackend.domain.tag.repository.TagRepository;
 import com.caring.caringbackend.domain.user.elderly.entity.ElderlyProfile;
 import com.caring.caringbackend.domain.user.elderly.repository.ElderlyProfileRepository;
 import com.caring.caringbackend.domain.user.guardian.entity.Member;
@@ -28,6 +34,9 @@ import com.caring.caringbackend.global.exception.BusinessException;
 import com.caring.caringbackend.testsupport.TestDataFactory;
 import jakarta.persistence.EntityManager;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -58,6 +67,15 @@ class ReviewServiceTest extends IntegrationTestBase {
     @Autowired
     private ReviewReportRepository reviewReportRepository;
 
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private InstitutionRatingSummaryRepository institutionRatingSummaryRepository;
+
+    @Autowired
+    private InstitutionReviewTagCountRepository institutionReviewTagCountRepository;
+
     @Autowired
     private EntityManager entityManager;
 
@@ -208,6 +226,162 @@ class ReviewServiceTest extends IntegrationTestBase {
                 review.getId(), request)).isInstanceOf(BusinessException.class);
     }
 
+    @Test
+    @DisplayName("리뷰 작성 시 기관 평점 집계와 태그 집계가 증가한다")
+    void createReview_updatesRatingSummary() {
+        // given
+        Reservation reservation = prepareCompletedReservation();
+        Tag clean = tagRepository.save(TestDataFactory.createReviewTag());
+        Tag kind = tagRepository.save(TestDataFactory.createReviewTag());
+
+        // when
+        reviewService.createReview(reservation.getMember().getId(), ReviewCreateRequest.builder()
+                .reservationId(reservation.getId())
+                .content("친절하고 깨끗했습니다.")
+                .rating(4)
+                .tagIds(List.of(clean.getId(), kind.getId()))
+                .build(), null);
+
+        // then
+        Long institutionId = institutionIdOf(reservation);
+        InstitutionRatingSummary summary = findRatingSummary(institutionId);
+        assertThat(summary.getReviewCount()).isEqualTo(1);
+        assertThat(summary.getRatingSum()).isEqualTo(4);
+        assertThat(summary.starCounts()).containsExactly(0L, 0L, 0L, 1L, 0L);
+        assertThat(findTagCounts(institutionId))
+                .containsExactlyInAnyOrderEntriesOf(Map.of(clean.getId(), 1L, kind.getId(), 1L));
+    }
+
+    @Test
+    @DisplayName("리뷰 수정 시 별점 변경과 태그 추가/제거가 집계에 반영된다")
+    void updateReview_updatesRatingSummary() {
+        // given
+        Reservation reservation = prepareCompletedReservation();
+        Tag clean = tagRepository.save(TestDataFactory.createReviewTag());
+        Tag kind = tagRepository.save(TestDataFactory.createReviewTag());
+        Tag food = tagRepository.save(TestDataFactory.createReviewTag());
+        Long memberId = reservation.getMember().getId();
+
+        ReviewResponse created = reviewService.createReview(memberId, ReviewCreateRequest.builder()
+                .reservationId(reservation.getId())
+                .content("친절하고 깨끗했습니다.")
+                .rating(5)
+                .tagIds(List.of(clean.getId(), kind.getId()))
+                .build(), null);
+
+        // when
+        reviewService.updateReview(memberId, created.getId(), ReviewUpdateRequest.builder()
+                .content("음식은 좋았지만 청결은 아쉬웠습니다.")
+                .rating(2)
+                .tagIds(List.of(kind.getId(), food.getId()))
+                .build(), null);
+
+        // then
+        Long institutionId = institutionIdOf(reservation);
+        InstitutionRatingSummary summary = findRatingSummary(institutionId);
+        assertThat(summary.getReviewCount()).isEqualTo(1);
+        assertThat(summary.getRatingSum()).isEqualTo(2);
+        assertThat(summary.starCounts()).containsExactly(0L, 1L, 0L, 0L, 0L);
+        assertThat(findTagCounts(institutionId))
+                .containsExactlyInAnyOrderEntriesOf(Map.of(kind.getId(), 1L, food.getId(), 1L));
+    }
+
+    @Test
+    @DisplayName("리뷰 삭제 시 기관 평점 집계와 태그 집계가 감소한다")
+    void deleteReview_updatesRatingSummary() {
+        // given
+        Reservation reservation = prepareCompletedReservation();
+        Tag clean = tagRepository.save(TestDataFactory.createReviewTag());
+        Long memberId = reservation.getMember().getId();
+
+        ReviewResponse created = reviewService.createReview(memberId, ReviewCreateRequest.builder()
+                .reservationId(reservation.getId())
+                .content("깨끗했습니다.")
+                .rating(3)
+                .tagIds(List.of(clean.getId()))
+                .build(), null);
+
+        // when
+        reviewService.deleteReview(memberId, created.getId());
+
+        // then
+        Long institutionId = institutionIdOf(reservation);
+        InstitutionRatingSummary summary = findRatingSummary(institutionId);
+        assertThat(summary.getReviewCount()).isZero();
+        assertThat(summary.getRatingSum()).isZero();
+        assertThat(summary.starCounts()).containsOnly(0L);
+        assertThat(findTagCounts(institutionId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("리뷰가 신고되면 기관 평점 집계와 태그 집계에서 한 번만 제외된다")
+    void reportReview_excludesFromRatingSummary() {
+        // given
+        Reservation reservation = prepareCompletedReservation();
+        Tag clean = tagRepository.save(TestDataFactory.createReviewTag());
+        Member firstReporter = memberRepository.save(TestDataFactory.createMember());
+        Member secondReporter = memberRepository.save(TestDataFactory.createMember());
+
+        ReviewResponse created = reviewService.createReview(reservation.getMember().getId(),
+                ReviewCreateRequest.builder()
+                        .reservationId(reservation.getId())
+                        .content("광고성 리뷰입니다.")
+                        .rating(5)
+                        .tagIds(List.of(clean.getId()))
+                        .build(), null);
+        ReviewReportRequest request = ReviewReportRequest.builder()
+                .reportReason(ReportReason.SPAM)
+                .build();
+
+        // when
+        reviewService.reportReview(firstReporter.getId(), created.getId(), request);
+        reviewService.reportReview(secondReporter.getId(), created.getId(), request);
+
+        // then
+        Long institutionId = institutionIdOf(reservation);
+        InstitutionRatingSummary summary = findRatingSummary(institutionId);
+        assertThat(summary.getReviewCount()).isZero();
+        assertThat(summary.getRatingSum()).isZero();
+        assertThat(summary.starCounts()).containsOnly(0L);
+        assertThat(findTagCounts(institutionId)).isEmpty();
+    }
+
+    private Reservation prepareCompletedReservation() {
+        Member member = memberRepository.save(TestDataFactory.createMember());
+        ElderlyProfile profile = elderlyProfileRepository.save(TestDataFactory.createElderlyProfile(member));
+        Institution institution = institutionRepository.save(TestDataFactory.createInstitution());
+        InstitutionCounsel counsel = TestDataFactory.createInstitutionCounsel(institution);
+        entityManager.persist(counsel);
+        entityManager.flush();
+
+        InstitutionCounselDetail counselDetail = TestDataFactory.createInstitutionCounselDetail(counsel);
+        entityManager.persist(counselDetail);
+        entityManager.flush();
+
+        return reservationRepository.save(
+                TestDataFactory.createReservation(counselDetail, member, profile, ReservationStatus.COMPLETED));
+    }
+
+    private Long institutionIdOf(Reservation reservation) {
+        return reservation.getCounselDetail().getInstitutionCounsel().getInstitution().getId();
+    }
+
+    /**
+     * 집계는 네이티브 upsert로 갱신되므로 영속성 컨텍스트를 비운 뒤 조회
+     */
+    private InstitutionRatingSummary findRatingSummary(Long institutionId) {
+        entityManager.flush();
+        entityManager.clear();
+        return institutionRatingSummaryRepository.findById(institutionId).orElseThrow();
+    }
+
+    private Map<Long, Long> findTagCounts(Long institutionId) {
+        entityManager.flush();
+        entityManager.clear();
+        return institutionReviewTagCountRepository.findTagCounts(institutionId).stream()
+                .collect(Collectors.toMap(ReviewTagCountView::tagId, ReviewTagCountView::reviewCount));
+    }
+
     private Review prepareReview() {
         Member member = memberRepository.save(TestDataFactory.createMember());
         ElderlyProfile profile = elderlyProfileRepository.save(TestDataFactory.createElderlyProfile(member));
@@ -0,0 +1,63 @@
+package com.caring.caringbackend.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HangulUtilsTest {
+
+    @Test
+    @DisplayName("완성형 음절을 초성/중성/종성 호환 자모로 분해한다")
+    void decompose_syllables() {
+        assertThat(HangulUtils.decompose("서울")).isEqualTo("ㅅㅓㅇㅜㄹ");
+        assertThat(HangulUtils.decompose("가")).isEqualTo("ㄱㅏ");
+        assertThat(HangulUtils.decompose("힣")).isEqualTo("ㅎㅣㅎ");
+    }
+
+    @Test
+    @DisplayName("겹모음과 겹받침은 기본 자모로 풀어 쓴다")
+    void decompose_compoundJamo() {
+        assertThat(HangulUtils.decompose("와")).isEqualTo("ㅇㅗㅏ");
+        assertThat(HangulUtils.decompose("의")).isEqualTo("ㅇㅡㅣ");
+        assertThat(HangulUtils.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(HangulUtils.decompose("값")).isEqualTo("ㄱㅏㅂㅅ");
+    }
+
+    @Test
+    @DisplayName("입력 중인 글자는 완성된 글자의 자모 접두사가 된다")
+    void decompose_partialSyllableIsPrefix() {
+        assertThat(HangulUtils.decompose("서울")).startsWith(HangulUtils.decompose("서우"));
+        assertThat(HangulUtils.decompose("서울")).startsWith(HangulUtils.decompose("서"));
+        assertThat(HangulUtils.decompose("와룡")).startsWith(HangulUtils.decompose("오"));
+        assertThat(HangulUtils.decompose("닭")).startsWith(HangulUtils.decompose("달"));
+        assertThat(HangulUtils.decompose("서울")).doesNotStartWith(HangulUtils.decompose("설"));
+    }
+
+    @Test
+    @DisplayName("한글 음절이 아닌 문자는 그대로 둔다")
+    void decompose_nonSyllables() {
+        assertThat(HangulUtils.decompose("A동 3")).isEqualTo("Aㄷㅗㅇ 3");
+        assertThat(HangulUtils.decompose("ㅅㅇ")).isEqualTo("ㅅㅇ");
+        assertThat(HangulUtils.decompose("")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("초성만 추출하고 한글 음절이 아닌 문자는 그대로 둔다")
+    void initials() {
+        assertThat(HangulUtils.initials("서울요양원")).isEqualTo("ㅅㅇㅇㅇㅇ");
+        assertThat(HangulUtils.initials("까치")).isEqualTo("ㄲㅊ");
+        assertThat(HangulUtils.initials("A동")).isEqualTo("Aㄷ");
+    }
+
+    @Test
+    @DisplayName("자음만으로 이루어진 검색어만 초성 검색어로 판단한다")
+    void isInitialsOnly() {
+        assertThat(HangulUtils.isInitialsOnly("ㅅㅇ")).isTrue();
+        assertThat(HangulUtils.isInitialsOnly("ㄲㅎ")).isTrue();
+        assertThat(HangulUtils.isInitialsOnly("서ㅇ")).isFalse();
+        assertThat(HangulUtils.isInitialsOnly("ㅏ")).isFalse();
+        assertThat(HangulUtils.isInitialsOnly("ㅅ ㅇ")).isFalse();
+        assertThat(HangulUtils.isInitialsOnly("")).isFalse();
+    }
+}
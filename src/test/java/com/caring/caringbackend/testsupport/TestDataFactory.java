@@ -8,6 +8,8 @@ import com.caring.caringbackend.domain.institution.profile.entity.InstitutionTyp
 import com.caring.caringbackend.domain.review.entity.Review;
 import com.caring.caringbackend.domain.reservation.entity.Reservation;
 import com.caring.caringbackend.domain.reservation.entity.ReservationStatus;
+import com.caring.caringbackend.domain.tag.entity.Tag;
+import com.caring.caringbackend.domain.tag.entity.TagCategory;
 import com.caring.caringbackend.domain.user.elderly.entity.ActivityLevel;
 import com.caring.caringbackend.domain.user.elderly.entity.CognitiveLevel;
 import com.caring.caringbackend.domain.user.elderly.entity.ElderlyProfile;
@@ -109,5 +111,14 @@ public final class TestDataFactory {
                 .rating(5)
                 .build();
     }
+
+    public static Tag createReviewTag() {
+        long seq = DUPLICATION_SEQUENCE.incrementAndGet();
+        return Tag.builder()
+                .category(TagCategory.REVIEW)
+                .code("TEST_REVIEW_" + seq)
+                .name("테스트리뷰태그" + seq)
+                .build();
+    }
 }
 